@@ -0,0 +1,194 @@
+package com.github.zhitron.type_converter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 直接读取字节的只读字符序列视图
+ * <p>
+ * 每个字节对应一个字符（按ISO-8859-1），因此ASCII文本以及UTF-8编码中的ASCII部分不需要解码即可被
+ * {@link CharSequenceTypeConverter}的子类按索引解析，适用于从网络缓冲区或内存映射文件中直接读取数字、布尔值和时间。
+ * 视图不复制字节，源数组或缓冲区的内容在使用期间不应被修改。
+ * </p>
+ * <p>
+ * 对于{@link ByteBuffer}，视图覆盖创建时position到limit之间的字节，读取时使用绝对位置，不会改变缓冲区的position；
+ * 有可访问底层数组的堆缓冲区直接读取数组，直接缓冲区逐个读取字节。
+ * </p>
+ *
+ * @author zhitron
+ */
+public final class AsciiCharSequence implements CharSequence {
+    /**
+     * 源字节数组，源为直接缓冲区时为null
+     */
+    private final byte[] bytes;
+    /**
+     * 源缓冲区，源为字节数组时为null
+     */
+    private final ByteBuffer buffer;
+    /**
+     * 视图在源中的起始位置
+     */
+    private final int offset;
+    /**
+     * 视图的长度
+     */
+    private final int length;
+
+    private AsciiCharSequence(byte[] bytes, ByteBuffer buffer, int offset, int length) {
+        this.bytes = bytes;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 创建覆盖整个字节数组的视图
+     *
+     * @param bytes 源字节数组
+     * @return 字符序列视图
+     * @throws NullPointerException 当bytes为null时抛出
+     */
+    public static AsciiCharSequence of(byte[] bytes) {
+        return new AsciiCharSequence(bytes, null, 0, bytes.length);
+    }
+
+    /**
+     * 创建覆盖字节数组指定部分的视图
+     *
+     * @param bytes  源字节数组
+     * @param offset 起始位置
+     * @param length 字节个数
+     * @return 字符序列视图
+     * @throws NullPointerException      当bytes为null时抛出
+     * @throws IndexOutOfBoundsException 当范围超出数组时抛出
+     */
+    public static AsciiCharSequence of(byte[] bytes, int offset, int length) {
+        checkRange(offset, length, bytes.length);
+        return new AsciiCharSequence(bytes, null, offset, length);
+    }
+
+    /**
+     * 创建覆盖缓冲区position到limit之间字节的视图
+     *
+     * @param buffer 源缓冲区，堆缓冲区或直接缓冲区均可
+     * @return 字符序列视图
+     * @throws NullPointerException 当buffer为null时抛出
+     */
+    public static AsciiCharSequence of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new AsciiCharSequence(buffer.array(), null, buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return new AsciiCharSequence(null, buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * 获取视图的长度
+     *
+     * @return 字节个数
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 获取指定位置的字符
+     *
+     * @param index 位置
+     * @return 对应字节按ISO-8859-1解释的字符
+     * @throws IndexOutOfBoundsException 当位置超出视图时抛出
+     */
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return (char) ((bytes != null ? bytes[offset + index] : buffer.get(offset + index)) & 0xFF);
+    }
+
+    /**
+     * 获取指定范围的子视图，不复制字节
+     *
+     * @param start 起始位置（包含）
+     * @param end   结束位置（不包含）
+     * @return 子视图
+     * @throws IndexOutOfBoundsException 当范围超出视图时抛出
+     */
+    @Override
+    public AsciiCharSequence subSequence(int start, int end) {
+        checkRange(start, end - start, length);
+        return new AsciiCharSequence(bytes, buffer, offset + start, end - start);
+    }
+
+    /**
+     * 将视图中的字节按ISO-8859-1解码为字符串
+     *
+     * @return 字符串
+     */
+    @Override
+    public String toString() {
+        if (bytes != null) {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 判断与另一个对象是否相等，两个视图的字节内容相同时相等
+     *
+     * @param o 另一个对象
+     * @return 内容相同时返回true
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AsciiCharSequence)) {
+            return false;
+        }
+        AsciiCharSequence that = (AsciiCharSequence) o;
+        if (length != that.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAt(i) != that.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 计算哈希值，与相同内容的字符串的哈希值一致
+     *
+     * @return 哈希值
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * 检查范围是否在长度之内
+     *
+     * @param offset   起始位置
+     * @param length   长度
+     * @param capacity 总长度
+     * @throws IndexOutOfBoundsException 当范围超出时抛出
+     */
+    private static void checkRange(int offset, int length, int capacity) {
+        if (offset < 0 || length < 0 || offset > capacity - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", capacity " + capacity);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.zhitron.type_converter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 由多个已注册转换器依次组合而成的类型转换器
+ * <p>
+ * 当源类型到目标类型没有直接可用的转换器时，由{@link TypeConverterManager}在已注册转换器构成的类型图中
+ * 规划出经过中间类型的最短路径，并组合为本转换器缓存起来。转换时依次直接调用每一跳的
+ * {@link TypeConverter#convertsUnchecked(Object)}，不再经过管理器的查找；任意一跳返回null或其通用转换器
+ * 按{@link TypeConverter#isSupportsSource(Object)}拒绝中间结果时整体返回null。
+ * </p>
+ *
+ * @param <SourceType> 源类型
+ * @param <TargetType> 目标类型
+ * @author zhitron
+ */
+final class ChainedTypeConverter<SourceType, TargetType> extends TypeConverter<SourceType, TargetType> {
+    /**
+     * 按转换顺序排列的各跳转换器
+     */
+    private final TypeConverter<Object, Object>[] typeConverters;
+
+    /**
+     * 构造函数
+     *
+     * @param sourceType     源类型
+     * @param targetType     目标类型
+     * @param typeConverters 按转换顺序排列的各跳转换器，最后一跳的目标类型必须为targetType
+     */
+    @SuppressWarnings("unchecked")
+    ChainedTypeConverter(Class<SourceType> sourceType, Class<TargetType> targetType, List<TypeConverter<?, ?>> typeConverters) {
+        super(sourceType, targetType);
+        this.typeConverters = (TypeConverter<Object, Object>[]) typeConverters.toArray(new TypeConverter<?, ?>[0]);
+    }
+
+    /**
+     * 获取按转换顺序排列的各跳转换器
+     *
+     * @return 各跳转换器列表的副本
+     */
+    List<TypeConverter<?, ?>> getTypeConverters() {
+        return Arrays.asList(typeConverters.clone());
+    }
+
+    /**
+     * 依次执行每一跳的转换
+     *
+     * @param source 源对象
+     * @return 最后一跳的转换结果，任意一跳返回null或拒绝中间结果时返回null
+     * @throws Throwable 任意一跳转换失败时抛出
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public TargetType convertsUnchecked(SourceType source) throws Throwable {
+        Object value = source;
+        for (TypeConverter<Object, Object> typeConverter : typeConverters) {
+            if (!typeConverter.isSpecific() && !typeConverter.isSupportsSource(value)) {
+                return null;
+            }
+            value = typeConverter.convertsUnchecked(value);
+            if (value == null) {
+                return null;
+            }
+        }
+        return (TargetType) value;
+    }
+
+    /**
+     * 依次尝试每一跳的转换，任意一跳失败或结果为null时停止，失败时不抛出异常
+     * 中间结果暂存在同一个结果对象中，不产生额外的对象
+     *
+     * @param source 源对象
+     * @param result 保存转换结果的对象
+     * @return 转换成功且结果不为null时返回true
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryConvertsUnchecked(SourceType source, ConversionResult<? super TargetType> result) {
+        ConversionResult<Object> hop = (ConversionResult<Object>) result;
+        Object value = source;
+        for (TypeConverter<Object, Object> typeConverter : typeConverters) {
+            if (!typeConverter.isSpecific() && !typeConverter.isSupportsSource(value)) {
+                return false;
+            }
+            if (!typeConverter.tryConvertsUnchecked(value, hop)) {
+                return false;
+            }
+            value = hop.get();
+        }
+        return true;
+    }
+
+    /**
+     * 返回组合转换器的字符串表示形式，包含经过的各个类型
+     *
+     * @return 组合转换器的字符串表示
+     */
+    @Override
+    public String toString() {
+        StringJoiner path = new StringJoiner("->", "TypeConverter[" + getClass().getName() + "(", ")]");
+        path.add(supportsSourceType().getSimpleName());
+        for (TypeConverter<Object, Object> typeConverter : typeConverters) {
+            path.add(typeConverter.supportsTargetType().getSimpleName());
+        }
+        return path.toString();
+    }
+}
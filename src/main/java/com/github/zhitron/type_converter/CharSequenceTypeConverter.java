@@ -62,55 +62,99 @@ public abstract class CharSequenceTypeConverter<SourceType extends CharSequence,
      */
     @Override
     public final TargetType convertsUnchecked(SourceType source) throws Throwable {
-        int temp = source.length();
-        // 空字符串直接处理
-        if (temp == 0) {
+        int start = trimStart(source);
+        int end = trimEnd(source, start);
+        // 空字符串或全空白字符的字符串，返回空值处理结果
+        if (start == end) {
             return convertsUncheckedEmpty();
         }
-        // 初始化起始位置为0，结束位置为输入序列的最后一个字符索引
-        int s = 0, e = temp - 1;
-        // 使用位运算标记需要处理的方向：0b01表示处理开头，0b10表示处理结尾
-        for (int tag = 0b10 | 0b01, i; tag != 0 && s <= e; ) {
-            // 如果需要处理开头且满足移除条件，则移动起始位置
-            if ((tag & 0b01) == 0b01) {
-                // 获取指定索引处的code point
-                temp = Character.codePointAt(source, s);
-                // 如果该code point满足修剪条件，则返回其占用的字符数（1或2）
-                i = isTrimCodePoint(source, s, temp) ? Character.charCount(temp) : 0;
-                if (i > 0) {
-                    // 如果需要跳过，则更新起始位置
-                    s += i;
-                } else {
-                    // 否则清除处理开头的标记（将最低位设为0）
-                    tag = tag & 0b10;
-                }
-            }
-            // 如果需要处理结尾（tag的第二位为1）
-            if ((tag & 0b10) == 0b10) {
-                // 获取结束位置处的code point
-                temp = Character.codePointBefore(source, e);
-                // 如果该code point满足修剪条件，则返回其占用的字符数（1或2）
-                i = isTrimCodePoint(source, e, temp) ? Character.charCount(temp) : 0;
-                if (i > 0) {
-                    // 如果需要跳过，则更新结束位置
-                    e -= i;
-                } else {
-                    // 否则清除处理结尾的标记（将第二位设为0）
-                    tag = tag & 0b01;
-                }
-            }
+        return convertsUncheckedRange(source, start, end);
+    }
+
+    /**
+     * 尝试将源对象转换为目标类型对象，修剪规则与{@link #convertsUnchecked(CharSequence)}一致，失败时不抛出异常
+     *
+     * @param source 源对象，必须为CharSequence类型
+     * @param result 保存转换结果的对象
+     * @return 转换成功且结果不为null时返回true
+     */
+    @Override
+    public final boolean tryConvertsUnchecked(SourceType source, ConversionResult<? super TargetType> result) {
+        int start = trimStart(source);
+        int end = trimEnd(source, start);
+        if (start == end) {
+            return result.succeed(convertsUncheckedEmpty());
         }
-        // 如果起始位置大于结束位置，说明整个字符串都是空白字符，返回空值处理结果
-        if (s > e) {
-            return convertsUncheckedEmpty();
+        return tryConvertsUncheckedRange(source, start, end, result);
+    }
+
+    /**
+     * 修剪源字符序列首尾的空白字符并转换为字符串
+     * 没有需要修剪的字符且源对象本身就是字符串时直接返回源对象，不会产生新的对象
+     *
+     * @param source 源对象，必须为CharSequence类型
+     * @return 修剪后的字符串，空字符串或全空白字符的字符串返回null
+     */
+    protected final String trimToString(SourceType source) {
+        int start = trimStart(source);
+        int end = trimEnd(source, start);
+        return start == end ? null : toString(source, start, end);
+    }
+
+    /**
+     * 获取修剪开头空白字符后的起始位置
+     *
+     * @param source 源字符序列
+     * @return 第一个不需要修剪的字符的索引，全部需要修剪时返回字符序列的长度
+     */
+    protected final int trimStart(SourceType source) {
+        int length = source.length();
+        int start = 0;
+        while (start < length) {
+            // 获取指定索引处的code point，满足修剪条件时跳过其占用的字符数（1或2）
+            int codePoint = Character.codePointAt(source, start);
+            if (!isTrimCodePoint(source, start, codePoint)) {
+                break;
+            }
+            start += Character.charCount(codePoint);
         }
-        // 如果修剪后的字符串长度等于原字符串长度，说明没有需要修剪的字符，直接转换整个字符串
-        if (e - s + 1 == source.length()) {
-            return convertsUncheckedString(source.toString());
+        return start;
+    }
+
+    /**
+     * 获取修剪结尾空白字符后的结束位置
+     *
+     * @param source 源字符序列
+     * @param start  由{@link #trimStart(CharSequence)}得到的起始位置
+     * @return 最后一个不需要修剪的字符之后的索引（不包含），不小于start
+     */
+    protected final int trimEnd(SourceType source, int start) {
+        int end = source.length();
+        while (end > start) {
+            // 获取结束位置之前的code point，满足修剪条件时跳过其占用的字符数（1或2）
+            int codePoint = Character.codePointBefore(source, end);
+            int index = end - Character.charCount(codePoint);
+            if (!isTrimCodePoint(source, index, codePoint)) {
+                break;
+            }
+            end = index;
         }
+        return end;
+    }
 
-        // 否则，提取修剪后的子序列并转换
-        return convertsUncheckedString(source.subSequence(s, e + 1).toString());
+    /**
+     * 获取字符序列指定范围的字符串，范围为整个字符串时直接返回源字符串
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 指定范围的字符串
+     */
+    private static String toString(CharSequence source, int start, int end) {
+        if (start == 0 && end == source.length()) {
+            return source.toString();
+        }
+        return source.subSequence(start, end).toString();
     }
 
     /**
@@ -135,6 +179,42 @@ public abstract class CharSequenceTypeConverter<SourceType extends CharSequence,
     }
 
 
+    /**
+     * 将修剪后的范围转换为目标类型对象
+     * 默认实现提取该范围的字符串后调用{@link #convertsUncheckedString(String)}，
+     * 子类可以重写此方法直接按索引解析源字符序列，避免产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含），大于start
+     * @return 转换后的目标对象
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    protected TargetType convertsUncheckedRange(SourceType source, int start, int end) throws Throwable {
+        return convertsUncheckedString(toString(source, start, end));
+    }
+
+    /**
+     * 尝试将修剪后的范围转换为目标类型对象，失败时不抛出异常
+     * 默认实现调用{@link #convertsUncheckedRange(CharSequence, int, int)}并把其中抛出的异常记录为转换失败，
+     * 子类可以重写此方法，在解析前判断输入是否有效，完全避免创建异常
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含），大于start
+     * @param result 保存转换结果的对象
+     * @return 转换成功且结果不为null时返回true
+     */
+    protected boolean tryConvertsUncheckedRange(SourceType source, int start, int end, ConversionResult<? super TargetType> result) {
+        TargetType target;
+        try {
+            target = convertsUncheckedRange(source, start, end);
+        } catch (Throwable e) {
+            return result.fail();
+        }
+        return result.succeed(target);
+    }
+
     /**
      * 将修剪后的字符串转换为目标类型对象
      *
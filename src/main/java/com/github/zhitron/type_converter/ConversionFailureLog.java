@@ -0,0 +1,558 @@
+package com.github.zhitron.type_converter;
+
+import com.github.zhitron.universal.Logger;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 转换失败的计数与限流日志
+ * <p>
+ * 每个{@link TypeConverterManager}实例持有一个，按（源类型、目标类型、转换器）分别统计失败次数，计数使用分段的{@link LongAdder}，
+ * 多个线程同时失败时不会争用同一个计数器。只有每个周期内每种组合的前若干次失败，以及按采样率随机选中的失败会记录带异常堆栈的完整日志，
+ * 其余失败只计数；每个周期结束后输出一行汇总，列出上一周期内各组合的失败次数和未记录完整日志的次数。
+ * 在输入数据大量异常时，日志量和日志输出端上的线程阻塞都保持在固定的上限以内。
+ * </p>
+ * <p>
+ * 汇总由一个共享的守护线程在每个周期结束时输出，之后不再有失败也不会遗漏；一个周期内没有任何失败时该线程不再为此实例调度，
+ * 下一次失败时重新开始。没有任何实例需要调度时该线程在短暂空闲后退出，不会长期持有类加载器。
+ * 只计数的失败不会创建包装异常，也不会调用源对象的{@code toString()}。周期结束后的失败同样会触发汇总，两者只有一个会输出。
+ * 计数的键以弱引用持有源类型、目标类型和转换器，不会阻止它们所在的类加载器被回收，被回收的组合在输出汇总时移除。
+ * </p>
+ *
+ * @author zhitron
+ */
+public final class ConversionFailureLog {
+    /**
+     * 每个周期内每种组合记录完整日志的默认次数
+     */
+    public static final int DEFAULT_FIRST_PER_INTERVAL = 10;
+    /**
+     * 默认的统计周期
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+    /**
+     * 不计数的实例，每次失败都记录完整日志，用于不属于任何管理器的转换
+     */
+    private static final ConversionFailureLog UNCOUNTED = new ConversionFailureLog(1, Integer.MAX_VALUE, DEFAULT_INTERVAL.toNanos(), false);
+    /**
+     * 超过前若干次后按1/sampleRate的概率记录完整日志，0表示不采样
+     */
+    private final int sampleRate;
+    /**
+     * 每个周期内每种组合记录完整日志的次数
+     */
+    private final int firstPerInterval;
+    /**
+     * 统计周期的纳秒数
+     */
+    private final long intervalNanos;
+    /**
+     * 各组合的失败计数
+     */
+    private final Map<FailureKey, FailureCounter> counters = new ConcurrentHashMap<>();
+    /**
+     * 当前周期的开始时间，由成功更新此值的线程输出上一周期的汇总
+     */
+    private final AtomicLong intervalStart;
+    /**
+     * 是否统计失败次数，为false时每次失败直接记录完整日志
+     */
+    private final boolean counting;
+    /**
+     * 是否已在守护线程中调度了周期汇总
+     */
+    private final AtomicBoolean ticking = new AtomicBoolean();
+
+    /**
+     * 构造函数
+     *
+     * @param sampleRate       采样率
+     * @param firstPerInterval 每个周期内每种组合记录完整日志的次数
+     * @param intervalNanos    统计周期的纳秒数
+     * @param counting         是否统计失败次数
+     */
+    private ConversionFailureLog(int sampleRate, int firstPerInterval, long intervalNanos, boolean counting) {
+        this.sampleRate = sampleRate;
+        this.firstPerInterval = firstPerInterval;
+        this.intervalNanos = intervalNanos;
+        this.counting = counting;
+        this.intervalStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 创建使用默认配置的实例：每种组合每分钟记录前10次失败的完整日志，不采样
+     *
+     * @return 新的实例
+     */
+    public static ConversionFailureLog of() {
+        return of(0, DEFAULT_FIRST_PER_INTERVAL, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * 创建新的实例
+     *
+     * @param sampleRate       超过前若干次后按1/sampleRate的概率记录完整日志，0表示不采样，1表示全部记录
+     * @param firstPerInterval 每个周期内每种组合记录完整日志的次数
+     * @param interval         统计周期，同时也是输出汇总的间隔
+     * @return 新的实例
+     * @throws IllegalArgumentException 当参数为负数或统计周期不为正数时抛出
+     */
+    public static ConversionFailureLog of(int sampleRate, int firstPerInterval, Duration interval) {
+        if (sampleRate < 0 || firstPerInterval < 0) {
+            throw new IllegalArgumentException("The sample rate and the number of failures logged per interval must not be negative");
+        }
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("The interval must be positive: " + interval);
+        }
+        return new ConversionFailureLog(sampleRate, firstPerInterval, interval.toNanos(), true);
+    }
+
+    /**
+     * 创建每次失败都记录完整日志的实例，与限流之前的行为一致，仍然会统计失败次数和输出周期汇总
+     *
+     * @return 新的实例
+     */
+    public static ConversionFailureLog unlimited() {
+        return of(1, Integer.MAX_VALUE, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * 获取不计数的共享实例，每次失败都记录完整日志，不保存任何计数和类型的引用
+     *
+     * @return 不计数的实例
+     */
+    static ConversionFailureLog uncounted() {
+        return UNCOUNTED;
+    }
+
+    /**
+     * 记录一次转换失败
+     *
+     * @param sourceType         源类型Class对象
+     * @param targetType         目标类型Class对象
+     * @param foundTypeConverter 执行转换的类型转换器
+     * @param e                  转换过程中发生的异常
+     * @return 本次失败记录了完整日志时返回true
+     */
+    public boolean record(Class<?> sourceType, Class<?> targetType, TypeConverter<?, ?> foundTypeConverter, Throwable e) {
+        if (count(sourceType, targetType, foundTypeConverter) && Logger.isEnabledWarn()) {
+            Logger.warn("Failed to convert source type [%s] to target type [%s] using converter [%s]", sourceType, targetType, foundTypeConverter, e);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 记录一次转换失败，只在需要输出完整日志时才创建带源对象信息的{@link TypeConverterException}
+     *
+     * @param sourceType         源类型Class对象
+     * @param targetType         目标类型Class对象
+     * @param foundTypeConverter 执行转换的类型转换器
+     * @param source             转换失败的源对象
+     * @param cause              转换过程中发生的异常
+     * @return 本次失败记录了完整日志时返回true
+     */
+    boolean record(Class<?> sourceType, Class<?> targetType, TypeConverter<?, ?> foundTypeConverter, Object source, Throwable cause) {
+        if (count(sourceType, targetType, foundTypeConverter) && Logger.isEnabledWarn()) {
+            Logger.warn("Failed to convert source type [%s] to target type [%s] using converter [%s]", sourceType, targetType, foundTypeConverter,
+                    foundTypeConverter.newConversionException(source, cause));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 统计一次转换失败并判断是否需要输出完整日志
+     *
+     * @param sourceType         源类型Class对象
+     * @param targetType         目标类型Class对象
+     * @param foundTypeConverter 执行转换的类型转换器
+     * @return 需要输出完整日志时返回true
+     */
+    private boolean count(Class<?> sourceType, Class<?> targetType, TypeConverter<?, ?> foundTypeConverter) {
+        boolean logFull = true;
+        if (counting) {
+            FailureCounter counter = counterOf(sourceType, targetType, foundTypeConverter);
+            counter.total.increment();
+            counter.interval.increment();
+            logFull = counter.admit(firstPerInterval) || sampleRate > 0 && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+            if (!logFull) {
+                counter.suppressed.increment();
+            }
+            tick();
+            if (!ticking.get() && ticking.compareAndSet(false, true)) {
+                Ticker.schedule(this);
+            }
+        }
+        return logFull;
+    }
+
+    /**
+     * 当前周期已结束时开始新的周期并输出上一周期的汇总，多个线程同时调用时只有一个会输出
+     *
+     * @return 开始了新的周期时返回true
+     */
+    boolean tick() {
+        long start = intervalStart.get();
+        long now = System.nanoTime();
+        if (now - start < intervalNanos || !intervalStart.compareAndSet(start, now)) {
+            return false;
+        }
+        String summary = drainSummary();
+        if (summary != null && Logger.isEnabledWarn()) {
+            Logger.warn("%s", summary);
+        }
+        return true;
+    }
+
+    /**
+     * 判断是否已在守护线程中调度了周期汇总
+     *
+     * @return 已调度时返回true
+     */
+    boolean isTicking() {
+        return ticking.get();
+    }
+
+    /**
+     * 判断当前周期内是否有失败
+     *
+     * @return 有失败时返回true
+     */
+    private boolean hasIntervalFailures() {
+        for (FailureCounter counter : counters.values()) {
+            if (counter.interval.sum() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取指定源类型和目标类型的累计失败次数，包括所有转换器
+     *
+     * @param sourceType 源类型Class对象
+     * @param targetType 目标类型Class对象
+     * @return 累计失败次数
+     */
+    public long getFailureCount(Class<?> sourceType, Class<?> targetType) {
+        long count = 0;
+        for (Map.Entry<FailureKey, FailureCounter> entry : counters.entrySet()) {
+            if (entry.getKey().sourceType() == sourceType && entry.getKey().targetType() == targetType) {
+                count += entry.getValue().total.sum();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取所有组合的累计失败次数
+     *
+     * @return 累计失败次数
+     */
+    public long getFailureCount() {
+        long count = 0;
+        for (FailureCounter counter : counters.values()) {
+            count += counter.total.sum();
+        }
+        return count;
+    }
+
+    /**
+     * 取出当前周期的计数并生成汇总，同时开始新的周期
+     *
+     * @return 汇总信息，当前周期没有失败时返回null
+     */
+    String drainSummary() {
+        StringBuilder builder = null;
+        for (Map.Entry<FailureKey, FailureCounter> entry : counters.entrySet()) {
+            FailureKey key = entry.getKey();
+            Class<?> sourceType = key.sourceType();
+            Class<?> targetType = key.targetType();
+            TypeConverter<?, ?> converter = key.converter();
+            if (sourceType == null || targetType == null || key.isCleared()) {
+                // 类型或转换器已被回收，移除该组合的计数
+                counters.remove(key);
+                continue;
+            }
+            FailureCounter counter = entry.getValue();
+            long failures = counter.interval.sumThenReset();
+            long suppressed = counter.suppressed.sumThenReset();
+            counter.logged.set(0);
+            if (failures == 0) {
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder("Conversion failures in the last interval:");
+            } else {
+                builder.append(',');
+            }
+            builder.append(" [").append(sourceType.getName()).append(" -> ").append(targetType.getName())
+                    .append(" using ").append(converter).append("] ").append(failures)
+                    .append(" (").append(suppressed).append(" not logged)");
+        }
+        return builder == null ? null : builder.toString();
+    }
+
+    /**
+     * 获取组合对应的计数器，不存在时创建
+     *
+     * @param sourceType 源类型Class对象
+     * @param targetType 目标类型Class对象
+     * @param converter  类型转换器
+     * @return 计数器
+     */
+    private FailureCounter counterOf(Class<?> sourceType, Class<?> targetType, TypeConverter<?, ?> converter) {
+        FailureCounter counter = counters.get(new LookupKey(Objects.requireNonNull(sourceType), Objects.requireNonNull(targetType), converter));
+        if (counter != null) {
+            return counter;
+        }
+        counter = new FailureCounter();
+        FailureCounter existing = counters.putIfAbsent(new WeakKey(sourceType, targetType, converter), counter);
+        return existing != null ? existing : counter;
+    }
+
+    /**
+     * 返回配置的字符串表示形式
+     *
+     * @return 配置的字符串表示
+     */
+    @Override
+    public String toString() {
+        return "ConversionFailureLog[sampleRate=" + sampleRate + ", firstPerInterval=" + firstPerInterval + ", interval=" + Duration.ofNanos(intervalNanos) + "]";
+    }
+
+    /**
+     * 失败计数的键，类型和转换器都按对象身份比较
+     * 保存在计数表中的是以弱引用持有的{@link WeakKey}，查找时使用直接持有的{@link LookupKey}，两者可以互相比较
+     */
+    private abstract static class FailureKey {
+        private final int hash;
+
+        private FailureKey(Class<?> sourceType, Class<?> targetType, TypeConverter<?, ?> converter) {
+            this.hash = (System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType)) * 31 + System.identityHashCode(converter);
+        }
+
+        abstract Class<?> sourceType();
+
+        abstract Class<?> targetType();
+
+        abstract TypeConverter<?, ?> converter();
+
+        /**
+         * 判断类型或转换器是否已被回收
+         *
+         * @return 已被回收时返回true
+         */
+        abstract boolean isCleared();
+
+        @Override
+        public final boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FailureKey)) return false;
+            FailureKey that = (FailureKey) o;
+            return hash == that.hash && !isCleared() && !that.isCleared()
+                    && sourceType() == that.sourceType() && targetType() == that.targetType() && converter() == that.converter();
+        }
+
+        @Override
+        public final int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 查找计数时使用的键，直接持有类型和转换器
+     */
+    private static final class LookupKey extends FailureKey {
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+        private final TypeConverter<?, ?> converter;
+
+        private LookupKey(Class<?> sourceType, Class<?> targetType, TypeConverter<?, ?> converter) {
+            super(sourceType, targetType, converter);
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.converter = converter;
+        }
+
+        @Override
+        Class<?> sourceType() {
+            return sourceType;
+        }
+
+        @Override
+        Class<?> targetType() {
+            return targetType;
+        }
+
+        @Override
+        TypeConverter<?, ?> converter() {
+            return converter;
+        }
+
+        @Override
+        boolean isCleared() {
+            return false;
+        }
+    }
+
+    /**
+     * 保存在计数表中的键，以弱引用持有类型和转换器
+     */
+    private static final class WeakKey extends FailureKey {
+        private final WeakReference<Class<?>> sourceType;
+        private final WeakReference<Class<?>> targetType;
+        /**
+         * 转换器的弱引用，转换器为null时为null
+         */
+        private final WeakReference<TypeConverter<?, ?>> converter;
+
+        private WeakKey(Class<?> sourceType, Class<?> targetType, TypeConverter<?, ?> converter) {
+            super(sourceType, targetType, converter);
+            this.sourceType = new WeakReference<>(sourceType);
+            this.targetType = new WeakReference<>(targetType);
+            this.converter = converter == null ? null : new WeakReference<>(converter);
+        }
+
+        @Override
+        Class<?> sourceType() {
+            return sourceType.get();
+        }
+
+        @Override
+        Class<?> targetType() {
+            return targetType.get();
+        }
+
+        @Override
+        TypeConverter<?, ?> converter() {
+            return converter == null ? null : converter.get();
+        }
+
+        @Override
+        boolean isCleared() {
+            return sourceType.get() == null || targetType.get() == null || converter != null && converter.get() == null;
+        }
+    }
+
+    /**
+     * 为各实例输出周期汇总的守护线程，所有实例共用一个线程
+     * 调度任务只以弱引用持有实例，实例不再使用后随之停止；没有待执行的任务时线程在空闲后退出，下一次调度时重新创建
+     */
+    private static final class Ticker {
+        /**
+         * 没有待执行的任务时线程的空闲时间
+         */
+        private static final long KEEP_ALIVE_SECONDS = 1;
+        private static final ScheduledThreadPoolExecutor EXECUTOR = newExecutor();
+
+        private Ticker() {
+        }
+
+        /**
+         * 创建空闲时线程会退出的调度器
+         *
+         * @return 调度器
+         */
+        private static ScheduledThreadPoolExecutor newExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "conversion-failure-log");
+                thread.setDaemon(true);
+                // 线程可能由插件的线程首次创建，不继承其上下文类加载器
+                thread.setContextClassLoader(ConversionFailureLog.class.getClassLoader());
+                return thread;
+            });
+            executor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
+        /**
+         * 在当前周期结束时为实例输出汇总
+         *
+         * @param failureLog 转换失败日志
+         */
+        private static void schedule(ConversionFailureLog failureLog) {
+            WeakReference<ConversionFailureLog> reference = new WeakReference<>(failureLog);
+            long delay = failureLog.intervalStart.get() + failureLog.intervalNanos - System.nanoTime();
+            EXECUTOR.schedule(() -> run(reference), Math.max(delay, 0), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 输出汇总，周期内有失败时调度下一次，否则停止调度直到下一次失败
+         *
+         * @param reference 转换失败日志的弱引用
+         */
+        private static void run(WeakReference<ConversionFailureLog> reference) {
+            ConversionFailureLog failureLog = reference.get();
+            if (failureLog == null) {
+                return;
+            }
+            boolean active;
+            try {
+                // 周期已由其他线程开始时仍然继续调度，等待新周期结束
+                active = !failureLog.tick() || failureLog.hasIntervalFailures();
+            } catch (RuntimeException e) {
+                active = true;
+            }
+            if (active) {
+                schedule(failureLog);
+                return;
+            }
+            failureLog.ticking.set(false);
+            // 停止调度后到达的失败可能没有看到调度标记，重新检查一次
+            if (failureLog.hasIntervalFailures() && failureLog.ticking.compareAndSet(false, true)) {
+                schedule(failureLog);
+            }
+        }
+    }
+
+    /**
+     * 一种组合的失败计数
+     */
+    private static final class FailureCounter {
+        /**
+         * 累计失败次数
+         */
+        private final LongAdder total = new LongAdder();
+        /**
+         * 当前周期的失败次数
+         */
+        private final LongAdder interval = new LongAdder();
+        /**
+         * 当前周期内未记录完整日志的次数
+         */
+        private final LongAdder suppressed = new LongAdder();
+        /**
+         * 当前周期内按前若干次规则记录完整日志的次数，达到上限后不再更新，避免争用
+         */
+        private final AtomicInteger logged = new AtomicInteger();
+
+        /**
+         * 判断是否仍在当前周期的前若干次之内
+         *
+         * @param limit 每个周期的次数上限
+         * @return 未达到上限时返回true并占用一次
+         */
+        private boolean admit(int limit) {
+            for (int count = logged.get(); count < limit; count = logged.get()) {
+                if (logged.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.zhitron.type_converter;
+
+/**
+ * 预先绑定的类型转换句柄
+ * <p>
+ * 由{@link TypeConverterManager#handle(Class, Class, Object...)}创建，创建时已完成转换器解析、
+ * 目标类型校验和选择器规范化。之后的每次转换直接调用{@link TypeConverter#convertsUnchecked(Object)}，
+ * 不再经过管理器的查找、可变参数分配以及目标类型的强制转换；通用转换器仍按{@link TypeConverter#isSupportsSource(Object)}检查每个源对象，
+ * 适用于源类型和目标类型在循环外即可确定的场景。
+ * 句柄不可变且线程安全，创建后再向管理器注册的转换器不会影响已创建的句柄。
+ * </p>
+ *
+ * @param <SourceType> 源类型
+ * @param <TargetType> 目标类型
+ * @author zhitron
+ */
+public final class ConversionHandle<SourceType, TargetType> {
+    /**
+     * 源类型的Class对象
+     */
+    private final Class<SourceType> sourceType;
+    /**
+     * 目标类型的Class对象
+     */
+    private final Class<TargetType> targetType;
+    /**
+     * 已解析并校验过目标类型的类型转换器
+     */
+    private final TypeConverter<? super SourceType, TargetType> typeConverter;
+    /**
+     * 规范化后的选择器，已去除null元素
+     */
+    private final Object[] selectors;
+    /**
+     * 转换失败的计数与限流日志
+     */
+    private final ConversionFailureLog failureLog;
+
+    /**
+     * 构造函数，仅由类型转换管理器调用
+     *
+     * @param sourceType    源类型的Class对象
+     * @param targetType    目标类型的Class对象
+     * @param typeConverter 已解析的类型转换器
+     * @param selectors     规范化后的选择器
+     * @param failureLog    转换失败的计数与限流日志
+     * @throws TypeConverterException 当转换器不支持目标类型时抛出
+     */
+    ConversionHandle(Class<SourceType> sourceType, Class<TargetType> targetType, TypeConverter<? super SourceType, TargetType> typeConverter, Object[] selectors,
+                     ConversionFailureLog failureLog) {
+        if (typeConverter.supportsTargetType() != targetType) {
+            throw new TypeConverterException("The converter does not support the target type, possibly due to an error in the target type when registering the converter");
+        }
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.typeConverter = typeConverter;
+        this.selectors = selectors.clone();
+        this.failureLog = failureLog;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，转换失败时返回null
+     *
+     * @param source 源对象
+     * @return 转换后的目标对象，可能为null
+     */
+    public TargetType convert(SourceType source) {
+        return convert(source, null);
+    }
+
+    /**
+     * 将源对象转换为目标类型对象
+     * 转换失败时按管理器的{@link ConversionFailureLog}记录警告日志并返回默认值，与{@link TypeConverterManager#converts(Object, Class, Object, Object...)}的约定一致
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换结果为null或转换失败时返回
+     * @return 转换后的目标对象，可能为默认值
+     */
+    public TargetType convert(SourceType source, TargetType targetDefault) {
+        if (source == null || !typeConverter.isSpecific() && !typeConverter.isSupportsSource(source)) {
+            return targetDefault;
+        }
+        TargetType target;
+        try {
+            target = typeConverter.convertsUnchecked(source);
+        } catch (Throwable e) {
+            failureLog.record(sourceType, targetType, typeConverter, source, e);
+            return targetDefault;
+        }
+        return target != null ? target : targetDefault;
+    }
+
+    /**
+     * 尝试将源对象转换为目标类型对象，失败时不抛出异常也不记录日志
+     *
+     * @param source 源对象
+     * @param result 保存转换结果的对象，转换前会被重置，可以在循环中反复使用
+     * @return 转换成功且结果不为null时返回true
+     * @see TypeConverterManager#tryConvert(Object, Class, ConversionResult, Object...)
+     */
+    public boolean tryConvert(SourceType source, ConversionResult<TargetType> result) {
+        result.reset();
+        if (source == null || !typeConverter.isSpecific() && !typeConverter.isSupportsSource(source)) {
+            return false;
+        }
+        return typeConverter.tryConvertsUnchecked(source, result);
+    }
+
+    /**
+     * 获取源类型Class对象
+     *
+     * @return 源类型的Class对象
+     */
+    public Class<SourceType> getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * 获取目标类型Class对象
+     *
+     * @return 目标类型的Class对象
+     */
+    public Class<TargetType> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * 获取句柄绑定的类型转换器
+     *
+     * @return 类型转换器
+     */
+    public TypeConverter<? super SourceType, TargetType> getTypeConverter() {
+        return typeConverter;
+    }
+
+    /**
+     * 获取规范化后的选择器
+     *
+     * @return 选择器数组的副本
+     */
+    public Object[] getSelectors() {
+        return selectors.clone();
+    }
+
+    /**
+     * 返回转换句柄的字符串表示形式
+     *
+     * @return 转换句柄的字符串表示
+     */
+    @Override
+    public String toString() {
+        return "ConversionHandle[" + sourceType.getSimpleName() + "->" + targetType.getSimpleName() + " using " + typeConverter + "]";
+    }
+}
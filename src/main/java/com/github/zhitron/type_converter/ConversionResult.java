@@ -0,0 +1,137 @@
+package com.github.zhitron.type_converter;
+
+/**
+ * 可重复使用的转换结果
+ * <p>
+ * 由{@link TypeConverterManager#tryConvert(Object, Class, ConversionResult, Object...)}、
+ * {@link ConversionHandle#tryConvert(Object, ConversionResult)}和{@link TypeConverter#tryConverts(Object, ConversionResult)}填充，
+ * 以状态码代替异常表示转换失败，失败时既不创建异常也不记录日志，适用于格式错误的输入占比较高的场景。
+ * 同一个实例可以在循环中反复使用，每次转换前会被重置；实例不是线程安全的，不应在线程之间共享。
+ * </p>
+ *
+ * @param <TargetType> 目标类型
+ * @author zhitron
+ */
+public final class ConversionResult<TargetType> {
+    /**
+     * 转换状态
+     */
+    private Status status = Status.EMPTY;
+    /**
+     * 转换成功时的结果
+     */
+    private TargetType value;
+
+    /**
+     * 记录转换结果
+     * 供类型转换器在{@link TypeConverter#tryConvertsUnchecked(Object, ConversionResult)}中调用
+     *
+     * @param value 转换后的目标对象，为null时状态为{@link Status#EMPTY}
+     * @return 结果不为null时返回true
+     */
+    public boolean succeed(TargetType value) {
+        this.value = value;
+        this.status = value != null ? Status.SUCCESS : Status.EMPTY;
+        return value != null;
+    }
+
+    /**
+     * 记录转换失败
+     * 供类型转换器在{@link TypeConverter#tryConvertsUnchecked(Object, ConversionResult)}中调用
+     *
+     * @return 总是返回false
+     */
+    public boolean fail() {
+        this.value = null;
+        this.status = Status.FAILURE;
+        return false;
+    }
+
+    /**
+     * 记录找不到合适的转换器
+     *
+     * @return 总是返回false
+     */
+    boolean noConverter() {
+        this.value = null;
+        this.status = Status.NO_CONVERTER;
+        return false;
+    }
+
+    /**
+     * 重置为初始状态{@link Status#EMPTY}
+     */
+    public void reset() {
+        this.value = null;
+        this.status = Status.EMPTY;
+    }
+
+    /**
+     * 获取转换状态
+     *
+     * @return 转换状态
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 判断转换是否成功得到了非null的结果
+     *
+     * @return 状态为{@link Status#SUCCESS}时返回true
+     */
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    /**
+     * 获取转换结果
+     *
+     * @return 转换成功时返回结果，否则返回null
+     */
+    public TargetType get() {
+        return value;
+    }
+
+    /**
+     * 获取转换结果，与{@link TypeConverterManager#converts(Object, Class, Object, Object...)}返回默认值的约定一致
+     *
+     * @param targetDefault 默认值
+     * @return 转换成功时返回结果，否则返回默认值
+     */
+    public TargetType getOrDefault(TargetType targetDefault) {
+        return status == Status.SUCCESS ? value : targetDefault;
+    }
+
+    /**
+     * 返回转换结果的字符串表示形式
+     *
+     * @return 转换结果的字符串表示
+     */
+    @Override
+    public String toString() {
+        return status == Status.SUCCESS ? "ConversionResult[" + status + ": " + value + "]" : "ConversionResult[" + status + "]";
+    }
+
+    /**
+     * 转换状态
+     */
+    public enum Status {
+        /**
+         * 转换成功，结果不为null
+         */
+        SUCCESS,
+        /**
+         * 源对象为null，或者转换结果为null（例如空白字符串）
+         */
+        EMPTY,
+        /**
+         * 源对象的内容无法转换为目标类型
+         */
+        FAILURE,
+        /**
+         * 找不到合适的转换器
+         */
+        NO_CONVERTER
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.zhitron.type_converter;
+
+/**
+ * 不改变值含义的类型转换器
+ * <p>
+ * 由转换结果与源对象表示同一个值的转换器实现：不截断、不舍入、不溢出，无法精确表示时抛出异常而不是返回近似值，
+ * 例如数字的十进制字符串解析为整数、Integer转换为BigDecimal、Date转换为毫秒数。
+ * {@link TypeConverterManager#setPathPlanning(boolean)}开启后，没有直接可用的转换器时只经由实现了本接口的转换器组合转换路径，
+ * 格式化为字符串、按值判断真假等会改变值含义的转换器不实现本接口，因此不会出现在组合路径中。
+ * </p>
+ *
+ * @author zhitron
+ */
+public interface LosslessTypeConverter {
+    /**
+     * 判断从指定源类型转换时是否不改变值的含义
+     * 默认对所有支持的源类型返回true，只对部分源类型无损的转换器（例如Number到Long）可以重写此方法
+     *
+     * @param sourceType 源对象的实际类型
+     * @return 从该类型转换不改变值的含义时返回true
+     */
+    default boolean isLosslessFrom(Class<?> sourceType) {
+        return true;
+    }
+}
@@ -1,7 +1,5 @@
 package com.github.zhitron.type_converter;
 
-import com.github.zhitron.universal.Logger;
-
 import java.lang.reflect.*;
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -96,7 +94,7 @@ public abstract class TypeConverter<SourceType, TargetType> {
     }
 
     /**
-     * 执行类型转换操作
+     * 执行类型转换操作，转换失败时每次都记录完整的警告日志，不统计失败次数
      *
      * @param <SourceType>              源类型泛型参数
      * @param <TargetType>              目标类型泛型参数
@@ -110,22 +108,40 @@ public abstract class TypeConverter<SourceType, TargetType> {
      */
     public static <SourceType, TargetType> TargetType performConversion(Class<SourceType> sourceType, SourceType source, Class<TargetType> targetType, TargetType targetDefault,
                                                                         TypeConverter<SourceType, TargetType> foundTypeConverter, boolean isThrowConverterException) {
+        return performConversion(sourceType, source, targetType, targetDefault, foundTypeConverter, isThrowConverterException, ConversionFailureLog.uncounted());
+    }
+
+    /**
+     * 执行类型转换操作
+     *
+     * @param <SourceType>              源类型泛型参数
+     * @param <TargetType>              目标类型泛型参数
+     * @param sourceType                源类型Class对象
+     * @param source                    源对象实例
+     * @param targetType                目标类型Class对象
+     * @param targetDefault             目标类型的默认值
+     * @param foundTypeConverter        找到的类型转换器
+     * @param isThrowConverterException 是否在转换异常时抛出异常
+     * @param failureLog                不抛出异常时记录转换失败的日志
+     * @return 转换后的目标对象，如果转换失败则返回默认值
+     */
+    public static <SourceType, TargetType> TargetType performConversion(Class<SourceType> sourceType, SourceType source, Class<TargetType> targetType, TargetType targetDefault,
+                                                                        TypeConverter<SourceType, TargetType> foundTypeConverter, boolean isThrowConverterException,
+                                                                        ConversionFailureLog failureLog) {
         TargetType target = null;
         // 验证转换器是否支持目标类型
         if (foundTypeConverter.supportsTargetType() != targetType) {
             throw new TypeConverterException("The converter does not support the target type, possibly due to an error in the target type when registering the converter");
         }
-        try {
+        if (isThrowConverterException) {
             // 执行类型转换操作
             target = foundTypeConverter.converts(source, targetDefault);
-        } catch (TypeConverterException e) {
-            if (isThrowConverterException) {
-                throw e;
-            } else {
-                // 记录转换失败的日志信息
-                if (Logger.isEnabledWarn()) {
-                    Logger.warn("Failed to convert source type [%s] to target type [%s] using converter [%s]", sourceType, targetType, foundTypeConverter, e);
-                }
+        } else if (source != null && (foundTypeConverter.isSpecific() || foundTypeConverter.isSupportsSource(source))) {
+            try {
+                target = foundTypeConverter.convertsUnchecked(source);
+            } catch (Throwable e) {
+                // 记录转换失败，按日志的限流配置决定是否输出完整日志，只计数时不创建包装异常
+                failureLog.record(sourceType, targetType, foundTypeConverter, source, e);
             }
         }
         // 返回转换结果，如果转换失败则返回默认值
@@ -152,6 +168,15 @@ public abstract class TypeConverter<SourceType, TargetType> {
         return targetType;
     }
 
+    /**
+     * 获取此转换器支持的选择器
+     *
+     * @return 支持的选择器数组的副本，不包含null元素
+     */
+    public final Object[] getSupportedSelectors() {
+        return supportedSelectors.clone();
+    }
+
     /**
      * 判断此转换器是否为特定源类型的转换器
      *
@@ -191,20 +216,69 @@ public abstract class TypeConverter<SourceType, TargetType> {
         }
     }
 
+    /**
+     * 判断指定的源类型是否支持转换
+     * <p>
+     * 类型转换管理器按源对象的运行时类型解析并缓存转换器，因此此方法的结果应与
+     * {@link #isSupportsSource(Object)}对该类型实例的判断保持一致。
+     * 如果{@link #isSupportsSource(Object)}还依赖于源对象的值，此方法对该类型返回true即可，
+     * 管理器转换时仍会调用{@link #isSupportsSource(Object)}，拒绝的源对象按顺序交给下一个候选转换器。
+     * 默认实现：特定源类型的转换器要求类型完全一致，其他转换器要求类型可赋值给{@link #supportsSourceType()}。
+     * </p>
+     *
+     * @param sourceType 源对象的运行时类型
+     * @return 如果支持转换返回true，否则返回false
+     */
+    public boolean isSupportsSourceType(Class<?> sourceType) {
+        if (sourceType == null) {
+            return false;
+        }
+        if (isSpecific()) {
+            return supportsSourceType() == sourceType;
+        }
+        return supportsSourceType().isAssignableFrom(sourceType);
+    }
+
+    /**
+     * 判断指定的源类型是否支持转换
+     *
+     * @param sourceType 源对象的运行时类型
+     * @param selectors  用于选择在多个转换器中定为到想要转换的源对象，对象可以是任何类型，枚举，字符串，数字等
+     * @return 如果支持转换返回true，否则返回false
+     */
+    public final boolean isCanConvertType(Class<?> sourceType, Object... selectors) {
+        if (!this.isSupportsSourceType(sourceType)) {
+            return false;
+        }
+        return this.isContainsSelector(selectors);
+    }
+
     /**
      * 检查当前对象是否包含指定的选择器
      *
-     * @param selectors 要检查的选择器数组，可以为null
+     * @param selectors 要检查的选择器数组，可以为null，其中的null元素会被忽略
      * @return 如果包含任意一个指定的选择器则返回true，否则返回false
      */
     public final boolean isContainsSelector(Object... selectors) {
-        // 处理输入参数，如果为null则转换为空数组，并过滤掉null元素
-        selectors = selectors == null ? new Object[0] : Arrays.stream(selectors).filter(Objects::nonNull).toArray();
         if (supportedSelectors.length == 0) {
-            return selectors.length == 0;
+            // 未声明选择器的转换器只匹配没有传入任何非null选择器的情况
+            if (selectors != null) {
+                for (Object selector : selectors) {
+                    if (selector != null) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        if (selectors == null) {
+            return false;
         }
         // 遍历所有传入的选择器
         for (Object selector : selectors) {
+            if (selector == null) {
+                continue;
+            }
             // 将当前选择器与所有支持的选择器进行比较
             for (Object supportedSelector : supportedSelectors) {
                 // 如果支持的选择器是字符串类型，进行忽略大小写的字符串比较
@@ -258,12 +332,60 @@ public abstract class TypeConverter<SourceType, TargetType> {
             }
         } catch (Throwable e) {
             // 捕获转换异常并重新抛出，添加上下文信息
-            throw new TypeConverterException("Failed to convert [" + supportsSourceType() + "] to [" + supportsTargetType() + "] with '" + source + "'!", e);
+            throw newConversionException(source, e);
         }
         // 转换失败或结果为null时返回默认值
         return defaultValue;
     }
 
+    /**
+     * 尝试将源对象转换为目标类型对象，失败时不抛出异常
+     * 与{@link #converts(Object, Object)}的判断规则一致：源对象为null或不支持时状态为{@link ConversionResult.Status#EMPTY}
+     *
+     * @param source 源对象
+     * @param result 保存转换结果的对象，转换前会被重置
+     * @return 转换成功且结果不为null时返回true
+     */
+    public final boolean tryConverts(SourceType source, ConversionResult<TargetType> result) {
+        result.reset();
+        if (source == null || !isSpecific() && !isSupportsSource(source)) {
+            return false;
+        }
+        return tryConvertsUnchecked(source, result);
+    }
+
+    /**
+     * 尝试将源对象转换为目标类型对象，不进行源对象类型检查，失败时不抛出异常
+     * <p>
+     * 默认实现调用{@link #convertsUnchecked(Object)}并把其中抛出的异常记录为{@link ConversionResult.Status#FAILURE}，
+     * 不包装异常也不记录日志。能够在解析前判断输入是否有效的转换器可以重写此方法，完全避免创建异常。
+     * </p>
+     *
+     * @param source 源对象，不能为null
+     * @param result 保存转换结果的对象
+     * @return 转换成功且结果不为null时返回true
+     */
+    public boolean tryConvertsUnchecked(SourceType source, ConversionResult<? super TargetType> result) {
+        TargetType target;
+        try {
+            target = convertsUnchecked(source);
+        } catch (Throwable e) {
+            return result.fail();
+        }
+        return result.succeed(target);
+    }
+
+    /**
+     * 创建描述转换失败的异常
+     *
+     * @param source 转换失败的源对象
+     * @param cause  转换过程中发生的异常
+     * @return 包含上下文信息的类型转换异常
+     */
+    final TypeConverterException newConversionException(Object source, Throwable cause) {
+        return new TypeConverterException("Failed to convert [" + supportsSourceType() + "] to [" + supportsTargetType() + "] with '" + source + "'!", cause);
+    }
+
     /**
      * 将源对象转换为目标类型对象，不进行源对象类型检查
      *
@@ -13,15 +13,41 @@ import com.github.zhitron.type_converter.primitive.*;
 import com.github.zhitron.type_converter.string.LocaleToStringTypeConverter;
 import com.github.zhitron.type_converter.string.NumberToStringTypeConverter;
 import com.github.zhitron.type_converter.string.ObjectToStringTypeConverter;
+import com.github.zhitron.type_converter.string.ToAppendableTypeConverter;
 import com.github.zhitron.type_converter.table.ResultSetToArrayTableTypeConverter;
+import com.github.zhitron.type_converter.table.ResultSetToColumnarTableTypeConverter;
+import com.github.zhitron.type_converter.table.ResultSetToIteratorTypeConverter;
 import com.github.zhitron.type_converter.table.ResultSetToMapTableTypeConverter;
+import com.github.zhitron.type_converter.table.ResultSetToRowsTypeConverter;
+import com.github.zhitron.type_converter.table.ResultSetToStreamTypeConverter;
 import com.github.zhitron.type_converter.when.*;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * 类型转换管理器，负责注册和管理各种类型转换器，并提供类型转换功能
@@ -30,6 +56,27 @@ import java.util.function.Consumer;
  */
 public class TypeConverterManager {
 
+    /**
+     * 表示未找到转换器的缓存占位对象
+     */
+    private static final TypeConverter<?, ?> UNRESOLVED = new TypeConverter<Object, Object>(Object.class, Object.class) {
+        @Override
+        public Object convertsUnchecked(Object source) {
+            return null;
+        }
+    };
+
+    /**
+     * 组合转换路径允许的最大跳数
+     */
+    private static final int MAX_PATH_HOPS = 3;
+
+    /**
+     * 组合转换路径默认允许经过的中间类型，按优先顺序排列
+     */
+    private static final List<Class<?>> DEFAULT_PATH_TYPES = Collections.unmodifiableList(Arrays.asList(
+            Integer.class, Long.class, BigInteger.class, BigDecimal.class, Instant.class));
+
     /**
      * 默认的类型转换管理器实例，预注册了所有内置的类型转换器
      * 包括基本数据类型之间的转换、字符串转换、日期时间转换等
@@ -47,6 +94,11 @@ public class TypeConverterManager {
                 .register(CharSequenceToLongTypeConverter.INSTANCE)
                 .register(CharSequenceToNumberTypeConverter.INSTANCE)
                 .register(CharSequenceToShortTypeConverter.INSTANCE)
+                // 注册ByteBuffer到数值类型的转换器
+                .register(ByteBufferToBigDecimalTypeConverter.INSTANCE)
+                .register(ByteBufferToDoubleTypeConverter.INSTANCE)
+                .register(ByteBufferToIntegerTypeConverter.INSTANCE)
+                .register(ByteBufferToLongTypeConverter.INSTANCE)
                 // 注册Number到BigDecimal/BigInteger的转换器
                 .register(NumberToBigDecimalTypeConverter.INSTANCE)
                 .register(NumberToBigIntegerTypeConverter.INSTANCE)
@@ -75,6 +127,9 @@ public class TypeConverterManager {
                 .register(BooleanToIntegerTypeConverter.INSTANCE)
                 .register(BooleanToLongTypeConverter.INSTANCE)
                 .register(BooleanToShortTypeConverter.INSTANCE)
+                // 注册字符序列和ByteBuffer到布尔型的转换器
+                .register(ByteBufferToBooleanTypeConverter.INSTANCE)
+                .register(CharSequenceToBooleanTypeConverter.INSTANCE)
                 // 注册字符型与其他基本数据类型之间的转换器
                 .register(CharacterToBooleanTypeConverter.INSTANCE)
                 .register(CharacterToByteTypeConverter.INSTANCE)
@@ -112,10 +167,14 @@ public class TypeConverterManager {
                 .register(ObjectToStringTypeConverter.LOWER_CASE)
                 .register(ObjectToStringTypeConverter.UPPER_CASE);
 
-        // 注册结果集到数组和映射表的转换器
+        // 注册结果集到数组、映射表和列式表的转换器，以及逐行读取的迭代器、流和读取器
         typeConverterManager
                 .register(ResultSetToArrayTableTypeConverter.INSTANCE)
-                .register(ResultSetToMapTableTypeConverter.INSTANCE);
+                .register(ResultSetToMapTableTypeConverter.INSTANCE)
+                .register(ResultSetToColumnarTableTypeConverter.INSTANCE)
+                .register(ResultSetToIteratorTypeConverter.INSTANCE)
+                .register(ResultSetToStreamTypeConverter.INSTANCE)
+                .register(ResultSetToRowsTypeConverter.INSTANCE);
 
         // 注册Date类型与其他日期时间类型的转换器，包括各种时区偏移量
         typeConverterManager
@@ -529,14 +588,51 @@ public class TypeConverterManager {
                 .register(ZonedDateTimeToLocalDateTimeTypeConverter.INSTANCE)
                 .register(ZonedDateTimeToLongTypeConverter.INSTANCE)
                 .register(ZonedDateTimeToOffsetDateTimeTypeConverter.INSTANCE);
+
+        // 注册ISO-8601格式的字符序列和ByteBuffer到日期时间类型的转换器
+        typeConverterManager
+                .register(ByteBufferToInstantTypeConverter.INSTANCE)
+                .register(ByteBufferToLocalDateTimeTypeConverter.INSTANCE)
+                .register(CharSequenceToInstantTypeConverter.INSTANCE)
+                .register(CharSequenceToLocalDateTimeTypeConverter.INSTANCE);
     });
 
     /**
-     * 存储目标类型到类型映射关系的映射表
-     * key: 目标类型
-     * value: 该目标类型对应的源类型转换器映射关系
+     * 按注册顺序保存的全部类型转换器，用于复制和冻结实例，注销时一并移除
+     */
+    private final List<TypeConverter<?, ?>> registeredConverters;
+    /**
+     * 目标类型的转换器登记，数据挂在目标类型的Class对象上，不会阻止该类型所在的类加载器被回收
+     */
+    private final TargetTypeSlots targetTypeSlots;
+    /**
+     * 源类型的特定转换器登记及解析结果缓存，数据挂在源类型的Class对象上，不会阻止该类型所在的类加载器被回收
      */
-    private final Map<Class<?>, TargetTypeConverterRegistry> targetTypeRegistryContainer;
+    private final SourceTypeSlots sourceTypeSlots;
+    /**
+     * 解析过转换器的源类型，以弱引用保存，仅用于冻结时预先分配源类型编号
+     */
+    private final Set<Class<?>> resolvedSourceTypes;
+    /**
+     * 注册版本号，每次注册转换器后递增，解析结果缓存据此判断是否过期
+     */
+    private final AtomicInteger generation;
+    /**
+     * 冻结后的只读分派表，为null表示当前实例仍可注册转换器
+     */
+    private final FrozenDispatchTable frozenDispatchTable;
+    /**
+     * 转换失败的计数与限流日志
+     */
+    private volatile ConversionFailureLog failureLog;
+    /**
+     * 没有直接可用的转换器时是否规划组合转换路径，默认关闭
+     */
+    private volatile boolean pathPlanning;
+    /**
+     * 组合转换路径允许经过的中间类型，按优先顺序排列
+     */
+    private final Set<Class<?>> pathTypes;
 
     /**
      * 基于现有TypeConverterManager实例创建新的实例的构造函数
@@ -545,18 +641,37 @@ public class TypeConverterManager {
      * @param typeConverterManager 要复制的现有TypeConverterManager实例
      */
     private TypeConverterManager(TypeConverterManager typeConverterManager) {
-        this.targetTypeRegistryContainer = new ConcurrentHashMap<>();
+        this(typeConverterManager, null);
+    }
+
+    /**
+     * 完整构造函数，复制现有实例的类型转换器配置，并在指定已知源类型时构建只读分派表
+     *
+     * @param typeConverterManager 要复制的现有TypeConverterManager实例，可以为null
+     * @param knownSourceTypes     构建分派表时需要预先分配编号的源类型，为null表示创建可变实例
+     */
+    private TypeConverterManager(TypeConverterManager typeConverterManager, Set<Class<?>> knownSourceTypes) {
+        this.registeredConverters = new CopyOnWriteArrayList<>();
+        this.targetTypeSlots = new TargetTypeSlots();
+        this.resolvedSourceTypes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        this.sourceTypeSlots = new SourceTypeSlots(resolvedSourceTypes);
+        this.generation = new AtomicInteger();
+        this.failureLog = typeConverterManager != null ? typeConverterManager.failureLog : ConversionFailureLog.of();
+        this.pathPlanning = typeConverterManager != null && typeConverterManager.pathPlanning;
+        this.pathTypes = new CopyOnWriteArraySet<>(typeConverterManager != null ? typeConverterManager.pathTypes : DEFAULT_PATH_TYPES);
         if (typeConverterManager != null) {
-            typeConverterManager.targetTypeRegistryContainer.forEach((targetType, targetTypeConverterRegistry) ->
-                    this.targetTypeRegistryContainer.put(targetType, new TargetTypeConverterRegistry(targetTypeConverterRegistry)));
+            for (TypeConverter<?, ?> converter : typeConverterManager.registeredConverters) {
+                registerInternal(converter);
+            }
         }
+        this.frozenDispatchTable = knownSourceTypes == null ? null : new FrozenDispatchTable(this, knownSourceTypes);
     }
 
     /**
      * 私有构造函数，初始化目标类型注册容器
      */
     private TypeConverterManager() {
-        this.targetTypeRegistryContainer = new ConcurrentHashMap<>();
+        this(null, null);
     }
 
     /**
@@ -599,13 +714,237 @@ public class TypeConverterManager {
      * @return TypeConverterManager 当前实例，支持链式调用
      */
     public <SourceType, TargetType> TypeConverterManager register(TypeConverter<SourceType, TargetType> converter) {
+        if (frozenDispatchTable != null) {
+            throw new UnsupportedOperationException("The TypeConverterManager is frozen and can not register new converters");
+        }
+        if (converter != null) {
+            registerInternal(converter);
+        }
+        return this;
+    }
+
+    /**
+     * 将转换器登记到目标类型和源类型的数据槽中
+     *
+     * @param converter 要注册的转换器
+     */
+    private synchronized void registerInternal(TypeConverter<?, ?> converter) {
+        Class<?> targetType = converter.supportsTargetType();
+        // 获取目标类型的映射关系
+        TargetTypeConverterRegistry targetTypeConverterRegistry = targetTypeSlots.get(targetType);
+        if (converter.isSpecific()) {
+            // 如果源类型明确指定，则登记到源类型的数据槽中，并按选择器建立索引
+            sourceTypeSlots.get(converter.supportsSourceType()).register(targetType, converter);
+        } else {
+            // 如果源类型未明确指定，则添加到通用转换器列表中
+            targetTypeConverterRegistry.genericConverters.add(converter);
+        }
+        targetTypeConverterRegistry.registered = true;
+        registeredConverters.add(converter);
+        // 登记完成后再递增版本号，保证之后的解析一定能看到新注册的转换器
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 注销类型转换器
+     * <p>
+     * 从所有登记位置移除该转换器（同一实例注册多次时全部移除），并清空所有源类型的解析结果缓存，
+     * 之后当前实例不再持有该转换器及其源类型、目标类型的引用。
+     * 冻结实例和基于当前实例复制的实例各自持有转换器，需要分别处理：冻结实例应在注销后重新调用{@link #freeze()}并丢弃旧的快照。
+     * </p>
+     *
+     * @param converter 要注销的转换器
+     * @return TypeConverterManager 当前实例，支持链式调用
+     * @throws UnsupportedOperationException 当前实例已冻结时抛出
+     */
+    public TypeConverterManager unregister(TypeConverter<?, ?> converter) {
         if (converter != null) {
-            // 获取或创建目标类型的映射关系
-            targetTypeRegistryContainer.computeIfAbsent(converter.supportsTargetType(), k -> new TargetTypeConverterRegistry()).register(converter);
+            unregisterInternal(typeConverter -> typeConverter == converter);
+        }
+        return this;
+    }
+
+    /**
+     * 注销由指定类加载器定义的全部类型转换器
+     * <p>
+     * 转换器自身的类、源类型或目标类型由该类加载器定义时都会被注销，适用于插件重新部署的场景：
+     * 插件卸载时调用此方法后，长期存在的管理器不再持有插件的任何类，插件的类加载器可以被回收。
+     * 其余规则与{@link #unregister(TypeConverter)}相同。
+     * </p>
+     *
+     * @param classLoader 插件的类加载器
+     * @return TypeConverterManager 当前实例，支持链式调用
+     * @throws NullPointerException          当classLoader为null时抛出
+     * @throws UnsupportedOperationException 当前实例已冻结时抛出
+     */
+    public TypeConverterManager unregister(ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader);
+        unregisterInternal(typeConverter -> typeConverter.getClass().getClassLoader() == classLoader
+                || typeConverter.supportsSourceType().getClassLoader() == classLoader
+                || typeConverter.supportsTargetType().getClassLoader() == classLoader);
+        return this;
+    }
+
+    /**
+     * 从目标类型和源类型的数据槽中移除满足条件的转换器，并清空所有源类型的解析结果缓存
+     *
+     * @param filter 需要移除的转换器的判断条件
+     */
+    private synchronized void unregisterInternal(Predicate<TypeConverter<?, ?>> filter) {
+        if (frozenDispatchTable != null) {
+            throw new UnsupportedOperationException("The TypeConverterManager is frozen and can not unregister converters");
+        }
+        Set<TypeConverter<?, ?>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TypeConverter<?, ?> converter : registeredConverters) {
+            if (filter.test(converter)) {
+                removed.add(converter);
+            }
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+        registeredConverters.removeIf(removed::contains);
+        for (TypeConverter<?, ?> converter : removed) {
+            Class<?> targetType = converter.supportsTargetType();
+            if (converter.isSpecific()) {
+                sourceTypeSlots.get(converter.supportsSourceType()).unregister(targetType, converter);
+            } else {
+                targetTypeSlots.get(targetType).genericConverters.removeIf(removed::contains);
+            }
+            // 目标类型不再有任何转换器时恢复为未注册，之后对它的解析不会写入缓存
+            boolean registered = false;
+            for (TypeConverter<?, ?> remaining : registeredConverters) {
+                if (remaining.supportsTargetType() == targetType) {
+                    registered = true;
+                    break;
+                }
+            }
+            targetTypeSlots.get(targetType).registered = registered;
+        }
+        // 先递增版本号使进行中的解析写入被丢弃的缓存，再替换所有源类型上可能引用了已注销转换器或其类型的缓存
+        int current = generation.incrementAndGet();
+        List<Class<?>> sourceTypes;
+        synchronized (resolvedSourceTypes) {
+            sourceTypes = new ArrayList<>(resolvedSourceTypes);
+        }
+        for (Class<?> sourceType : sourceTypes) {
+            sourceTypeSlots.get(sourceType).resolutionCache = new ResolutionCache(current);
+        }
+    }
+
+    /**
+     * 创建当前实例的冻结快照
+     * <p>
+     * 冻结后的实例不可再注册转换器，目标类型和源类型被映射为连续的整数编号，
+     * 已编号源类型的转换器解析通过数组下标完成，不再访问任何共享的可变结构，适合在启动完成后替代{@link #DEFAULT}用于只读场景。
+     * 已注册的特定源类型、通用转换器声明的源类型以及冻结前已解析过的源类型都会预先分配编号，
+     * 因此在冻结前用实际数据预热可以让更多的源类型直接命中分派表。
+     * 如需继续注册转换器，可通过{@link #of(TypeConverterManager)}基于冻结实例创建新的可变实例。
+     * </p>
+     *
+     * @return 冻结后的TypeConverterManager实例，如果当前实例已冻结则返回自身
+     */
+    public TypeConverterManager freeze() {
+        if (frozenDispatchTable != null) {
+            return this;
+        }
+        Set<Class<?>> knownSourceTypes;
+        synchronized (resolvedSourceTypes) {
+            knownSourceTypes = new LinkedHashSet<>(resolvedSourceTypes);
+        }
+        return new TypeConverterManager(this, knownSourceTypes);
+    }
+
+    /**
+     * 判断当前实例是否已冻结
+     *
+     * @return 如果已冻结返回true，否则返回false
+     */
+    public boolean isFrozen() {
+        return frozenDispatchTable != null;
+    }
+
+    /**
+     * 设置转换失败的计数与限流日志
+     * 默认使用{@link ConversionFailureLog#of()}，复制和冻结得到的实例与原实例共用同一个日志及其计数；
+     * 该设置不影响已注册的转换器，因此冻结后的实例也可以修改，已创建的{@link ConversionHandle}继续使用创建时的日志
+     *
+     * @param failureLog 转换失败日志
+     * @return TypeConverterManager 当前实例，支持链式调用
+     * @throws NullPointerException 当failureLog为null时抛出
+     */
+    public TypeConverterManager setFailureLog(ConversionFailureLog failureLog) {
+        this.failureLog = Objects.requireNonNull(failureLog);
+        return this;
+    }
+
+    /**
+     * 获取转换失败的计数与限流日志
+     *
+     * @return 转换失败日志
+     */
+    public ConversionFailureLog getFailureLog() {
+        return failureLog;
+    }
+
+    /**
+     * 设置没有直接可用的转换器时是否规划组合转换路径
+     * 默认关闭；开启后只经由实现了{@link LosslessTypeConverter}的转换器和{@link #addPathType(Class)}允许的中间类型组合转换，
+     * 复制和冻结得到的实例继承该设置
+     *
+     * @param pathPlanning 是否规划组合转换路径
+     * @return TypeConverterManager 当前实例，支持链式调用
+     * @throws UnsupportedOperationException 当前实例已冻结时抛出
+     */
+    public TypeConverterManager setPathPlanning(boolean pathPlanning) {
+        if (frozenDispatchTable != null) {
+            throw new UnsupportedOperationException("The TypeConverterManager is frozen and can not change path planning");
+        }
+        this.pathPlanning = pathPlanning;
+        // 递增版本号，丢弃按原设置缓存的解析结果
+        generation.incrementAndGet();
+        return this;
+    }
+
+    /**
+     * 判断没有直接可用的转换器时是否规划组合转换路径
+     *
+     * @return 如果规划组合转换路径返回true，否则返回false
+     */
+    public boolean isPathPlanning() {
+        return pathPlanning;
+    }
+
+    /**
+     * 允许组合转换路径经过指定的中间类型
+     * 默认允许Integer、Long、BigInteger、BigDecimal和Instant，新增的类型排在其后；
+     * 路径的源类型和目标类型不受此限制，复制和冻结得到的实例继承该设置
+     *
+     * @param pathType 中间类型，基本类型按其包装类型处理
+     * @return TypeConverterManager 当前实例，支持链式调用
+     * @throws NullPointerException          当pathType为null时抛出
+     * @throws UnsupportedOperationException 当前实例已冻结时抛出
+     */
+    public TypeConverterManager addPathType(Class<?> pathType) {
+        if (frozenDispatchTable != null) {
+            throw new UnsupportedOperationException("The TypeConverterManager is frozen and can not change path types");
+        }
+        if (pathTypes.add(wrap(Objects.requireNonNull(pathType)))) {
+            // 递增版本号，丢弃按原中间类型缓存的解析结果
+            generation.incrementAndGet();
         }
         return this;
     }
 
+    /**
+     * 获取组合转换路径允许经过的中间类型
+     *
+     * @return 按优先顺序排列的中间类型，不可修改
+     */
+    public Set<Class<?>> getPathTypes() {
+        return Collections.unmodifiableSet(pathTypes);
+    }
+
     /**
      * 将源对象转换为目标类型对象
      *
@@ -630,76 +969,1139 @@ public class TypeConverterManager {
             }
             //noinspection unchecked
             targetType = (Class<TargetType>) targetDefault.getClass();
-        }
-        // 获取目标类型的映射关系
-        TargetTypeConverterRegistry targetTypeConverterRegistry = targetTypeRegistryContainer.get(targetType);
-        if (targetTypeConverterRegistry == null) {
-            return targetDefault;
+        } else if (targetType.isPrimitive()) {
+            // 基本类型没有注册转换器，按其包装类型解析
+            targetType = wrap(targetType);
         }
         // 获取源对象的实际类型
         //noinspection unchecked
         Class<SourceType> sourceType = (Class<SourceType>) source.getClass();
-        // 首先尝试通过精确类型匹配查找转换器
-        //noinspection unchecked
-        TypeConverter<SourceType, TargetType> foundTypeConverter = (TypeConverter<SourceType, TargetType>) targetTypeConverterRegistry.specificConverters.get(sourceType);
-        if (foundTypeConverter != null) {
-            // 验证转换器是否支持目标类型
-            return TypeConverter.performConversion(sourceType, source, targetType, targetDefault, foundTypeConverter, false);
+        // 解析转换器，结果会按源类型、目标类型及选择器缓存
+        TypeConverter<SourceType, TargetType> foundTypeConverter = resolveFor(source, targetType, selectors);
+        if (foundTypeConverter == null) {
+            // 如果没有找到任何适用的转换器，返回默认值
+            return targetDefault;
+        }
+        return TypeConverter.performConversion(sourceType, source, targetType, targetDefault, foundTypeConverter, false, failureLog);
+    }
+
+    /**
+     * 尝试将源对象转换为目标类型对象，失败时不抛出异常也不记录日志
+     * <p>
+     * 转换器的查找规则与{@link #converts(Object, Class, Object, Object...)}一致，结果通过状态码区分：
+     * 成功、源对象或转换结果为null、内容无法转换以及找不到转换器。数值和布尔类型的内置转换器在解析前先判断输入是否有效，
+     * 格式错误的输入不会创建任何异常；其他转换器抛出的异常会被直接丢弃，不再包装为{@link TypeConverterException}。
+     * </p>
+     *
+     * @param source       源对象
+     * @param targetType   目标类型，基本类型按其包装类型转换
+     * @param result       保存转换结果的对象，转换前会被重置，可以在循环中反复使用
+     * @param selectors    选择器，用于选择合适的转换器
+     * @param <TargetType> 目标对象类型
+     * @return 转换成功且结果不为null时返回true
+     * @throws NullPointerException 当targetType或result为null时抛出
+     */
+    public final <TargetType> boolean tryConvert(Object source, Class<TargetType> targetType, ConversionResult<TargetType> result, Object... selectors) {
+        result.reset();
+        targetType = wrap(Objects.requireNonNull(targetType));
+        if (source == null) {
+            return false;
+        }
+        TypeConverter<Object, TargetType> foundTypeConverter = resolveFor(source, targetType, selectors);
+        if (foundTypeConverter == null) {
+            return result.noConverter();
+        }
+        return foundTypeConverter.tryConvertsUnchecked(source, result);
+    }
+
+    /**
+     * 创建预先绑定源类型、目标类型和选择器的转换句柄
+     * 句柄创建时即完成转换器解析和目标类型校验，适用于在循环中对同一类型组合反复转换的场景；
+     * 句柄始终使用绑定的转换器，通用转换器的{@link TypeConverter#isSupportsSource(Object)}拒绝的源对象转换为默认值
+     *
+     * @param sourceType   源类型
+     * @param targetType   目标类型
+     * @param selectors    选择器，用于选择合适的转换器
+     * @param <SourceType> 源对象类型
+     * @param <TargetType> 目标对象类型
+     * @return 不可变且线程安全的转换句柄
+     * @throws NullPointerException   当sourceType或targetType为null时抛出
+     * @throws TypeConverterException 当找不到合适的转换器或转换器不支持目标类型时抛出
+     */
+    public final <SourceType, TargetType> ConversionHandle<SourceType, TargetType> handle(Class<SourceType> sourceType, Class<TargetType> targetType, Object... selectors) throws TypeConverterException {
+        // 基本类型按其包装类型解析
+        sourceType = wrap(Objects.requireNonNull(sourceType));
+        targetType = wrap(Objects.requireNonNull(targetType));
+        TypeConverter<SourceType, TargetType> foundTypeConverter = resolve(sourceType, targetType, selectors);
+        if (foundTypeConverter == null) {
+            throw new TypeConverterException("No converter found for source type [" + sourceType + "] and target type [" + targetType + "]");
+        }
+        return new ConversionHandle<>(sourceType, targetType, foundTypeConverter, ResolutionKey.normalize(selectors), failureLog);
+    }
+
+    /**
+     * 将源对象转换为整型值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @return 转换后的整型值，可能为默认值
+     * @see #toInt(Object, int, Object...)
+     */
+    public final int toInt(Object source, int targetDefault) {
+        return toInt(source, targetDefault, ResolutionKey.NO_SELECTORS);
+    }
+
+    /**
+     * 将源对象转换为整型值
+     * 解析到的转换器实现了{@link ToIntTypeConverter}时直接得到int值，整个过程不产生装箱对象，
+     * 否则按{@link Integer}目标类型转换后拆箱，失败时与{@link #converts(Object, Class, Object, Object...)}一样记录警告日志并返回默认值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @param selectors     选择器，用于选择合适的转换器
+     * @return 转换后的整型值，可能为默认值
+     */
+    public final int toInt(Object source, int targetDefault, Object... selectors) {
+        return (int) toPrimitive(source, targetDefault, PrimitiveTarget.TO_INT, selectors);
+    }
+
+    /**
+     * 将源对象转换为长整型值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @return 转换后的长整型值，可能为默认值
+     * @see #toLong(Object, long, Object...)
+     */
+    public final long toLong(Object source, long targetDefault) {
+        return toLong(source, targetDefault, ResolutionKey.NO_SELECTORS);
+    }
+
+    /**
+     * 将源对象转换为长整型值
+     * 解析到的转换器实现了{@link ToLongTypeConverter}时直接得到long值，整个过程不产生装箱对象，
+     * 否则按{@link Long}目标类型转换后拆箱，失败时与{@link #converts(Object, Class, Object, Object...)}一样记录警告日志并返回默认值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @param selectors     选择器，用于选择合适的转换器
+     * @return 转换后的长整型值，可能为默认值
+     */
+    public final long toLong(Object source, long targetDefault, Object... selectors) {
+        return toPrimitive(source, targetDefault, PrimitiveTarget.TO_LONG, selectors);
+    }
+
+    /**
+     * 将源对象转换为双精度浮点型值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @return 转换后的双精度浮点型值，可能为默认值
+     * @see #toDouble(Object, double, Object...)
+     */
+    public final double toDouble(Object source, double targetDefault) {
+        return toDouble(source, targetDefault, ResolutionKey.NO_SELECTORS);
+    }
+
+    /**
+     * 将源对象转换为双精度浮点型值
+     * 解析到的转换器实现了{@link ToDoubleTypeConverter}时直接得到double值，整个过程不产生装箱对象，
+     * 否则按{@link Double}目标类型转换后拆箱，失败时与{@link #converts(Object, Class, Object, Object...)}一样记录警告日志并返回默认值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @param selectors     选择器，用于选择合适的转换器
+     * @return 转换后的双精度浮点型值，可能为默认值
+     */
+    public final double toDouble(Object source, double targetDefault, Object... selectors) {
+        return Double.longBitsToDouble(toPrimitive(source, Double.doubleToRawLongBits(targetDefault), PrimitiveTarget.TO_DOUBLE, selectors));
+    }
+
+    /**
+     * 将源对象转换为布尔型值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @return 转换后的布尔型值，可能为默认值
+     * @see #toBoolean(Object, boolean, Object...)
+     */
+    public final boolean toBoolean(Object source, boolean targetDefault) {
+        return toBoolean(source, targetDefault, ResolutionKey.NO_SELECTORS);
+    }
+
+    /**
+     * 将源对象转换为布尔型值
+     * 解析到的转换器实现了{@link ToBooleanTypeConverter}时直接得到boolean值，整个过程不产生装箱对象，
+     * 否则按{@link Boolean}目标类型转换后拆箱，失败时与{@link #converts(Object, Class, Object, Object...)}一样记录警告日志并返回默认值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，当源对象为null、转换失败或找不到合适转换器时返回
+     * @param selectors     选择器，用于选择合适的转换器
+     * @return 转换后的布尔型值，可能为默认值
+     */
+    public final boolean toBoolean(Object source, boolean targetDefault, Object... selectors) {
+        return toPrimitive(source, targetDefault ? 1L : 0L, PrimitiveTarget.TO_BOOLEAN, selectors) != 0L;
+    }
+
+    /**
+     * 按基本类型目标转换源对象，{@link #toInt(Object, int, Object...)}等方法的公共实现
+     * 结果和默认值都以long值传递，由调用方还原为对应的基本类型
+     *
+     * @param source          源对象
+     * @param targetDefault   默认值对应的long值
+     * @param primitiveTarget 基本类型目标
+     * @param selectors       选择器，用于选择合适的转换器
+     * @param <C>             直接得到基本类型值的转换器接口
+     * @param <TargetType>    基本类型的包装类型
+     * @return 转换结果对应的long值，可能为默认值
+     */
+    @SuppressWarnings("unchecked")
+    private <C, TargetType> long toPrimitive(Object source, long targetDefault, PrimitiveTarget<C, TargetType> primitiveTarget, Object[] selectors) {
+        if (source == null) {
+            return targetDefault;
+        }
+        TypeConverter<Object, TargetType> foundTypeConverter = resolveFor(source, primitiveTarget.targetType, selectors);
+        if (foundTypeConverter == null) {
+            return targetDefault;
+        }
+        if (primitiveTarget.converterType.isInstance(foundTypeConverter)) {
+            try {
+                return primitiveTarget.convert((C) foundTypeConverter, source, targetDefault);
+            } catch (Throwable e) {
+                failureLog.record(source.getClass(), primitiveTarget.targetType, foundTypeConverter, source, e);
+                return targetDefault;
+            }
+        }
+        TargetType target = TypeConverter.performConversion(sourceTypeOf(source), source, primitiveTarget.targetType, null, foundTypeConverter, false, failureLog);
+        return target != null ? primitiveTarget.unbox(target) : targetDefault;
+    }
+
+    /**
+     * 将源对象的字符串形式直接追加到目标中
+     * 解析到的转换器实现了{@link ToAppendableTypeConverter}时由转换器直接写入目标，不产生中间字符串，
+     * 否则按{@link String}目标类型转换后追加，转换失败时与{@link #converts(Object, Class, Object, Object...)}一样记录警告日志且不写入任何内容
+     *
+     * @param source      源对象
+     * @param destination 追加字符的目标，例如{@link StringBuilder}或{@link java.io.Writer}
+     * @param selectors   选择器，用于选择合适的转换器
+     * @return 写入了内容时返回true；源对象为null、转换结果为null、转换失败或找不到合适转换器时返回false
+     * @throws NullPointerException 当destination为null时抛出
+     * @throws IOException          写入目标时发生错误时抛出
+     */
+    public final boolean convertsTo(Object source, Appendable destination, Object... selectors) throws IOException {
+        Objects.requireNonNull(destination);
+        if (source == null) {
+            return false;
+        }
+        TypeConverter<Object, String> foundTypeConverter = resolveFor(source, String.class, selectors);
+        if (foundTypeConverter == null) {
+            return false;
+        }
+        if (foundTypeConverter instanceof ToAppendableTypeConverter) {
+            @SuppressWarnings("unchecked")
+            ToAppendableTypeConverter<Object> appendableTypeConverter = (ToAppendableTypeConverter<Object>) foundTypeConverter;
+            try {
+                return appendableTypeConverter.convertsUncheckedTo(source, destination);
+            } catch (IOException e) {
+                // 目标写入失败不属于转换失败，交由调用方处理
+                throw e;
+            } catch (Throwable e) {
+                failureLog.record(source.getClass(), String.class, foundTypeConverter, source, e);
+                return false;
+            }
+        }
+        String target = TypeConverter.performConversion(sourceTypeOf(source), source, String.class, null, foundTypeConverter, false, failureLog);
+        if (target == null) {
+            return false;
+        }
+        destination.append(target);
+        return true;
+    }
+
+    /**
+     * 获取源对象的运行时类型
+     *
+     * @param source 源对象
+     * @return 源对象的Class对象
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<Object> sourceTypeOf(Object source) {
+        return (Class<Object>) source.getClass();
+    }
+
+    /**
+     * 将基本类型映射为对应的包装类型，其他类型原样返回
+     *
+     * @param type 类型
+     * @param <T>  类型参数
+     * @return 基本类型对应的包装类型，或原类型
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> wrap(Class<T> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) return (Class<T>) Integer.class;
+        if (type == long.class) return (Class<T>) Long.class;
+        if (type == double.class) return (Class<T>) Double.class;
+        if (type == boolean.class) return (Class<T>) Boolean.class;
+        if (type == float.class) return (Class<T>) Float.class;
+        if (type == short.class) return (Class<T>) Short.class;
+        if (type == byte.class) return (Class<T>) Byte.class;
+        if (type == char.class) return (Class<T>) Character.class;
+        return (Class<T>) Void.class;
+    }
+
+    /**
+     * 解析指定源类型到目标类型的转换器，优先从缓存中获取
+     * 未命中缓存时沿源类型的父类和接口查找距离最近的转换器，子类和接口实现类同样能使用父类型上注册的转换器，
+     * 无论是否找到都会把结果写入源类型的缓存，避免对不支持的类型组合重复查找
+     *
+     * @param sourceType   源类型
+     * @param targetType   目标类型
+     * @param selectors    选择器，用于选择合适的转换器
+     * @param <SourceType> 源对象类型
+     * @param <TargetType> 目标对象类型
+     * @return 解析出的类型转换器，未找到时返回null
+     */
+    @SuppressWarnings("unchecked")
+    private <SourceType, TargetType> TypeConverter<SourceType, TargetType> resolve(Class<SourceType> sourceType, Class<TargetType> targetType, Object[] selectors) {
+        selectors = ResolutionKey.normalize(selectors);
+        if (frozenDispatchTable != null) {
+            TypeConverter<?, ?> foundTypeConverter = frozenDispatchTable.resolve(sourceType, targetType, selectors);
+            if (foundTypeConverter != UNRESOLVED) {
+                return (TypeConverter<SourceType, TargetType>) foundTypeConverter;
+            }
+            // 冻结时未编号的源类型或需要组合路径的类型组合，按下面的方式解析并缓存到该源类型的数据槽中
+        }
+        // 目标类型没有任何转换器时直接返回，不写入缓存，避免缓存中出现未注册的类型
+        if (!targetTypeSlots.get(targetType).registered) {
+            return null;
+        }
+        // 先读取版本号再解析，注册转换器后版本号递增，过期的解析结果只会写入被丢弃的旧缓存
+        ResolutionCache cache = sourceTypeSlots.get(sourceType).cache(generation.get());
+        TypeConverter<?, ?> foundTypeConverter;
+        if (selectors.length == 0) {
+            foundTypeConverter = cache.resolvedConverters.get(targetType);
+            if (foundTypeConverter == null) {
+                foundTypeConverter = resolveUncached(sourceType, targetType, selectors);
+                TypeConverter<?, ?> existing = cache.resolvedConverters.putIfAbsent(targetType, foundTypeConverter == null ? UNRESOLVED : foundTypeConverter);
+                if (existing != null) {
+                    foundTypeConverter = existing;
+                }
+            }
+        } else {
+            ResolutionKey key = new ResolutionKey(targetType, selectors);
+            foundTypeConverter = cache.selectedConverters.get(key);
+            if (foundTypeConverter == null) {
+                foundTypeConverter = resolveUncached(sourceType, targetType, selectors);
+                TypeConverter<?, ?> existing = cache.selectedConverters.putIfAbsent(key, foundTypeConverter == null ? UNRESOLVED : foundTypeConverter);
+                if (existing != null) {
+                    foundTypeConverter = existing;
+                }
+            }
+        }
+        return foundTypeConverter == UNRESOLVED ? null : (TypeConverter<SourceType, TargetType>) foundTypeConverter;
+    }
+
+    /**
+     * 解析源对象到目标类型的转换器
+     * <p>
+     * 先按源对象的运行时类型解析并使用缓存；解析到的通用转换器的{@link TypeConverter#isSupportsSource(Object)}
+     * 拒绝该源对象时（该方法的判断依赖于源对象的值而不只是类型），不使用缓存，按与解析时相同的顺序继续尝试其余候选，
+     * 与按值逐个判断通用转换器时的行为保持一致。
+     * </p>
+     *
+     * @param source       源对象，不能为null
+     * @param targetType   目标类型
+     * @param selectors    选择器，用于选择合适的转换器
+     * @param <SourceType> 源对象类型
+     * @param <TargetType> 目标对象类型
+     * @return 解析出的类型转换器，未找到时返回null
+     */
+    @SuppressWarnings("unchecked")
+    private <SourceType, TargetType> TypeConverter<SourceType, TargetType> resolveFor(SourceType source, Class<TargetType> targetType, Object[] selectors) {
+        Class<SourceType> sourceType = (Class<SourceType>) source.getClass();
+        TypeConverter<SourceType, TargetType> foundTypeConverter = resolve(sourceType, targetType, selectors);
+        if (foundTypeConverter == null || foundTypeConverter.isSpecific() || foundTypeConverter.isSupportsSource(source)) {
+            return foundTypeConverter;
+        }
+        selectors = ResolutionKey.normalize(selectors);
+        for (Object candidate : rankCandidates(sourceType, targetType)) {
+            if (candidate instanceof SourceTypeConverterRegistry) {
+                TypeConverter<?, ?> typeConverter = ((SourceTypeConverterRegistry) candidate).find(selectors);
+                if (typeConverter != null) {
+                    return (TypeConverter<SourceType, TargetType>) typeConverter;
+                }
+                continue;
+            }
+            TypeConverter<?, ?> typeConverter = (TypeConverter<?, ?>) candidate;
+            if (typeConverter != foundTypeConverter && typeConverter.isContainsSelector(selectors) && typeConverter.isSupportsSource(source)) {
+                return (TypeConverter<SourceType, TargetType>) typeConverter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 不经过缓存直接查找转换器
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param selectors  已去除null元素的选择器
+     * @return 找到的类型转换器，未找到时返回null
+     */
+    private TypeConverter<?, ?> resolveUncached(Class<?> sourceType, Class<?> targetType, Object[] selectors) {
+        TypeConverter<?, ?> foundTypeConverter = selectCandidate(rankCandidates(sourceType, targetType), selectors);
+        if (foundTypeConverter == null && pathPlanning) {
+            // 没有直接可用的转换器时，尝试经由中间类型组合转换
+            foundTypeConverter = planPath(sourceType, targetType, selectors);
+        }
+        return foundTypeConverter;
+    }
+
+    /**
+     * 在已注册转换器构成的类型图中规划源类型到目标类型的组合转换
+     * <p>
+     * 每一跳只使用实现了{@link LosslessTypeConverter}且对该跳的源类型无损的转换器，中间类型限定为{@link #getPathTypes()}，
+     * 例如Boolean经由Integer转换为BigDecimal、字符串经由Instant按选择器指定的偏移量转换为OffsetDateTime。
+     * 按广度优先搜索跳数最少的路径，最多{@value #MAX_PATH_HOPS}跳，跳数相同时按中间类型的顺序选择。
+     * 按选择器登记的转换器只在传入的选择器命中时使用，不会选中只是作为回退的带选择器转换器（例如某个时区偏移量）。
+     * </p>
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param selectors  已去除null元素的选择器
+     * @return 组合后的转换器，找不到路径时返回null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TypeConverter<?, ?> planPath(Class<?> sourceType, Class<?> targetType, Object[] selectors) {
+        // 记录到达每个类型的上一跳类型及转换器，用于回溯路径
+        Map<Class<?>, Class<?>> previousTypes = new HashMap<>();
+        Map<Class<?>, TypeConverter<?, ?>> previousConverters = new HashMap<>();
+        List<Class<?>> frontier = Collections.singletonList(sourceType);
+        previousTypes.put(sourceType, sourceType);
+        List<Class<?>> nextTypes = new ArrayList<>(pathTypes);
+        nextTypes.remove(targetType);
+        nextTypes.add(0, targetType);
+        for (int hops = 1; hops <= MAX_PATH_HOPS && !frontier.isEmpty(); hops++) {
+            List<Class<?>> nextFrontier = new ArrayList<>();
+            for (Class<?> currentType : frontier) {
+                for (Class<?> nextType : nextTypes) {
+                    if (previousTypes.containsKey(nextType) || (hops == MAX_PATH_HOPS && nextType != targetType)) {
+                        continue;
+                    }
+                    TypeConverter<?, ?> hop = selectPathHop(currentType, rankCandidates(currentType, nextType), selectors);
+                    if (hop == null) {
+                        continue;
+                    }
+                    previousTypes.put(nextType, currentType);
+                    previousConverters.put(nextType, hop);
+                    if (nextType == targetType) {
+                        // 按上一跳回溯出完整路径
+                        List<TypeConverter<?, ?>> path = new ArrayList<>();
+                        for (Class<?> type = targetType; type != sourceType; type = previousTypes.get(type)) {
+                            path.add(0, previousConverters.get(type));
+                        }
+                        return path.size() == 1 ? null : new ChainedTypeConverter(sourceType, targetType, path);
+                    }
+                    nextFrontier.add(nextType);
+                }
+            }
+            frontier = nextFrontier;
+        }
+        return null;
+    }
+
+    /**
+     * 从候选中选出可用于组合路径的一跳
+     * 按选择器登记的转换器只在选择器命中时使用，其余只使用未声明选择器的转换器，并要求转换器对该跳的源类型无损
+     *
+     * @param sourceType 该跳的源类型
+     * @param candidates 由{@link #rankCandidates(Class, Class)}排序的候选
+     * @param selectors  已去除null元素的选择器
+     * @return 可用于组合路径的转换器，没有时返回null
+     */
+    private static TypeConverter<?, ?> selectPathHop(Class<?> sourceType, Object[] candidates, Object[] selectors) {
+        for (Object candidate : candidates) {
+            TypeConverter<?, ?> typeConverter;
+            if (candidate instanceof SourceTypeConverterRegistry) {
+                typeConverter = ((SourceTypeConverterRegistry) candidate).findForPath(selectors);
+            } else {
+                typeConverter = (TypeConverter<?, ?>) candidate;
+                if (!typeConverter.isContainsSelector(ResolutionKey.NO_SELECTORS) && !typeConverter.isContainsSelector(selectors)) {
+                    continue;
+                }
+            }
+            if (typeConverter instanceof LosslessTypeConverter && ((LosslessTypeConverter) typeConverter).isLosslessFrom(sourceType)) {
+                return typeConverter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按继承距离对源类型到目标类型的候选转换器排序
+     * <p>
+     * 沿源类型的父类和接口逐层向上查找，距离最近的祖先类型上登记的特定转换器作为特定候选；
+     * 通用转换器按其声明的源类型与实际源类型的距离排序，距离相同时保持注册顺序，
+     * 声明的源类型不在继承结构中的通用转换器（自定义了源类型判断）排在最后。
+     * 特定候选排在同距离的通用转换器之前，距离不小于特定候选的通用转换器不会被选中，因此不再保留。
+     * </p>
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 候选数组，元素为通用转换器或特定转换器集合{@link SourceTypeConverterRegistry}
+     */
+    private Object[] rankCandidates(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, Integer> distances = hierarchyDistances(sourceType);
+        // 查找距离最近的特定转换器
+        SourceTypeConverterRegistry specific = null;
+        int specificDistance = Integer.MAX_VALUE;
+        for (Map.Entry<Class<?>, Integer> entry : distances.entrySet()) {
+            SourceTypeConverterRegistry sourceTypeConverterRegistry = sourceTypeSlots.get(entry.getKey()).specificConverters.get(targetType);
+            if (sourceTypeConverterRegistry != null) {
+                specific = sourceTypeConverterRegistry;
+                specificDistance = entry.getValue();
+                break;
+            }
+        }
+        // 筛选支持该源类型且比特定转换器更近的通用转换器，按距离稳定排序
+        List<TypeConverter<?, ?>> generics = new ArrayList<>();
+        for (TypeConverter<?, ?> typeConverter : targetTypeSlots.get(targetType).genericConverters) {
+            if (typeConverter.isSupportsSourceType(sourceType) && (specific == null || distanceOf(distances, typeConverter) < specificDistance)) {
+                generics.add(typeConverter);
+            }
+        }
+        generics.sort(Comparator.comparingInt(typeConverter -> distanceOf(distances, typeConverter)));
+        Object[] candidates = generics.toArray(new Object[generics.size() + (specific == null ? 0 : 1)]);
+        if (specific != null) {
+            candidates[generics.size()] = specific;
+        }
+        return candidates;
+    }
+
+    /**
+     * 按顺序在候选中选出第一个匹配选择器的转换器
+     * 特定转换器集合只在没有传入选择器时使用其回退转换器，传入的选择器全部未命中时继续尝试其余候选
+     *
+     * @param candidates 由{@link #rankCandidates(Class, Class)}排序的候选
+     * @param selectors  已去除null元素的选择器
+     * @return 找到的类型转换器，未找到时返回null
+     */
+    private static TypeConverter<?, ?> selectCandidate(Object[] candidates, Object[] selectors) {
+        for (Object candidate : candidates) {
+            if (candidate instanceof SourceTypeConverterRegistry) {
+                TypeConverter<?, ?> typeConverter = ((SourceTypeConverterRegistry) candidate).find(selectors);
+                if (typeConverter != null) {
+                    return typeConverter;
+                }
+                continue;
+            }
+            TypeConverter<?, ?> typeConverter = (TypeConverter<?, ?>) candidate;
+            if (typeConverter.isContainsSelector(selectors)) {
+                return typeConverter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按广度优先顺序计算源类型的自身、父类和接口到源类型的继承距离
+     * 同一距离上父类排在接口之前，接口按声明顺序排列
+     *
+     * @param sourceType 源类型
+     * @return 按距离从近到远排列的类型及其距离
+     */
+    private static Map<Class<?>, Integer> hierarchyDistances(Class<?> sourceType) {
+        Map<Class<?>, Integer> distances = new LinkedHashMap<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        distances.put(sourceType, 0);
+        queue.add(sourceType);
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            Integer distance = distances.get(type) + 1;
+            Class<?> superclass = type.getSuperclass();
+            if (superclass != null && distances.putIfAbsent(superclass, distance) == null) {
+                queue.add(superclass);
+            }
+            for (Class<?> interfaceType : type.getInterfaces()) {
+                if (distances.putIfAbsent(interfaceType, distance) == null) {
+                    queue.add(interfaceType);
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * 获取通用转换器声明的源类型到实际源类型的继承距离
+     *
+     * @param distances 实际源类型的继承距离
+     * @param converter 通用转换器
+     * @return 继承距离，声明的源类型不在继承结构中时返回{@link Integer#MAX_VALUE}
+     */
+    private static int distanceOf(Map<Class<?>, Integer> distances, TypeConverter<?, ?> converter) {
+        Integer distance = distances.get(converter.supportsSourceType());
+        return distance == null ? Integer.MAX_VALUE : distance;
+    }
+
+    /**
+     * 基本类型目标，描述目标包装类型、直接得到基本类型值的转换器接口，以及基本类型值与long值之间的换算
+     *
+     * @param <C>          直接得到基本类型值的转换器接口
+     * @param <TargetType> 基本类型的包装类型
+     */
+    private abstract static class PrimitiveTarget<C, TargetType> {
+        /**
+         * int目标，long值即int值
+         */
+        static final PrimitiveTarget<ToIntTypeConverter<Object>, Integer> TO_INT = new PrimitiveTarget<ToIntTypeConverter<Object>, Integer>(Integer.class, ToIntTypeConverter.class) {
+            @Override
+            long convert(ToIntTypeConverter<Object> typeConverter, Object source, long targetDefault) throws Throwable {
+                return typeConverter.convertsUncheckedToInt(source, (int) targetDefault);
+            }
+
+            @Override
+            long unbox(Integer target) {
+                return target;
+            }
+        };
+        /**
+         * long目标
+         */
+        static final PrimitiveTarget<ToLongTypeConverter<Object>, Long> TO_LONG = new PrimitiveTarget<ToLongTypeConverter<Object>, Long>(Long.class, ToLongTypeConverter.class) {
+            @Override
+            long convert(ToLongTypeConverter<Object> typeConverter, Object source, long targetDefault) throws Throwable {
+                return typeConverter.convertsUncheckedToLong(source, targetDefault);
+            }
+
+            @Override
+            long unbox(Long target) {
+                return target;
+            }
+        };
+        /**
+         * double目标，long值为double的原始位
+         */
+        static final PrimitiveTarget<ToDoubleTypeConverter<Object>, Double> TO_DOUBLE = new PrimitiveTarget<ToDoubleTypeConverter<Object>, Double>(Double.class, ToDoubleTypeConverter.class) {
+            @Override
+            long convert(ToDoubleTypeConverter<Object> typeConverter, Object source, long targetDefault) throws Throwable {
+                return Double.doubleToRawLongBits(typeConverter.convertsUncheckedToDouble(source, Double.longBitsToDouble(targetDefault)));
+            }
+
+            @Override
+            long unbox(Double target) {
+                return Double.doubleToRawLongBits(target);
+            }
+        };
+        /**
+         * boolean目标，long值1表示true，0表示false
+         */
+        static final PrimitiveTarget<ToBooleanTypeConverter<Object>, Boolean> TO_BOOLEAN = new PrimitiveTarget<ToBooleanTypeConverter<Object>, Boolean>(Boolean.class, ToBooleanTypeConverter.class) {
+            @Override
+            long convert(ToBooleanTypeConverter<Object> typeConverter, Object source, long targetDefault) throws Throwable {
+                return typeConverter.convertsUncheckedToBoolean(source, targetDefault != 0L) ? 1L : 0L;
+            }
+
+            @Override
+            long unbox(Boolean target) {
+                return target ? 1L : 0L;
+            }
+        };
+        /**
+         * 目标包装类型
+         */
+        final Class<TargetType> targetType;
+        /**
+         * 直接得到基本类型值的转换器接口
+         */
+        final Class<?> converterType;
+
+        private PrimitiveTarget(Class<TargetType> targetType, Class<?> converterType) {
+            this.targetType = targetType;
+            this.converterType = converterType;
+        }
+
+        /**
+         * 由转换器直接得到基本类型值并换算为long值
+         *
+         * @param typeConverter 直接得到基本类型值的转换器
+         * @param source        源对象
+         * @param targetDefault 默认值对应的long值
+         * @return 转换结果对应的long值
+         * @throws Throwable 转换过程中发生错误时抛出
+         */
+        abstract long convert(C typeConverter, Object source, long targetDefault) throws Throwable;
+
+        /**
+         * 将包装类型的转换结果换算为long值
+         *
+         * @param target 转换结果，不为null
+         * @return 转换结果对应的long值
+         */
+        abstract long unbox(TargetType target);
+    }
+
+    /**
+     * 带选择器的解析缓存的键，由目标类型和去除null元素后的选择器组成
+     */
+    private static final class ResolutionKey {
+        /**
+         * 空选择器数组，避免无选择器时重复分配
+         */
+        private static final Object[] NO_SELECTORS = new Object[0];
+        /**
+         * 目标类型
+         */
+        private final Class<?> targetType;
+        /**
+         * 去除null元素后的选择器
+         */
+        private final Object[] selectors;
+        /**
+         * 预先计算的哈希值
+         */
+        private final int hash;
+
+        private ResolutionKey(Class<?> targetType, Object[] selectors) {
+            this.targetType = targetType;
+            this.selectors = selectors;
+            this.hash = 31 * targetType.hashCode() + Arrays.hashCode(selectors);
         }
-        // 如果没有找到精确匹配的转换器，则遍历通用转换器列表
-        for (TypeConverter<?, ?> typeConverter : targetTypeConverterRegistry.genericConverters) {
-            if (typeConverter.isCanConvert(source, selectors)) {
-                //noinspection unchecked
-                foundTypeConverter = (TypeConverter<SourceType, TargetType>) typeConverter;
-                // 验证转换器是否支持目标类型
-                return TypeConverter.performConversion(sourceType, source, targetType, targetDefault, foundTypeConverter, false);
+
+        /**
+         * 去除选择器中的null元素，没有null元素时直接复用原数组
+         *
+         * @param selectors 原始选择器，可以为null
+         * @return 不包含null元素的选择器数组
+         */
+        private static Object[] normalize(Object[] selectors) {
+            if (selectors == null || selectors.length == 0) {
+                return NO_SELECTORS;
+            }
+            int count = 0;
+            for (Object selector : selectors) {
+                if (selector != null) count++;
+            }
+            if (count == selectors.length) {
+                return selectors;
+            }
+            if (count == 0) {
+                return NO_SELECTORS;
             }
+            Object[] result = new Object[count];
+            for (int i = 0, j = 0; i < selectors.length; i++) {
+                if (selectors[i] != null) result[j++] = selectors[i];
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ResolutionKey)) return false;
+            ResolutionKey that = (ResolutionKey) o;
+            return hash == that.hash && targetType == that.targetType && Arrays.equals(selectors, that.selectors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 按目标类型分配{@link TargetTypeConverterRegistry}的数据槽
+     * 数据保存在目标类型的Class对象上，目标类型被卸载时随之回收
+     */
+    private static final class TargetTypeSlots extends ClassValue<TargetTypeConverterRegistry> {
+        @Override
+        protected TargetTypeConverterRegistry computeValue(Class<?> type) {
+            return new TargetTypeConverterRegistry();
+        }
+    }
+
+    /**
+     * 按源类型分配{@link SourceTypeSlot}的数据槽
+     * 数据保存在源类型的Class对象上，源类型被卸载时随之回收
+     */
+    private static final class SourceTypeSlots extends ClassValue<SourceTypeSlot> {
+        /**
+         * 解析过转换器的源类型，以弱引用保存
+         */
+        private final Set<Class<?>> resolvedSourceTypes;
+
+        private SourceTypeSlots(Set<Class<?>> resolvedSourceTypes) {
+            this.resolvedSourceTypes = resolvedSourceTypes;
+        }
+
+        @Override
+        protected SourceTypeSlot computeValue(Class<?> type) {
+            resolvedSourceTypes.add(type);
+            return new SourceTypeSlot();
         }
-        // 如果没有找到任何适用的转换器，返回默认值
-        return targetDefault;
     }
 
     /**
-     * 类型映射内部类，用于存储特定目标类型的所有转换器
-     * 包括精确类型匹配的转换器映射表和通用转换器列表
+     * 类型映射内部类，用于存储特定目标类型的通用转换器
+     * 特定源类型的转换器登记在对应源类型的{@link SourceTypeSlot}中
      */
     private static final class TargetTypeConverterRegistry {
+        /**
+         * 通用转换器列表，用于处理源类型不明确的转换器
+         */
+        private final List<TypeConverter<?, ?>> genericConverters = new CopyOnWriteArrayList<>();
+        /**
+         * 标识该目标类型是否注册过转换器
+         */
+        private volatile boolean registered;
+    }
+
+    /**
+     * 源类型数据槽，保存该源类型的特定转换器和解析结果缓存
+     */
+    private static final class SourceTypeSlot {
         /**
          * 精确类型匹配的转换器映射表
-         * key: 源类型
+         * key: 目标类型
+         * value: 该源类型到目标类型按选择器索引的转换器
+         */
+        private final Map<Class<?>, SourceTypeConverterRegistry> specificConverters = new ConcurrentHashMap<>();
+        /**
+         * 解析结果缓存，版本号过期时整体替换
+         */
+        private volatile ResolutionCache resolutionCache = new ResolutionCache(0);
+
+        /**
+         * 登记特定源类型的转换器
+         *
+         * @param targetType 目标类型
+         * @param converter  要注册的转换器
+         */
+        private void register(Class<?> targetType, TypeConverter<?, ?> converter) {
+            specificConverters.computeIfAbsent(targetType, k -> new SourceTypeConverterRegistry()).register(converter);
+        }
+
+        /**
+         * 移除特定源类型的转换器，目标类型下没有其他转换器时同时移除该目标类型的登记
+         *
+         * @param targetType 目标类型
+         * @param converter  要移除的转换器
+         */
+        private void unregister(Class<?> targetType, TypeConverter<?, ?> converter) {
+            specificConverters.computeIfPresent(targetType, (k, registry) -> registry.without(converter));
+        }
+
+        /**
+         * 获取指定版本号的解析结果缓存
+         * 当前缓存版本较旧时替换为新缓存；调用方持有的版本号已经过期时返回一次性的缓存，避免污染当前缓存
+         *
+         * @param generation 解析开始前读取的注册版本号
+         * @return 解析结果缓存
+         */
+        private ResolutionCache cache(int generation) {
+            ResolutionCache cache = resolutionCache;
+            if (cache.generation != generation) {
+                cache = new ResolutionCache(generation);
+                if (resolutionCache.generation - generation < 0) {
+                    resolutionCache = cache;
+                }
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * 某一源类型在某一注册版本下的解析结果缓存
+     */
+    private static final class ResolutionCache {
+        /**
+         * 缓存对应的注册版本号
+         */
+        private final int generation;
+        /**
+         * 无选择器的解析结果
+         * key: 目标类型
+         * value: 解析出的类型转换器，未找到时为{@link #UNRESOLVED}
+         */
+        private final Map<Class<?>, TypeConverter<?, ?>> resolvedConverters = new ConcurrentHashMap<>();
+        /**
+         * 带选择器的解析结果
+         * key: 目标类型及选择器的组合
+         * value: 解析出的类型转换器，未找到时为{@link #UNRESOLVED}
+         */
+        private final Map<ResolutionKey, TypeConverter<?, ?>> selectedConverters = new ConcurrentHashMap<>();
+
+        private ResolutionCache(int generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * 同一源类型、同一目标类型下的特定转换器集合，按规范化后的选择器建立索引
+     * 例如各个时区偏移量的LocalDateTime到Instant转换器分别以"+8"、"+08:00"等选择器登记，互不覆盖
+     */
+    private static final class SourceTypeConverterRegistry {
+        /**
+         * 按选择器索引的转换器
+         * key: 规范化后的选择器，字符串选择器统一转换为小写
          * value: 对应的类型转换器
          */
-        private final Map<Class<?>, TypeConverter<?, ?>> specificConverters;
+        private final Map<Object, TypeConverter<?, ?>> selectedConverters;
         /**
-         * 通用转换器列表，用于处理源类型不明确的转换器
+         * 没有传入选择器时使用的转换器
+         * 优先为未声明选择器的转换器，否则为最后注册的转换器，与按源类型覆盖注册时的行为保持一致
+         */
+        private volatile TypeConverter<?, ?> fallbackConverter;
+        /**
+         * 标识回退转换器是否为未声明选择器的转换器
          */
-        private final List<TypeConverter<?, ?>> genericConverters;
+        private volatile boolean fallbackWithoutSelector;
 
-        private TargetTypeConverterRegistry(TargetTypeConverterRegistry targetTypeConverterRegistry) {
-            this.specificConverters = new ConcurrentHashMap<>(targetTypeConverterRegistry.specificConverters);
-            this.genericConverters = new CopyOnWriteArrayList<>(targetTypeConverterRegistry.genericConverters);
+        /**
+         * 按注册顺序保存的转换器，用于注销后重建索引
+         */
+        private final List<TypeConverter<?, ?>> converters;
+
+        private SourceTypeConverterRegistry() {
+            this.selectedConverters = new ConcurrentHashMap<>();
+            this.converters = new CopyOnWriteArrayList<>();
         }
 
-        private TargetTypeConverterRegistry() {
-            this.specificConverters = new ConcurrentHashMap<>();
-            this.genericConverters = new CopyOnWriteArrayList<>();
+        /**
+         * 创建移除了指定转换器的新集合，其余转换器按原注册顺序重新登记
+         *
+         * @param converter 要移除的转换器
+         * @return 新的集合，没有剩余的转换器时返回null
+         */
+        private SourceTypeConverterRegistry without(TypeConverter<?, ?> converter) {
+            SourceTypeConverterRegistry registry = new SourceTypeConverterRegistry();
+            for (TypeConverter<?, ?> typeConverter : converters) {
+                if (typeConverter != converter) {
+                    registry.register(typeConverter);
+                }
+            }
+            return registry.converters.isEmpty() ? null : registry;
         }
 
         /**
-         * 将转换器注册到指定的类型映射中
+         * 注册转换器，以其支持的每个选择器建立索引
          *
          * @param converter 要注册的转换器
          */
         private void register(TypeConverter<?, ?> converter) {
-            // 获取转换器支持的源类型
-            Class<?> sourceType = converter.supportsSourceType();
-            if (converter.isSpecific()) {
-                // 如果源类型明确指定，则使用精确映射
-                specificConverters.put(sourceType, converter);
-            } else {
-                // 如果源类型未明确指定，则添加到通用转换器列表中
-                genericConverters.add(converter);
+            converters.add(converter);
+            Object[] supportedSelectors = converter.getSupportedSelectors();
+            for (Object supportedSelector : supportedSelectors) {
+                selectedConverters.put(normalizeSelector(supportedSelector), converter);
+            }
+            if (supportedSelectors.length == 0) {
+                fallbackConverter = converter;
+                fallbackWithoutSelector = true;
+            } else if (!fallbackWithoutSelector) {
+                fallbackConverter = converter;
+            }
+        }
+
+        /**
+         * 按选择器查找转换器，依次尝试每个选择器，没有传入选择器或没有按选择器登记的转换器时返回回退转换器
+         * 与{@link TypeConverter#isContainsSelector(Object...)}一致，字符串选择器忽略大小写，
+         * 非字符串选择器同时尝试其自身和其字符串形式；存在按选择器登记的转换器而传入的选择器全部未命中时不使用回退转换器，
+         * 避免例如"UTC"这类未登记的时区选择器被静默地按最后注册的偏移量转换
+         *
+         * @param selectors 已去除null元素的选择器
+         * @return 找到的类型转换器，按选择器登记的转换器全部未命中时返回null
+         */
+        private TypeConverter<?, ?> find(Object[] selectors) {
+            if (selectors.length == 0 || selectedConverters.isEmpty()) {
+                return fallbackConverter;
             }
+            for (Object selector : selectors) {
+                TypeConverter<?, ?> converter = selectedConverters.get(normalizeSelector(selector));
+                if (converter == null && !(selector instanceof String)) {
+                    converter = selectedConverters.get(normalizeSelector(selector.toString()));
+                }
+                if (converter != null) {
+                    return converter;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 查找可用于组合路径的转换器：传入的选择器命中按选择器登记的转换器时使用该转换器，
+         * 否则只使用未声明选择器的回退转换器，不会选中只是作为回退的带选择器转换器
+         *
+         * @param selectors 已去除null元素的选择器
+         * @return 找到的类型转换器，没有时返回null
+         */
+        private TypeConverter<?, ?> findForPath(Object[] selectors) {
+            if (selectors.length > 0 && !selectedConverters.isEmpty()) {
+                TypeConverter<?, ?> converter = find(selectors);
+                if (converter != null) {
+                    return converter;
+                }
+            }
+            return fallbackWithoutSelector ? fallbackConverter : null;
+        }
+
+        /**
+         * 规范化选择器，字符串选择器转换为小写，其他选择器保持不变
+         *
+         * @param selector 选择器
+         * @return 规范化后的选择器
+         */
+        private static Object normalizeSelector(Object selector) {
+            return selector instanceof String ? ((String) selector).toLowerCase(Locale.ROOT) : selector;
+        }
+    }
+
+    /**
+     * 冻结实例使用的只读分派表
+     * <p>
+     * 目标类型和已知源类型分别映射为连续的整数编号，无选择器的解析结果预先计算到二维数组中，
+     * 带选择器时按编号取得该源类型按继承距离排好序的候选转换器。构建完成后不再修改任何字段。
+     * </p>
+     */
+    private static final class FrozenDispatchTable {
+        /**
+         * 没有候选转换器时共享的空数组
+         */
+        private static final Object[] NO_CANDIDATES = new Object[0];
+        /**
+         * 目标类型编号索引
+         */
+        private final ClassIndex targetIndex;
+        /**
+         * 源类型编号索引
+         */
+        private final ClassIndex sourceIndex;
+        /**
+         * 无选择器时的解析结果，[目标类型编号][源类型编号]，没有直接可用的转换器时为null
+         */
+        private final TypeConverter<?, ?>[][] resolvedConverters;
+        /**
+         * 按继承距离排序的候选转换器，[目标类型编号][源类型编号][]
+         */
+        private final Object[][][] candidates;
+        /**
+         * 是否规划组合转换路径，冻结后不再改变
+         */
+        private final boolean pathPlanning;
+
+        private FrozenDispatchTable(TypeConverterManager typeConverterManager, Set<Class<?>> knownSourceTypes) {
+            this.pathPlanning = typeConverterManager.pathPlanning;
+            Set<Class<?>> targetTypeSet = new LinkedHashSet<>();
+            Set<Class<?>> sourceTypeSet = new LinkedHashSet<>(knownSourceTypes);
+            for (TypeConverter<?, ?> typeConverter : typeConverterManager.registeredConverters) {
+                targetTypeSet.add(typeConverter.supportsTargetType());
+                sourceTypeSet.add(typeConverter.supportsSourceType());
+            }
+            List<Class<?>> targetTypes = new ArrayList<>(targetTypeSet);
+            List<Class<?>> sourceTypes = new ArrayList<>(sourceTypeSet);
+            this.targetIndex = new ClassIndex(targetTypes);
+            this.sourceIndex = new ClassIndex(sourceTypes);
+            int targetCount = targetTypes.size(), sourceCount = sourceTypes.size();
+            this.resolvedConverters = new TypeConverter<?, ?>[targetCount][sourceCount];
+            this.candidates = new Object[targetCount][sourceCount][];
+            for (int targetId = 0; targetId < targetCount; targetId++) {
+                Class<?> targetType = targetTypes.get(targetId);
+                for (int sourceId = 0; sourceId < sourceCount; sourceId++) {
+                    Object[] ranked = typeConverterManager.rankCandidates(sourceTypes.get(sourceId), targetType);
+                    this.candidates[targetId][sourceId] = ranked.length == 0 ? NO_CANDIDATES : ranked;
+                    this.resolvedConverters[targetId][sourceId] = selectCandidate(ranked, ResolutionKey.NO_SELECTORS);
+                }
+            }
+        }
+
+        /**
+         * 解析指定源类型到目标类型的转换器
+         *
+         * @param sourceType 源类型
+         * @param targetType 目标类型
+         * @param selectors  已去除null元素的选择器
+         * @return 找到的类型转换器，未找到时返回null，源类型未编号或需要规划组合路径时返回{@link #UNRESOLVED}
+         */
+        private TypeConverter<?, ?> resolve(Class<?> sourceType, Class<?> targetType, Object[] selectors) {
+            int targetId = targetIndex.indexOf(targetType);
+            if (targetId < 0) {
+                return null;
+            }
+            int sourceId = sourceIndex.indexOf(sourceType);
+            if (sourceId < 0) {
+                return UNRESOLVED;
+            }
+            if (selectors.length == 0) {
+                TypeConverter<?, ?> resolved = resolvedConverters[targetId][sourceId];
+                // 没有直接可用的转换器时交由源类型的数据槽规划组合路径并缓存
+                return resolved == null ? UNRESOLVED : resolved;
+            }
+            TypeConverter<?, ?> selected = selectCandidate(candidates[targetId][sourceId], selectors);
+            return selected != null || !pathPlanning ? selected : UNRESOLVED;
+        }
+    }
+
+    /**
+     * 不可变的类型编号索引，使用开放寻址和引用比较将Class对象映射为连续的整数编号
+     */
+    private static final class ClassIndex {
+        /**
+         * 散列槽中的类型，空槽为null
+         */
+        private final Class<?>[] keys;
+        /**
+         * 散列槽中类型对应的编号
+         */
+        private final int[] ids;
+        /**
+         * 散列槽数量减一，槽数量为2的幂
+         */
+        private final int mask;
+
+        private ClassIndex(List<Class<?>> types) {
+            int capacity = Integer.highestOneBit(Math.max(types.size(), 1) * 2 - 1) << 1;
+            this.keys = new Class<?>[capacity];
+            this.ids = new int[capacity];
+            this.mask = capacity - 1;
+            for (int id = 0; id < types.size(); id++) {
+                Class<?> type = types.get(id);
+                int i = slot(type);
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = type;
+                ids[i] = id;
+            }
+        }
+
+        /**
+         * 获取类型对应的编号
+         *
+         * @param type 类型
+         * @return 类型编号，不存在时返回-1
+         */
+        private int indexOf(Class<?> type) {
+            for (int i = slot(type); ; i = (i + 1) & mask) {
+                Class<?> key = keys[i];
+                if (key == type) {
+                    return ids[i];
+                }
+                if (key == null) {
+                    return -1;
+                }
+            }
+        }
+
+        /**
+         * 计算类型的初始散列槽
+         *
+         * @param type 类型
+         * @return 散列槽下标
+         */
+        private int slot(Class<?> type) {
+            int h = System.identityHashCode(type);
+            return (h ^ (h >>> 16)) & mask;
         }
     }
 }
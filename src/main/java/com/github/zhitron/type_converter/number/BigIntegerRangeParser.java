@@ -0,0 +1,182 @@
+package com.github.zhitron.type_converter.number;
+
+import java.math.BigInteger;
+
+/**
+ * 直接在字符序列的指定范围上解析BigInteger
+ * <p>
+ * 解析规则与{@link BigInteger#BigInteger(String)}一致，结果和抛出的异常也完全相同。
+ * BigInteger的字符串构造函数逐组乘10累加，耗时与位数的平方成正比，十万位以上的数值需要数秒。
+ * 位数超过{@link #THRESHOLD}时改为分治解析：把数字序列从低位切出{@code BASE_DIGITS * 2^k}位，
+ * 两部分分别递归解析后按{@code high * 10^(BASE_DIGITS * 2^k) + low}合并，其中10的幂按k缓存，
+ * 乘法使用BigInteger内置的Karatsuba和Toom-Cook算法，整体耗时低于平方级。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class BigIntegerRangeParser {
+    /**
+     * 数字位数超过此值时使用分治解析，较短的数值直接使用BigInteger的构造函数更快
+     */
+    static final int THRESHOLD = 2_000;
+    /**
+     * 分治的最小块的位数，不超过此位数的部分直接使用BigInteger的构造函数解析
+     */
+    private static final int BASE_DIGITS = 288;
+    /**
+     * 缓存的10的幂，第k个元素为{@code 10^(BASE_DIGITS * 2^k)}，按需扩展
+     */
+    private static volatile BigInteger[] powers = {BigInteger.TEN.pow(BASE_DIGITS)};
+
+    private BigIntegerRangeParser() {
+    }
+
+    /**
+     * 解析字符序列指定范围内的十进制整数
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的BigInteger
+     * @throws NumberFormatException 当范围内不是有效的整数时抛出
+     */
+    static BigInteger parse(CharSequence source, int start, int end) {
+        int digitsStart = start;
+        if (start < end && (source.charAt(start) == '-' || source.charAt(start) == '+')) {
+            digitsStart++;
+        }
+        if (end - digitsStart <= THRESHOLD || !isDigits(source, digitsStart, end)) {
+            return new BigInteger(toString(source, start, end));
+        }
+        BigInteger magnitude = parseDigits(source, digitsStart, end);
+        return source.charAt(start) == '-' ? magnitude.negate() : magnitude;
+    }
+
+    /**
+     * 尝试解析字符序列指定范围内的十进制整数，格式错误时返回null而不抛出异常
+     * 与{@link #parse(CharSequence, int, int)}相比只在解析前检查一次数字
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的BigInteger，格式错误时返回null
+     */
+    static BigInteger tryParse(CharSequence source, int start, int end) {
+        int digitsStart = start;
+        if (start < end && (source.charAt(start) == '-' || source.charAt(start) == '+')) {
+            digitsStart++;
+        }
+        if (!isDigits(source, digitsStart, end)) {
+            return null;
+        }
+        if (end - digitsStart <= THRESHOLD) {
+            return new BigInteger(toString(source, start, end));
+        }
+        BigInteger magnitude = parseDigits(source, digitsStart, end);
+        return source.charAt(start) == '-' ? magnitude.negate() : magnitude;
+    }
+
+    /**
+     * 解析只包含十进制数字的范围，不检查字符是否为数字
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的非负整数，范围为空时返回0
+     */
+    static BigInteger parseDigits(CharSequence source, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return BigInteger.ZERO;
+        }
+        if (length <= BASE_DIGITS) {
+            return new BigInteger(toString(source, start, end));
+        }
+        // 低位部分取不小于一半位数的BASE_DIGITS * 2^k位，使其对应的10的幂可以复用
+        int k = 0;
+        while ((long) BASE_DIGITS << (k + 1) < length) {
+            k++;
+        }
+        int split = end - (BASE_DIGITS << k);
+        BigInteger high = parseDigits(source, start, split);
+        BigInteger low = parseDigits(source, split, end);
+        return high.multiply(power(k)).add(low);
+    }
+
+    /**
+     * 判断字符序列指定范围内是否为BigInteger的字符串构造函数可以接受的格式，判断过程不创建任何对象
+     * 返回true时{@link #parse(CharSequence, int, int)}不会抛出异常
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 格式有效时返回true
+     */
+    static boolean isValid(CharSequence source, int start, int end) {
+        if (start < end && (source.charAt(start) == '-' || source.charAt(start) == '+')) {
+            start++;
+        }
+        return isDigits(source, start, end);
+    }
+
+    /**
+     * 判断范围内是否全部为十进制数字且不为空
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 全部为数字时返回true
+     */
+    static boolean isDigits(CharSequence source, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if ((c < '0' || c > '9') && Character.digit(c, 10) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取缓存的10的幂
+     *
+     * @param k 序号
+     * @return {@code 10^(BASE_DIGITS * 2^k)}
+     */
+    private static BigInteger power(int k) {
+        BigInteger[] cache = powers;
+        if (k < cache.length) {
+            return cache[k];
+        }
+        synchronized (BigIntegerRangeParser.class) {
+            cache = powers;
+            if (k >= cache.length) {
+                BigInteger[] grown = new BigInteger[k + 1];
+                System.arraycopy(cache, 0, grown, 0, cache.length);
+                for (int i = cache.length; i <= k; i++) {
+                    grown[i] = grown[i - 1].multiply(grown[i - 1]);
+                }
+                powers = cache = grown;
+            }
+            return cache[k];
+        }
+    }
+
+    /**
+     * 获取字符序列指定范围的字符串，范围为整个字符串时直接返回源字符串
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 指定范围的字符串
+     */
+    static String toString(CharSequence source, int start, int end) {
+        if (start == 0 && end == source.length()) {
+            return source.toString();
+        }
+        return source.subSequence(start, end).toString();
+    }
+}
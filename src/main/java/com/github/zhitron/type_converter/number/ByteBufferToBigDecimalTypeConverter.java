@@ -0,0 +1,56 @@
+package com.github.zhitron.type_converter.number;
+
+import com.github.zhitron.type_converter.AsciiCharSequence;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.TypeConverter;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer到BigDecimal类型转换器
+ * <p>
+ * 将缓冲区position到limit之间的ASCII字节视为字符序列，转换规则与{@link CharSequenceToBigDecimalTypeConverter}一致。
+ * 通过{@link AsciiCharSequence}直接读取堆缓冲区或直接缓冲区中的字节，不解码、不复制，也不改变缓冲区的position。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class ByteBufferToBigDecimalTypeConverter extends TypeConverter<ByteBuffer, BigDecimal> {
+    /**
+     * 单例实例
+     */
+    public static final ByteBufferToBigDecimalTypeConverter INSTANCE = new ByteBufferToBigDecimalTypeConverter();
+
+    /**
+     * 构造函数，初始化源类型为ByteBuffer.class，目标类型为BigDecimal.class
+     */
+    protected ByteBufferToBigDecimalTypeConverter() {
+        super(ByteBuffer.class, BigDecimal.class);
+    }
+
+    /**
+     * 将缓冲区中的字节转换为BigDecimal对象
+     *
+     * @param source 源缓冲区
+     * @return 转换后的BigDecimal对象，空白内容时返回null
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public BigDecimal convertsUnchecked(ByteBuffer source) throws Throwable {
+        return CharSequenceToBigDecimalTypeConverter.INSTANCE.convertsUnchecked(AsciiCharSequence.of(source));
+    }
+
+    /**
+     * 尝试将缓冲区中的字节转换为BigDecimal对象，转换规则与{@link #convertsUnchecked(ByteBuffer)}一致，转换失败时不创建异常对象
+     *
+     * @param source 源缓冲区
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(ByteBuffer source, ConversionResult<? super BigDecimal> result) {
+        return CharSequenceToBigDecimalTypeConverter.INSTANCE.tryConvertsUnchecked(AsciiCharSequence.of(source), result);
+    }
+}
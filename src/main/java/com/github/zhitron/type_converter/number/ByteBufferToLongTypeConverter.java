@@ -0,0 +1,69 @@
+package com.github.zhitron.type_converter.number;
+
+import com.github.zhitron.type_converter.AsciiCharSequence;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.primitive.ToLongTypeConverter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer到Long类型转换器
+ * <p>
+ * 将缓冲区position到limit之间的ASCII字节视为字符序列，转换规则与{@link CharSequenceToLongTypeConverter}一致。
+ * 通过{@link AsciiCharSequence}直接读取堆缓冲区或直接缓冲区中的字节，不解码、不复制，也不改变缓冲区的position，并直接得到基本类型值。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class ByteBufferToLongTypeConverter extends TypeConverter<ByteBuffer, Long> implements ToLongTypeConverter<ByteBuffer> {
+    /**
+     * 单例实例
+     */
+    public static final ByteBufferToLongTypeConverter INSTANCE = new ByteBufferToLongTypeConverter();
+
+    /**
+     * 构造函数，初始化源类型为ByteBuffer.class，目标类型为Long.class
+     */
+    protected ByteBufferToLongTypeConverter() {
+        super(ByteBuffer.class, Long.class);
+    }
+
+    /**
+     * 将缓冲区中的字节转换为Long对象
+     *
+     * @param source 源缓冲区
+     * @return 转换后的Long对象，空白内容时返回null
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public Long convertsUnchecked(ByteBuffer source) throws Throwable {
+        return CharSequenceToLongTypeConverter.INSTANCE.convertsUnchecked(AsciiCharSequence.of(source));
+    }
+
+    /**
+     * 把缓冲区剩余字节按ASCII字符交给{@link CharSequenceToLongTypeConverter}解析，不移动缓冲区位置
+     *
+     * @param source        源缓冲区
+     * @param targetDefault 默认值，当对应的装箱转换结果为null时返回
+     * @return 转换后的长整型值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public long convertsUncheckedToLong(ByteBuffer source, long targetDefault) throws Throwable {
+        return CharSequenceToLongTypeConverter.INSTANCE.convertsUncheckedToLong(AsciiCharSequence.of(source), targetDefault);
+    }
+
+    /**
+     * 尝试将缓冲区中的字节转换为Long对象，转换规则与{@link #convertsUnchecked(ByteBuffer)}一致，转换失败时不创建异常对象
+     *
+     * @param source 源缓冲区
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(ByteBuffer source, ConversionResult<? super Long> result) {
+        return CharSequenceToLongTypeConverter.INSTANCE.tryConvertsUnchecked(AsciiCharSequence.of(source), result);
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 
 import java.math.BigDecimal;
 
@@ -14,7 +16,7 @@ import java.math.BigDecimal;
  *
  * @author zhitron
  */
-public class CharSequenceToBigDecimalTypeConverter extends CharSequenceTypeConverter<CharSequence, BigDecimal> {
+public class CharSequenceToBigDecimalTypeConverter extends CharSequenceTypeConverter<CharSequence, BigDecimal> implements LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -38,4 +40,33 @@ public class CharSequenceToBigDecimalTypeConverter extends CharSequenceTypeConve
     protected BigDecimal convertsUncheckedString(String input) throws Throwable {
         return StringToBigDecimalTypeConverter.INSTANCE.convertsUnchecked(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析BigDecimal，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的BigDecimal对象
+     * @throws NumberFormatException 当范围内不是有效的十进制数时抛出
+     */
+    @Override
+    protected BigDecimal convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return DecimalRangeParser.parse(source, start, end);
+    }
+
+    /**
+     * 由{@link DecimalRangeParser}解析十进制小数及指数形式，格式错误时失败
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(CharSequence source, int start, int end, ConversionResult<? super BigDecimal> result) {
+        BigDecimal value = DecimalRangeParser.tryParse(source, start, end);
+        return value != null ? result.succeed(value) : result.fail();
+    }
 }
@@ -1,6 +1,8 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 
 import java.math.BigInteger;
 
@@ -8,13 +10,13 @@ import java.math.BigInteger;
  * 字符串到BigInteger类型转换器
  * <p>
  * 用于将字符串转换为BigInteger类型。
- * 该转换器直接使用BigInteger的构造函数进行转换。
+ * 解析规则和结果与BigInteger的字符串构造函数一致，位数很多时使用分治解析。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
  * @author zhitron
  */
-public class CharSequenceToBigIntegerTypeConverter extends CharSequenceTypeConverter<CharSequence, BigInteger> {
+public class CharSequenceToBigIntegerTypeConverter extends CharSequenceTypeConverter<CharSequence, BigInteger> implements LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -38,4 +40,33 @@ public class CharSequenceToBigIntegerTypeConverter extends CharSequenceTypeConve
     protected BigInteger convertsUncheckedString(String input) throws Throwable {
         return StringToBigIntegerTypeConverter.INSTANCE.convertsUnchecked(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析BigInteger，位数很多时使用分治解析
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的BigInteger对象
+     * @throws NumberFormatException 当范围内不是有效的整数时抛出
+     */
+    @Override
+    protected BigInteger convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return BigIntegerRangeParser.parse(source, start, end);
+    }
+
+    /**
+     * 由{@link BigIntegerRangeParser}解析任意长度的十进制整数，格式错误时失败
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(CharSequence source, int start, int end, ConversionResult<? super BigInteger> result) {
+        BigInteger value = BigIntegerRangeParser.tryParse(source, start, end);
+        return value != null ? result.succeed(value) : result.fail();
+    }
 }
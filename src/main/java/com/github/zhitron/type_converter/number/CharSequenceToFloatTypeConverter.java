@@ -1,6 +1,7 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
 
 /**
  * 字符串到Float类型转换器
@@ -36,4 +37,33 @@ public class CharSequenceToFloatTypeConverter extends CharSequenceTypeConverter<
     protected Float convertsUncheckedString(String input) throws Throwable {
         return StringToFloatTypeConverter.INSTANCE.convertsUnchecked(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析float值，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的Float对象
+     * @throws NumberFormatException 当范围内不是有效的浮点数时抛出
+     */
+    @Override
+    protected Float convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return FloatingPointParser.parseFloat(source, start, end);
+    }
+
+    /**
+     * 由{@link FloatingPointParser#tryParseFloat(CharSequence, int, int)}解析，格式错误时失败
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(CharSequence source, int start, int end, ConversionResult<? super Float> result) {
+        Float value = FloatingPointParser.tryParseFloat(source, start, end);
+        return value != null ? result.succeed(value) : result.fail();
+    }
 }
@@ -1,6 +1,9 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
+import com.github.zhitron.type_converter.primitive.ToIntTypeConverter;
 
 /**
  * 字符串到Integer类型转换器
@@ -12,7 +15,7 @@ import com.github.zhitron.type_converter.CharSequenceTypeConverter;
  *
  * @author zhitron
  */
-public class CharSequenceToIntegerTypeConverter extends CharSequenceTypeConverter<CharSequence, Integer> {
+public class CharSequenceToIntegerTypeConverter extends CharSequenceTypeConverter<CharSequence, Integer> implements ToIntTypeConverter<CharSequence>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -36,4 +39,51 @@ public class CharSequenceToIntegerTypeConverter extends CharSequenceTypeConverte
     protected Integer convertsUncheckedString(String input) throws Throwable {
         return StringToIntegerTypeConverter.INSTANCE.convertsUnchecked(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析int值，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的Integer对象
+     * @throws NumberFormatException 当范围内不是有效的整数或超出取值范围时抛出
+     */
+    @Override
+    protected Integer convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return (int) IntegerRangeParser.parse(source, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 在修剪范围上按十进制解析int值，超出int范围时抛出异常，不调用toString复制字符序列
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，空字符串或全空白字符的字符串时返回
+     * @return 转换后的int值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public int convertsUncheckedToInt(CharSequence source, int targetDefault) throws Throwable {
+        int start = trimStart(source);
+        int end = trimEnd(source, start);
+        return start == end ? targetDefault : (int) IntegerRangeParser.parse(source, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 由{@link IntegerRangeParser}按十进制累加，非数字字符或超出int范围时失败
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(CharSequence source, int start, int end, ConversionResult<? super Integer> result) {
+        long negated = IntegerRangeParser.accumulate(source, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed((int) IntegerRangeParser.valueOf(source, start, negated));
+    }
 }
@@ -1,6 +1,9 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
+import com.github.zhitron.type_converter.primitive.ToLongTypeConverter;
 
 /**
  * 字符串到Long类型转换器
@@ -12,7 +15,7 @@ import com.github.zhitron.type_converter.CharSequenceTypeConverter;
  *
  * @author zhitron
  */
-public class CharSequenceToLongTypeConverter extends CharSequenceTypeConverter<CharSequence, Long> {
+public class CharSequenceToLongTypeConverter extends CharSequenceTypeConverter<CharSequence, Long> implements ToLongTypeConverter<CharSequence>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -36,4 +39,51 @@ public class CharSequenceToLongTypeConverter extends CharSequenceTypeConverter<C
     protected Long convertsUncheckedString(String input) throws Throwable {
         return StringToLongTypeConverter.INSTANCE.convertsUnchecked(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析long值，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的Long对象
+     * @throws NumberFormatException 当范围内不是有效的整数或超出取值范围时抛出
+     */
+    @Override
+    protected Long convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return IntegerRangeParser.parse(source, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 在修剪范围上按十进制解析long值，不调用toString复制字符序列
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，空字符串或全空白字符的字符串时返回
+     * @return 转换后的long值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public long convertsUncheckedToLong(CharSequence source, long targetDefault) throws Throwable {
+        int start = trimStart(source);
+        int end = trimEnd(source, start);
+        return start == end ? targetDefault : IntegerRangeParser.parse(source, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 由{@link IntegerRangeParser}按十进制累加，非数字字符或超出long范围时失败
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(CharSequence source, int start, int end, ConversionResult<? super Long> result) {
+        long negated = IntegerRangeParser.accumulate(source, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed(IntegerRangeParser.valueOf(source, start, negated));
+    }
 }
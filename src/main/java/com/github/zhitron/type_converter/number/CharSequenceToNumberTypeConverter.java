@@ -6,7 +6,7 @@ import com.github.zhitron.type_converter.CharSequenceTypeConverter;
  * 字符串到Number类型转换器
  * <p>
  * 用于将字符串转换为Number类型。
- * 该转换器直接使用Number的构造函数进行转换。
+ * 解析规则与{@link StringToNumberTypeConverter}一致。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
@@ -36,4 +36,18 @@ public class CharSequenceToNumberTypeConverter extends CharSequenceTypeConverter
     protected Number convertsUncheckedString(String input) throws Throwable {
         return StringToNumberTypeConverter.INSTANCE.convertsUnchecked(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析数值，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的Number对象
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    protected Number convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return StringToNumberTypeConverter.INSTANCE.parse(source, start, end);
+    }
 }
@@ -1,6 +1,7 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
 
 /**
  * 字符串到Short类型转换器
@@ -36,4 +37,36 @@ public class CharSequenceToShortTypeConverter extends CharSequenceTypeConverter<
     protected Short convertsUncheckedString(String input) throws Throwable {
         return StringToShortTypeConverter.INSTANCE.convertsUnchecked(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析short值，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的Short对象
+     * @throws NumberFormatException 当范围内不是有效的整数或超出取值范围时抛出
+     */
+    @Override
+    protected Short convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return (short) IntegerRangeParser.parse(source, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    /**
+     * 由{@link IntegerRangeParser}按十进制累加，非数字字符或超出short范围时失败
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(CharSequence source, int start, int end, ConversionResult<? super Short> result) {
+        long negated = IntegerRangeParser.accumulate(source, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed((short) IntegerRangeParser.valueOf(source, start, negated));
+    }
 }
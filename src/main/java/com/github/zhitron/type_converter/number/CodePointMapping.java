@@ -0,0 +1,176 @@
+package com.github.zhitron.type_converter.number;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 不可变的代码点映射表
+ * <p>
+ * 基本多文种平面（BMP）内的代码点按高8位分页、低8位直接索引，只有包含映射的页才会分配，其余页视为原样映射；
+ * 辅助平面的代码点保存在线性探测的开放寻址表中，键和值都是基本类型，查找时不产生装箱对象。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class CodePointMapping {
+    /**
+     * 每页包含的代码点个数
+     */
+    private static final int PAGE_SIZE = 1 << 8;
+    /**
+     * BMP内代码点的映射页，未分配的页中的代码点映射为自身
+     */
+    private final int[][] pages;
+    /**
+     * 辅助平面代码点的键，0表示空槽（辅助平面的代码点不会为0）
+     */
+    private final int[] keys;
+    /**
+     * 辅助平面代码点的映射值，与keys一一对应
+     */
+    private final int[] values;
+
+    private CodePointMapping(int[][] pages, int[] keys, int[] values) {
+        this.pages = pages;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * 按位置一一对应地创建代码点映射，较长一方多出的代码点会被忽略
+     *
+     * @param source 源字符序列
+     * @param target 目标字符序列
+     * @return 代码点映射，任意一方为null或没有映射时返回null
+     * @throws IllegalArgumentException 当源字符序列中存在重复的代码点时抛出
+     */
+    static CodePointMapping of(CharSequence source, CharSequence target) {
+        if (source == null || target == null) {
+            return null;
+        }
+        int sourceLength = source.length(), targetLength = target.length();
+        int[][] pages = new int[Character.MIN_SUPPLEMENTARY_CODE_POINT / PAGE_SIZE][];
+        BitSet mapped = new BitSet();
+        int[] keys = new int[8], values = new int[8];
+        int supplementaryCount = 0;
+        boolean empty = true;
+        for (int i = 0, iv, j = 0, jv; i < sourceLength && j < targetLength; i += Character.charCount(iv), j += Character.charCount(jv)) {
+            iv = Character.codePointAt(source, i);
+            jv = Character.codePointAt(target, j);
+            if (iv < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                if (mapped.get(iv)) {
+                    throw duplicate(iv);
+                }
+                mapped.set(iv);
+                int[] page = pages[iv / PAGE_SIZE];
+                if (page == null) {
+                    page = pages[iv / PAGE_SIZE] = identityPage(iv / PAGE_SIZE);
+                }
+                page[iv % PAGE_SIZE] = jv;
+            } else {
+                // 装载因子不超过1/2，保证查找时总能遇到空槽
+                if ((supplementaryCount + 1) * 2 > keys.length) {
+                    int[] oldKeys = keys, oldValues = values;
+                    keys = new int[oldKeys.length * 2];
+                    values = new int[oldKeys.length * 2];
+                    for (int k = 0; k < oldKeys.length; k++) {
+                        if (oldKeys[k] != 0) {
+                            insert(keys, values, oldKeys[k], oldValues[k]);
+                        }
+                    }
+                }
+                if (!insert(keys, values, iv, jv)) {
+                    throw duplicate(iv);
+                }
+                supplementaryCount++;
+            }
+            empty = false;
+        }
+        if (empty) {
+            return null;
+        }
+        return supplementaryCount == 0 ? new CodePointMapping(pages, null, null) : new CodePointMapping(pages, keys, values);
+    }
+
+    /**
+     * 获取代码点映射后的代码点
+     *
+     * @param codePoint 源代码点
+     * @return 映射后的代码点，没有映射时返回源代码点
+     */
+    int map(int codePoint) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            int[] page = pages[codePoint >>> 8];
+            return page == null ? codePoint : page[codePoint & (PAGE_SIZE - 1)];
+        }
+        if (keys == null) {
+            return codePoint;
+        }
+        int mask = keys.length - 1;
+        for (int slot = hash(codePoint) & mask; ; slot = (slot + 1) & mask) {
+            int key = keys[slot];
+            if (key == codePoint) {
+                return values[slot];
+            }
+            if (key == 0) {
+                return codePoint;
+            }
+        }
+    }
+
+    /**
+     * 创建所有代码点都映射为自身的页
+     *
+     * @param pageIndex 页的序号
+     * @return 映射页
+     */
+    private static int[] identityPage(int pageIndex) {
+        int[] page = new int[PAGE_SIZE];
+        Arrays.setAll(page, i -> pageIndex * PAGE_SIZE + i);
+        return page;
+    }
+
+    /**
+     * 在开放寻址表中插入映射
+     *
+     * @param keys   键数组，长度为2的幂
+     * @param values 值数组
+     * @param key    辅助平面的代码点
+     * @param value  映射后的代码点
+     * @return 插入成功返回true，键已存在时返回false
+     */
+    private static boolean insert(int[] keys, int[] values, int key, int value) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        return true;
+    }
+
+    /**
+     * 打散代码点的低位，连续的代码点（例如数学字母数字符号中的数字）也能均匀分布
+     *
+     * @param codePoint 代码点
+     * @return 哈希值
+     */
+    private static int hash(int codePoint) {
+        int h = codePoint * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 创建重复映射的异常
+     *
+     * @param codePoint 重复的代码点
+     * @return 异常对象
+     */
+    private static IllegalArgumentException duplicate(int codePoint) {
+        return new IllegalArgumentException("Duplicate mapping for character: " + codePoint);
+    }
+}
@@ -0,0 +1,282 @@
+package com.github.zhitron.type_converter.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 直接在字符序列的指定范围上解析BigDecimal
+ * <p>
+ * 解析规则与{@link BigDecimal#BigDecimal(String)}一致，结果的数值和精度也完全相同。
+ * 由ASCII数字组成且未缩放值在long范围内（不超过18位有效数字的数值总是如此）时，按位累加未缩放值后直接调用
+ * {@link BigDecimal#valueOf(long, int)}，不产生中间字符串；其他情况（更长的数字、非ASCII数字、过大的指数、格式错误等）
+ * 提取该范围的字符串后交由BigDecimal的构造函数处理，抛出的异常也与其一致；
+ * 其中位数很多的数值由{@link BigIntegerRangeParser}分治解析未缩放值，避免构造函数平方级的耗时。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class DecimalRangeParser {
+    /**
+     * 指数的绝对值达到此值时交由BigDecimal解析，保证累加时不会溢出
+     */
+    private static final long EXPONENT_LIMIT = 100_000_000L;
+
+    private DecimalRangeParser() {
+    }
+
+    /**
+     * 解析字符序列指定范围内的十进制数
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的BigDecimal
+     * @throws NumberFormatException 当范围内不是有效的十进制数时抛出
+     */
+    static BigDecimal parse(CharSequence source, int start, int end) {
+        BigDecimal result = parseFast(source, start, end);
+        return result != null ? result : fallback(source, start, end);
+    }
+
+    /**
+     * 尝试解析字符序列指定范围内的十进制数，格式错误时返回null而不抛出异常
+     * 快速路径能够处理的数值只扫描一次，其余情况先由{@link #isValid(CharSequence, int, int)}确认格式再解析
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的BigDecimal，格式错误时返回null
+     */
+    static BigDecimal tryParse(CharSequence source, int start, int end) {
+        BigDecimal result = parseFast(source, start, end);
+        if (result != null) {
+            return result;
+        }
+        return isValid(source, start, end) ? fallback(source, start, end) : null;
+    }
+
+    /**
+     * 按位累加由ASCII数字组成且未缩放值在long范围内的十进制数
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的BigDecimal，不符合快速路径的条件时返回null
+     */
+    private static BigDecimal parseFast(CharSequence source, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end) {
+            char first = source.charAt(i);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                i++;
+            }
+        }
+        // 与Long.parseLong相同，以负数累加避免最小值溢出
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long unscaled = 0;
+        // 小数位数，没有小数点时为-1
+        int scale = -1;
+        boolean hasDigit = false;
+        char c = 0;
+        for (; i < end; i++) {
+            c = source.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                if (unscaled < multiplyMin || unscaled * 10 < limit + digit) {
+                    return null;
+                }
+                unscaled = unscaled * 10 - digit;
+                hasDigit = true;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigit) {
+            return null;
+        }
+        long exponent = 0;
+        if (i < end) {
+            if (c != 'e' && c != 'E' || ++i == end) {
+                return null;
+            }
+            c = source.charAt(i);
+            boolean negativeExponent = c == '-';
+            if ((negativeExponent || c == '+') && ++i == end) {
+                return null;
+            }
+            for (; i < end; i++) {
+                c = source.charAt(i);
+                if (c < '0' || c > '9' || exponent >= EXPONENT_LIMIT) {
+                    return null;
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        long adjustedScale = Math.max(scale, 0) - exponent;
+        if (adjustedScale != (int) adjustedScale) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? unscaled : -unscaled, (int) adjustedScale);
+    }
+
+    /**
+     * 判断字符序列指定范围内是否为BigDecimal的字符串构造函数可以接受的格式，判断过程不创建任何对象
+     * 返回true时{@link #parse(CharSequence, int, int)}不会抛出异常
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 格式有效且精度在int范围内时返回true
+     */
+    static boolean isValid(CharSequence source, int start, int end) {
+        int i = start;
+        if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+            i++;
+        }
+        boolean dot = false;
+        boolean anyDigit = false;
+        int fractionDigits = 0;
+        char c = 0;
+        for (; i < end; i++) {
+            c = source.charAt(i);
+            if (c >= '0' && c <= '9' || Character.isDigit(c)) {
+                anyDigit = true;
+                if (dot) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (!anyDigit) {
+            return false;
+        }
+        long exponent = 0;
+        if (i < end) {
+            if (c != 'e' && c != 'E' || ++i == end) {
+                return false;
+            }
+            boolean negativeExponent = source.charAt(i) == '-';
+            if ((negativeExponent || source.charAt(i) == '+') && ++i == end) {
+                return false;
+            }
+            // 与BigDecimal一致，忽略前导零后最多允许10位数字
+            while (i < end - 1 && Character.digit(source.charAt(i), 10) == 0) {
+                i++;
+            }
+            if (end - i > 10) {
+                return false;
+            }
+            for (; i < end; i++) {
+                int digit = Character.digit(source.charAt(i), 10);
+                if (digit < 0) {
+                    return false;
+                }
+                exponent = exponent * 10 + digit;
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        long scale = fractionDigits - exponent;
+        return scale == (int) scale;
+    }
+
+    /**
+     * 解析快速路径无法处理的数值：位数很多时由{@link BigIntegerRangeParser}分治解析未缩放值，其他情况交由BigDecimal的构造函数
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的BigDecimal
+     * @throws NumberFormatException 当范围内不是有效的十进制数时抛出
+     */
+    private static BigDecimal fallback(CharSequence source, int start, int end) {
+        if (end - start > BigIntegerRangeParser.THRESHOLD) {
+            BigDecimal result = parseLarge(source, start, end);
+            if (result != null) {
+                return result;
+            }
+        }
+        return new BigDecimal(BigIntegerRangeParser.toString(source, start, end));
+    }
+
+    /**
+     * 分别解析整数部分和小数部分的数字后合并为未缩放值
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的BigDecimal，格式不符合或指数超出常规范围时返回null，交由BigDecimal的构造函数处理
+     */
+    private static BigDecimal parseLarge(CharSequence source, int start, int end) {
+        int i = start;
+        boolean negative = source.charAt(i) == '-';
+        if (negative || source.charAt(i) == '+') {
+            i++;
+        }
+        int dot = -1;
+        int digitsEnd = end;
+        for (int j = i; j < end; j++) {
+            char c = source.charAt(j);
+            if (c == '.' && dot < 0) {
+                dot = j;
+            } else if (c == 'e' || c == 'E') {
+                digitsEnd = j;
+                break;
+            } else if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        int integerEnd = dot < 0 ? digitsEnd : dot;
+        int fractionStart = dot < 0 ? digitsEnd : dot + 1;
+        int fractionDigits = digitsEnd - fractionStart;
+        if (integerEnd == i && fractionDigits == 0) {
+            return null;
+        }
+        long exponent = 0;
+        if (digitsEnd < end) {
+            int j = digitsEnd + 1;
+            boolean negativeExponent = j < end && source.charAt(j) == '-';
+            if (j < end && (negativeExponent || source.charAt(j) == '+')) {
+                j++;
+            }
+            if (j == end) {
+                return null;
+            }
+            for (; j < end; j++) {
+                char c = source.charAt(j);
+                if (c < '0' || c > '9' || exponent >= EXPONENT_LIMIT) {
+                    return null;
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        long scale = fractionDigits - exponent;
+        if (scale != (int) scale) {
+            return null;
+        }
+        BigInteger unscaled = BigIntegerRangeParser.parseDigits(source, i, integerEnd);
+        if (fractionDigits > 0) {
+            unscaled = unscaled.multiply(BigInteger.TEN.pow(fractionDigits))
+                    .add(BigIntegerRangeParser.parseDigits(source, fractionStart, digitsEnd));
+        }
+        return new BigDecimal(negative ? unscaled.negate() : unscaled, (int) scale);
+    }
+}
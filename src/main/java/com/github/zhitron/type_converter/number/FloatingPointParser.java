@@ -0,0 +1,506 @@
+package com.github.zhitron.type_converter.number;
+
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+
+/**
+ * 直接在字符序列的指定范围上解析十进制浮点数
+ * <p>
+ * 结果与{@link Double#parseDouble(String)}和{@link Float#parseFloat(String)}完全一致（正确舍入）。
+ * 常见的十进制形式（可选正负号、整数部分、小数部分和指数部分，有效数字不超过19位）按以下顺序计算，均不产生中间对象：
+ * </p>
+ * <ol>
+ *     <li>尾数和10的幂都能被浮点数精确表示时，直接做一次浮点乘法或除法（Clinger快速路径）；</li>
+ *     <li>否则使用Eisel–Lemire算法，以128位截断的5的幂计算出正确舍入的结果；</li>
+ *     <li>Eisel–Lemire无法确定舍入方向、有效数字过多，或者遇到NaN、Infinity、十六进制、类型后缀等其他形式时，
+ *     回退到JDK的解析方法，格式错误时同样抛出{@link NumberFormatException}。</li>
+ * </ol>
+ *
+ * @author zhitron
+ */
+public final class FloatingPointParser {
+    /**
+     * 可精确表示的10的幂，用于double的快速路径
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    /**
+     * 可精确表示的10的幂，用于float的快速路径
+     */
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    /**
+     * 128位5的幂表覆盖的最小十进制指数
+     */
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+    /**
+     * 128位5的幂表覆盖的最大十进制指数
+     */
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+    /**
+     * 规范化后截断为128位的5的幂，每个指数占两个元素，依次为高64位和低64位
+     */
+    private static final long[] POWERS_OF_FIVE = createPowersOfFive();
+    /**
+     * 尾数最多累积的有效数字位数
+     */
+    private static final int MAX_DIGITS = 19;
+    /**
+     * 表示需要回退到JDK解析方法的标记
+     */
+    private static final long FALLBACK = -1L;
+
+    private FloatingPointParser() {
+    }
+
+    /**
+     * 解析字符序列指定范围内的double值
+     * 与{@link Double#parseDouble(String)}一样忽略首尾不大于空格的字符
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的double值
+     * @throws NumberFormatException 当范围内不是有效的浮点数时抛出
+     */
+    public static double parseDouble(CharSequence source, int start, int end) {
+        long bits = parse(source, start, end, false);
+        if (bits == FALLBACK) {
+            return Double.parseDouble(source.subSequence(start, end).toString());
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * 解析字符数组指定范围内的double值
+     *
+     * @param chars  源字符数组
+     * @param offset 起始位置
+     * @param length 字符数量
+     * @return 解析出的double值
+     * @throws NumberFormatException 当范围内不是有效的浮点数时抛出
+     */
+    public static double parseDouble(char[] chars, int offset, int length) {
+        return parseDouble(CharBuffer.wrap(chars), offset, offset + length);
+    }
+
+    /**
+     * 解析字符序列指定范围内的float值
+     * 与{@link Float#parseFloat(String)}一样忽略首尾不大于空格的字符
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的float值
+     * @throws NumberFormatException 当范围内不是有效的浮点数时抛出
+     */
+    public static float parseFloat(CharSequence source, int start, int end) {
+        long bits = parse(source, start, end, true);
+        if (bits == FALLBACK) {
+            return Float.parseFloat(source.subSequence(start, end).toString());
+        }
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    /**
+     * 尝试解析字符序列指定范围内的double值，格式错误时返回null而不抛出异常
+     * 常见的十进制形式只扫描一次，需要回退到JDK解析方法时先由{@link #isValid(CharSequence, int, int)}确认格式
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的double值，格式错误时返回null
+     */
+    public static Double tryParseDouble(CharSequence source, int start, int end) {
+        long bits = parse(source, start, end, false);
+        if (bits != FALLBACK) {
+            return Double.longBitsToDouble(bits);
+        }
+        return isValid(source, start, end) ? Double.parseDouble(source.subSequence(start, end).toString()) : null;
+    }
+
+    /**
+     * 尝试解析字符序列指定范围内的float值，格式错误时返回null而不抛出异常
+     * 常见的十进制形式只扫描一次，需要回退到JDK解析方法时先由{@link #isValid(CharSequence, int, int)}确认格式
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的float值，格式错误时返回null
+     */
+    public static Float tryParseFloat(CharSequence source, int start, int end) {
+        long bits = parse(source, start, end, true);
+        if (bits != FALLBACK) {
+            return Float.intBitsToFloat((int) bits);
+        }
+        return isValid(source, start, end) ? Float.parseFloat(source.subSequence(start, end).toString()) : null;
+    }
+
+    /**
+     * 解析字符数组指定范围内的float值
+     *
+     * @param chars  源字符数组
+     * @param offset 起始位置
+     * @param length 字符数量
+     * @return 解析出的float值
+     * @throws NumberFormatException 当范围内不是有效的浮点数时抛出
+     */
+    public static float parseFloat(char[] chars, int offset, int length) {
+        return parseFloat(CharBuffer.wrap(chars), offset, offset + length);
+    }
+
+    /**
+     * 判断字符序列指定范围内是否为{@link Double#parseDouble(String)}可以接受的格式，判断过程不创建任何对象
+     * <p>
+     * 忽略首尾不大于空格的字符后，接受可选的正负号加上{@code NaN}、{@code Infinity}、十进制形式或十六进制形式，
+     * 十进制和十六进制形式可以带有类型后缀{@code f}、{@code F}、{@code d}、{@code D}。
+     * 返回true时{@link #parseDouble(CharSequence, int, int)}和{@link #parseFloat(CharSequence, int, int)}不会抛出异常。
+     * </p>
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 格式有效时返回true
+     */
+    public static boolean isValid(CharSequence source, int start, int end) {
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int i = start;
+        if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        char c = source.charAt(i);
+        if (c == 'N') {
+            return matches(source, i, end, "NaN");
+        }
+        if (c == 'I') {
+            return matches(source, i, end, "Infinity");
+        }
+        boolean hex = c == '0' && i + 1 < end && (source.charAt(i + 1) | 0x20) == 'x';
+        if (hex) {
+            i += 2;
+        }
+        // 有效数字部分，至少包含一个数字，最多一个小数点
+        boolean anyDigit = false;
+        boolean dot = false;
+        for (; i < end; i++) {
+            c = source.charAt(i);
+            if (c >= '0' && c <= '9' || hex && (c | 0x20) >= 'a' && (c | 0x20) <= 'f') {
+                anyDigit = true;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (!anyDigit) {
+            return false;
+        }
+        // 指数部分，十六进制形式必须有以'p'开头的二进制指数
+        if (i < end && (source.charAt(i) | 0x20) == (hex ? 'p' : 'e')) {
+            i++;
+            if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            while (i < end && source.charAt(i) >= '0' && source.charAt(i) <= '9') {
+                i++;
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+        } else if (hex) {
+            return false;
+        }
+        // 可选的类型后缀
+        if (i < end && ((c = (char) (source.charAt(i) | 0x20)) == 'f' || c == 'd')) {
+            i++;
+        }
+        return i == end;
+    }
+
+    /**
+     * 判断范围内的内容是否与指定的关键字完全相同
+     *
+     * @param source  源字符序列
+     * @param start   起始位置（包含）
+     * @param end     结束位置（不包含）
+     * @param keyword 关键字
+     * @return 完全相同时返回true
+     */
+    private static boolean matches(CharSequence source, int start, int end, String keyword) {
+        if (end - start != keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (source.charAt(start + i) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 解析常见的十进制形式并计算浮点数的位表示
+     *
+     * @param source  源字符序列
+     * @param start   起始位置（包含）
+     * @param end     结束位置（不包含）
+     * @param isFloat 是否计算float，否则计算double
+     * @return 浮点数的位表示，需要回退到JDK解析方法时返回{@link #FALLBACK}
+     */
+    private static long parse(CharSequence source, int start, int end, boolean isFloat) {
+        // 与JDK一致，忽略首尾不大于空格的字符
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int i = start;
+        if (i == end) {
+            return FALLBACK;
+        }
+        boolean negative = false;
+        char c = source.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        // 整数部分，前导零不计入有效数字，超过19位后只允许出现零
+        for (; i < end && (c = source.charAt(i)) >= '0' && c <= '9'; i++) {
+            anyDigit = true;
+            if (digits < MAX_DIGITS) {
+                if (digits > 0 || c != '0') {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                }
+            } else if (c == '0') {
+                exponent++;
+            } else {
+                return FALLBACK;
+            }
+        }
+        // 小数部分
+        if (i < end && source.charAt(i) == '.') {
+            for (i++; i < end && (c = source.charAt(i)) >= '0' && c <= '9'; i++) {
+                anyDigit = true;
+                if (digits < MAX_DIGITS) {
+                    if (digits > 0 || c != '0') {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+                    }
+                    exponent--;
+                } else if (c != '0') {
+                    return FALLBACK;
+                }
+            }
+        }
+        if (!anyDigit) {
+            return FALLBACK;
+        }
+        // 指数部分
+        if (i < end && ((c = source.charAt(i)) == 'e' || c == 'E')) {
+            if (++i == end) {
+                return FALLBACK;
+            }
+            boolean negativeExponent = false;
+            c = source.charAt(i);
+            if (c == '-' || c == '+') {
+                negativeExponent = c == '-';
+                i++;
+            }
+            int explicitExponent = 0;
+            boolean anyExponentDigit = false;
+            for (; i < end && (c = source.charAt(i)) >= '0' && c <= '9'; i++) {
+                anyExponentDigit = true;
+                // 超出范围的指数只需保证结果为零或无穷大
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (c - '0');
+                }
+            }
+            if (!anyExponentDigit) {
+                return FALLBACK;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        // 存在类型后缀等其他字符时交由JDK处理
+        if (i != end) {
+            return FALLBACK;
+        }
+        long bits = isFloat ? toFloatBits(mantissa, exponent) : toDoubleBits(mantissa, exponent);
+        if (bits == FALLBACK || !negative) {
+            return bits;
+        }
+        return isFloat ? bits | 0x8000_0000L : bits | Long.MIN_VALUE;
+    }
+
+    /**
+     * 计算mantissa * 10^exponent对应的double位表示，不含符号位
+     *
+     * @param mantissa 十进制尾数，不超过19位，按无符号数处理
+     * @param exponent 十进制指数
+     * @return double的位表示，无法确定舍入方向时返回{@link #FALLBACK}
+     */
+    private static long toDoubleBits(long mantissa, int exponent) {
+        if (mantissa == 0) {
+            return 0L;
+        }
+        // Clinger快速路径：尾数和10的幂都能精确表示，一次运算即正确舍入
+        if (Long.compareUnsigned(mantissa, 1L << 53) <= 0 && exponent >= -22 && exponent <= 22) {
+            double value = (double) mantissa;
+            value = exponent < 0 ? value / DOUBLE_POWERS_OF_TEN[-exponent] : value * DOUBLE_POWERS_OF_TEN[exponent];
+            return Double.doubleToRawLongBits(value);
+        }
+        return eiselLemire(mantissa, exponent, 52, -1023, 0x7FF, -4, 23);
+    }
+
+    /**
+     * 计算mantissa * 10^exponent对应的float位表示，不含符号位
+     *
+     * @param mantissa 十进制尾数，不超过19位，按无符号数处理
+     * @param exponent 十进制指数
+     * @return float的位表示，无法确定舍入方向时返回{@link #FALLBACK}
+     */
+    private static long toFloatBits(long mantissa, int exponent) {
+        if (mantissa == 0) {
+            return 0L;
+        }
+        if (Long.compareUnsigned(mantissa, 1L << 24) <= 0 && exponent >= -10 && exponent <= 10) {
+            float value = (float) mantissa;
+            value = exponent < 0 ? value / FLOAT_POWERS_OF_TEN[-exponent] : value * FLOAT_POWERS_OF_TEN[exponent];
+            return Float.floatToRawIntBits(value) & 0xFFFF_FFFFL;
+        }
+        return eiselLemire(mantissa, exponent, 23, -127, 0xFF, -17, 10);
+    }
+
+    /**
+     * 使用Eisel–Lemire算法计算正确舍入的二进制浮点数
+     *
+     * @param mantissa           十进制尾数，非零且不超过19位，按无符号数处理
+     * @param exponent           十进制指数
+     * @param mantissaBits       二进制尾数的显式位数
+     * @param minimumExponent    二进制指数的偏移量的相反数
+     * @param infinitePower      表示无穷大的二进制指数
+     * @param minRoundToEvenExp  可能出现恰好居中需要向偶数舍入的最小十进制指数
+     * @param maxRoundToEvenExp  可能出现恰好居中需要向偶数舍入的最大十进制指数
+     * @return 浮点数的位表示，不含符号位，无法确定舍入方向时返回{@link #FALLBACK}
+     */
+    private static long eiselLemire(long mantissa, int exponent, int mantissaBits, int minimumExponent, int infinitePower,
+                                    int minRoundToEvenExp, int maxRoundToEvenExp) {
+        if (exponent < SMALLEST_POWER_OF_FIVE) {
+            return 0L;
+        }
+        if (exponent > LARGEST_POWER_OF_FIVE) {
+            return (long) infinitePower << mantissaBits;
+        }
+        int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        long w = mantissa << leadingZeros;
+        // 计算w与截断的5的幂的128位乘积，精度不足时再乘以低64位修正
+        int index = 2 * (exponent - SMALLEST_POWER_OF_FIVE);
+        long high = multiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        long precisionMask = 0xFFFF_FFFF_FFFF_FFFFL >>> (mantissaBits + 3);
+        if ((high & precisionMask) == precisionMask) {
+            long secondHigh = multiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+        // 截断误差可能影响舍入时交由JDK处理
+        if (low == 0xFFFF_FFFF_FFFF_FFFFL && (exponent < -27 || exponent > 55)) {
+            return FALLBACK;
+        }
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - mantissaBits - 3;
+        long result = high >>> shift;
+        int power2 = (((152170 + 65536) * exponent) >> 16) + 63 + upperBit - leadingZeros - minimumExponent;
+        if (power2 <= 0) {
+            // 非规格化数
+            if (-power2 + 1 >= 64) {
+                return 0L;
+            }
+            result >>>= -power2 + 1;
+            result += result & 1;
+            result >>>= 1;
+            power2 = result < (1L << mantissaBits) ? 0 : 1;
+            return (result & ((1L << mantissaBits) - 1)) | ((long) power2 << mantissaBits);
+        }
+        // 恰好位于两个浮点数中间时向偶数舍入
+        if (Long.compareUnsigned(low, 1) <= 0 && exponent >= minRoundToEvenExp && exponent <= maxRoundToEvenExp
+                && (result & 3) == 1 && (result << shift) == high) {
+            result &= ~1L;
+        }
+        result += result & 1;
+        result >>>= 1;
+        if (result >= (2L << mantissaBits)) {
+            result = 1L << mantissaBits;
+            power2++;
+        }
+        result &= ~(1L << mantissaBits);
+        if (power2 >= infinitePower) {
+            return (long) infinitePower << mantissaBits;
+        }
+        return result | ((long) power2 << mantissaBits);
+    }
+
+    /**
+     * 计算两个无符号64位整数乘积的高64位
+     *
+     * @param x 乘数
+     * @param y 乘数
+     * @return 128位乘积的高64位
+     */
+    private static long multiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFF_FFFFL, x1 = x >>> 32;
+        long y0 = y & 0xFFFF_FFFFL, y1 = y >>> 32;
+        long p00 = x0 * y0, p01 = x0 * y1, p10 = x1 * y0, p11 = x1 * y1;
+        long middle = (p00 >>> 32) + (p01 & 0xFFFF_FFFFL) + (p10 & 0xFFFF_FFFFL);
+        return p11 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+    }
+
+    /**
+     * 生成10^-342到10^308对应的128位5的幂表
+     * 非负指数为5^q规范化到最高位为1后截断；负指数为2^b / 5^-q向上取整后截断，与Eisel–Lemire算法的原始表一致
+     *
+     * @return 5的幂表
+     */
+    private static long[] createPowersOfFive() {
+        long[] table = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+        BigInteger limit = BigInteger.ONE.shiftLeft(128);
+        for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+            BigInteger value;
+            if (q < 0) {
+                BigInteger power = BigInteger.valueOf(5).pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 2 * 64;
+                value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                if (value.compareTo(limit) >= 0) {
+                    value = value.shiftRight(value.bitLength() - 128);
+                }
+            } else {
+                value = BigInteger.valueOf(5).pow(q);
+                value = value.bitLength() <= 128 ? value.shiftLeft(128 - value.bitLength()) : value.shiftRight(value.bitLength() - 128);
+            }
+            int index = 2 * (q - SMALLEST_POWER_OF_FIVE);
+            table[index] = value.shiftRight(64).longValue();
+            table[index + 1] = value.longValue();
+        }
+        return table;
+    }
+}
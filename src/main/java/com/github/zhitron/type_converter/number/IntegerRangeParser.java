@@ -0,0 +1,125 @@
+package com.github.zhitron.type_converter.number;
+
+/**
+ * 直接在字符序列的指定范围上解析十进制整数
+ * <p>
+ * 解析规则与{@link Long#parseLong(String)}一致：允许一个前导的正负号，数字由{@link Character#digit(char, int)}识别，
+ * 超出取值范围或格式错误时抛出{@link NumberFormatException}。解析过程不产生中间字符串，只有抛出异常时才会构造错误信息；
+ * 不希望创建异常时通过{@link #accumulate(CharSequence, int, int, long, long)}解析并与{@link #INVALID}比较，
+ * 再由{@link #valueOf(CharSequence, int, long)}得到结果，只扫描一次字符序列。
+ * </p>
+ *
+ * @author zhitron
+ */
+public final class IntegerRangeParser {
+    /**
+     * 表示格式错误或超出取值范围的标记，累加的结果总是不大于0
+     */
+    public static final long INVALID = 1L;
+
+    private IntegerRangeParser() {
+    }
+
+    /**
+     * 解析字符序列指定范围内的十进制整数
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @param min    允许的最小值
+     * @param max    允许的最大值
+     * @return 解析出的整数
+     * @throws NumberFormatException 当范围内不是有效的整数或超出取值范围时抛出
+     */
+    public static long parse(CharSequence source, int start, int end, long min, long max) {
+        long negated = accumulate(source, start, end, min, max);
+        if (negated == INVALID) {
+            throw invalid(source, start, end);
+        }
+        return valueOf(source, start, negated);
+    }
+
+    /**
+     * 根据{@link #accumulate(CharSequence, int, int, long, long)}的累加结果得到解析出的整数
+     *
+     * @param source  源字符序列
+     * @param start   起始位置（包含），与累加时相同
+     * @param negated 累加结果，不能为{@link #INVALID}
+     * @return 解析出的整数
+     */
+    public static long valueOf(CharSequence source, int start, long negated) {
+        return source.charAt(start) == '-' ? negated : -negated;
+    }
+
+    /**
+     * 判断字符序列指定范围内是否为有效的十进制整数，判断过程不创建任何对象
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @param min    允许的最小值
+     * @param max    允许的最大值
+     * @return {@link #parse(CharSequence, int, int, long, long)}不会抛出异常时返回true
+     */
+    public static boolean isValid(CharSequence source, int start, int end, long min, long max) {
+        return accumulate(source, start, end, min, max) != INVALID;
+    }
+
+    /**
+     * 以负数累加范围内的数字，判断过程不创建任何对象
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @param min    允许的最小值
+     * @param max    允许的最大值
+     * @return 绝对值的相反数（不大于0），格式错误或超出取值范围时返回{@link #INVALID}
+     */
+    public static long accumulate(CharSequence source, int start, int end, long min, long max) {
+        if (start >= end) {
+            return INVALID;
+        }
+        int i = start;
+        boolean negative = false;
+        char first = source.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+            } else if (first != '+') {
+                return INVALID;
+            }
+            // 只有正负号时视为格式错误
+            if (++i == end) {
+                return INVALID;
+            }
+        }
+        // 与Long.parseLong相同，以负数累加避免最小值溢出
+        long limit = negative ? min : -max;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        while (i < end) {
+            int digit = Character.digit(source.charAt(i++), 10);
+            if (digit < 0 || result < multiplyMin) {
+                return INVALID;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return INVALID;
+            }
+            result -= digit;
+        }
+        return result;
+    }
+
+    /**
+     * 创建格式错误的异常
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 包含输入内容的异常
+     */
+    private static NumberFormatException invalid(CharSequence source, int start, int end) {
+        return new NumberFormatException("For input string: \"" + source.subSequence(start, end) + "\"");
+    }
+}
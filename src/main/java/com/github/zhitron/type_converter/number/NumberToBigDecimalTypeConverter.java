@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.number;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverter;
 
 import java.math.BigDecimal;
@@ -19,7 +20,7 @@ import java.math.BigInteger;
  *
  * @author zhitron
  */
-public class NumberToBigDecimalTypeConverter extends TypeConverter<Number, BigDecimal> {
+public class NumberToBigDecimalTypeConverter extends TypeConverter<Number, BigDecimal> implements LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -75,4 +76,16 @@ public class NumberToBigDecimalTypeConverter extends TypeConverter<Number, BigDe
             return BigDecimal.valueOf(value);
         }
     }
+
+    /**
+     * 整数类型和BigDecimal按原值转换；浮点数按其十进制字符串形式、其他Number子类按double转换，都可能改变值
+     *
+     * @param sourceType 源对象的实际类型
+     * @return 源类型为整数类型、BigInteger或BigDecimal时返回true
+     */
+    @Override
+    public boolean isLosslessFrom(Class<?> sourceType) {
+        return sourceType == BigDecimal.class || sourceType == BigInteger.class || sourceType == Long.class
+                || sourceType == Integer.class || sourceType == Short.class || sourceType == Byte.class;
+    }
 }
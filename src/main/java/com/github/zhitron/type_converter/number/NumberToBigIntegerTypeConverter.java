@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.number;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverter;
 import com.github.zhitron.type_converter.TypeConverterException;
 
@@ -20,7 +21,7 @@ import java.math.BigInteger;
  *
  * @author zhitron
  */
-public class NumberToBigIntegerTypeConverter extends TypeConverter<Number, BigInteger> {
+public class NumberToBigIntegerTypeConverter extends TypeConverter<Number, BigInteger> implements LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -80,4 +81,16 @@ public class NumberToBigIntegerTypeConverter extends TypeConverter<Number, BigIn
             return BigInteger.valueOf(source.longValue());
         }
     }
+
+    /**
+     * 判断从指定源类型转换时是否不改变值，BigDecimal和浮点数会截断小数部分
+     *
+     * @param sourceType 源对象的实际类型
+     * @return 源类型为整数类型时返回true
+     */
+    @Override
+    public boolean isLosslessFrom(Class<?> sourceType) {
+        return sourceType == BigInteger.class || sourceType == Long.class || sourceType == Integer.class
+                || sourceType == Short.class || sourceType == Byte.class;
+    }
 }
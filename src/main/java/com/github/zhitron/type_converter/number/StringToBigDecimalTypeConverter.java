@@ -1,6 +1,8 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 
 import java.math.BigDecimal;
 
@@ -8,13 +10,13 @@ import java.math.BigDecimal;
  * 字符串到BigDecimal类型转换器
  * <p>
  * 用于将字符串转换为BigDecimal类型。
- * 该转换器直接使用BigDecimal的构造函数进行转换。
+ * 解析规则和结果与BigDecimal的字符串构造函数一致，常见长度的数值不经过该构造函数。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
  * @author zhitron
  */
-public class StringToBigDecimalTypeConverter extends CharSequenceTypeConverter<String, BigDecimal> {
+public class StringToBigDecimalTypeConverter extends CharSequenceTypeConverter<String, BigDecimal> implements LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -36,6 +38,35 @@ public class StringToBigDecimalTypeConverter extends CharSequenceTypeConverter<S
      */
     @Override
     protected BigDecimal convertsUncheckedString(String input) throws Throwable {
-        return new BigDecimal(input);
+        return DecimalRangeParser.parse(input, 0, input.length());
+    }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析BigDecimal，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的BigDecimal对象
+     * @throws NumberFormatException 当范围内不是有效的十进制数时抛出
+     */
+    @Override
+    protected BigDecimal convertsUncheckedRange(String source, int start, int end) throws Throwable {
+        return DecimalRangeParser.parse(source, start, end);
+    }
+
+    /**
+     * 由{@link DecimalRangeParser}解析十进制小数及指数形式，格式错误时失败，不截取修剪后的子串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(String source, int start, int end, ConversionResult<? super BigDecimal> result) {
+        BigDecimal value = DecimalRangeParser.tryParse(source, start, end);
+        return value != null ? result.succeed(value) : result.fail();
     }
 }
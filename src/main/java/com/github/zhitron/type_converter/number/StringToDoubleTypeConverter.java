@@ -1,6 +1,8 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.primitive.ToDoubleTypeConverter;
 
 /**
  * 字符串到Double类型转换器
@@ -12,7 +14,7 @@ import com.github.zhitron.type_converter.CharSequenceTypeConverter;
  *
  * @author zhitron
  */
-public class StringToDoubleTypeConverter extends CharSequenceTypeConverter<String, Double> {
+public class StringToDoubleTypeConverter extends CharSequenceTypeConverter<String, Double> implements ToDoubleTypeConverter<String> {
     /**
      * 单例实例
      */
@@ -36,4 +38,48 @@ public class StringToDoubleTypeConverter extends CharSequenceTypeConverter<Strin
     protected Double convertsUncheckedString(String input) throws Throwable {
         return Double.parseDouble(input);
     }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析double值，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的Double对象
+     * @throws NumberFormatException 当范围内不是有效的浮点数时抛出
+     */
+    @Override
+    protected Double convertsUncheckedRange(String source, int start, int end) throws Throwable {
+        return FloatingPointParser.parseDouble(source, start, end);
+    }
+
+    /**
+     * 在修剪范围上由{@link FloatingPointParser}解析double值，不创建修剪后的子串
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，空字符串或全空白字符的字符串时返回
+     * @return 转换后的double值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public double convertsUncheckedToDouble(String source, double targetDefault) throws Throwable {
+        int start = trimStart(source);
+        int end = trimEnd(source, start);
+        return start == end ? targetDefault : FloatingPointParser.parseDouble(source, start, end);
+    }
+
+    /**
+     * 由{@link FloatingPointParser#tryParseDouble(CharSequence, int, int)}解析，格式错误时失败，不截取修剪后的子串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(String source, int start, int end, ConversionResult<? super Double> result) {
+        Double value = FloatingPointParser.tryParseDouble(source, start, end);
+        return value != null ? result.succeed(value) : result.fail();
+    }
 }
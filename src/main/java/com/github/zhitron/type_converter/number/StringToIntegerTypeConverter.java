@@ -1,6 +1,9 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
+import com.github.zhitron.type_converter.primitive.ToIntTypeConverter;
 
 /**
  * 字符串到Integer类型转换器
@@ -12,7 +15,7 @@ import com.github.zhitron.type_converter.CharSequenceTypeConverter;
  *
  * @author zhitron
  */
-public class StringToIntegerTypeConverter extends CharSequenceTypeConverter<String, Integer> {
+public class StringToIntegerTypeConverter extends CharSequenceTypeConverter<String, Integer> implements ToIntTypeConverter<String>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -36,4 +39,36 @@ public class StringToIntegerTypeConverter extends CharSequenceTypeConverter<Stri
     protected Integer convertsUncheckedString(String input) throws Throwable {
         return Integer.parseInt(input);
     }
+
+    /**
+     * 修剪首尾空白后由{@link Integer#parseInt(String)}解析
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，空字符串或全空白字符的字符串时返回
+     * @return 转换后的int值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public int convertsUncheckedToInt(String source, int targetDefault) throws Throwable {
+        String input = trimToString(source);
+        return input == null ? targetDefault : Integer.parseInt(input);
+    }
+
+    /**
+     * 由{@link IntegerRangeParser}按十进制累加，非数字字符或超出int范围时失败，不截取修剪后的子串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(String source, int start, int end, ConversionResult<? super Integer> result) {
+        long negated = IntegerRangeParser.accumulate(source, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed((int) IntegerRangeParser.valueOf(source, start, negated));
+    }
 }
@@ -4,15 +4,12 @@ import com.github.zhitron.type_converter.CharSequenceTypeConverter;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * 字符串到Number类型转换器
  * <p>
  * 用于将字符串转换为Number类型。
- * 该转换器直接使用Number的构造函数进行转换。
+ * 整数按大小返回Integer、Long或BigInteger，带小数点的数值返回BigDecimal。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
@@ -23,7 +20,14 @@ public class StringToNumberTypeConverter extends CharSequenceTypeConverter<Strin
      * 单例实例
      */
     public static final StringToNumberTypeConverter INSTANCE = new StringToNumberTypeConverter();
-    private final Map<Integer, Integer> characterMapping;
+    /**
+     * 指数的绝对值达到此值时交由BigDecimal解析，保证累加时不会溢出
+     */
+    private static final long EXPONENT_LIMIT = 100_000_000L;
+    /**
+     * 字符映射，没有配置映射时为null，解析时不做任何查找
+     */
+    private final CodePointMapping characterMapping;
 
     /**
      * 构造函数，初始化目标类型为Number.class
@@ -40,25 +44,7 @@ public class StringToNumberTypeConverter extends CharSequenceTypeConverter<Strin
      */
     protected StringToNumberTypeConverter(CharSequence source, CharSequence target) {
         super(String.class, Number.class);
-        if (source == null || target == null) {
-            this.characterMapping = Collections.emptyMap();
-        } else {
-            int sourceLength = source.length(), targetLength = target.length();
-            if (sourceLength == 0) {
-                this.characterMapping = Collections.emptyMap();
-            } else {
-                Map<Integer, Integer> map = new HashMap<>();
-                for (int i = 0, iv, j = 0, jv; i < sourceLength && j < targetLength; i += Character.charCount(iv), j += Character.charCount(jv)) {
-                    iv = Character.codePointAt(source, i);
-                    jv = Character.codePointAt(target, j);
-                    if (map.containsKey(iv)) {
-                        throw new IllegalArgumentException("Duplicate mapping for character: " + iv);
-                    }
-                    map.put(iv, jv);
-                }
-                this.characterMapping = map;
-            }
-        }
+        this.characterMapping = CodePointMapping.of(source, target);
     }
 
     /**
@@ -70,111 +56,254 @@ public class StringToNumberTypeConverter extends CharSequenceTypeConverter<Strin
      */
     @Override
     protected Number convertsUncheckedString(String input) throws Throwable {
-        // 字符映射处理
-        int[] codePoints = input.codePoints()
-                .map(cp -> characterMapping.getOrDefault(cp, cp))
-                .toArray();
-        int len = codePoints.length;
-        StringBuilder buffer = new StringBuilder(len + 8);
-        int index = 0;
+        return parse(input, 0, input.length());
+    }
 
+    /**
+     * 直接在源字符串的修剪范围上解析数值，不产生中间字符串
+     *
+     * @param source 源字符串
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的目标对象
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    protected Number convertsUncheckedRange(String source, int start, int end) throws Throwable {
+        return parse(source, start, end);
+    }
+
+    /**
+     * 一次遍历解析字符序列指定范围内的数值
+     * <p>
+     * 整数在int范围内时返回Integer，在long范围内时返回Long；带小数点的数值返回BigDecimal，
+     * 其中未缩放值在long范围内时直接由{@link BigDecimal#valueOf(long, int)}构造。
+     * 只有超出long范围、包含非ASCII数字或指数超出常规范围时，才按原规则拼接字符串后交由BigInteger或BigDecimal解析。
+     * </p>
+     * <p>
+     * 解析规则：整数部分可以包含千分位分隔符','；小数点前后可以没有数字（按0处理）；
+     * 指数部分只对带小数点的数值有效，结尾单独的'e'会被忽略；只有正负号时返回0；无法解析时返回null。
+     * </p>
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含），大于start
+     * @return 解析出的数值，无法解析时返回null
+     */
+    final Number parse(CharSequence source, int start, int end) {
+        int index = start;
+        int codePoint = Character.codePointAt(source, index);
+        int ch = map(codePoint);
         // 处理正负号
-        int ch = codePoints[index];
-        if (ch == '+' || ch == '-') {
-            buffer.appendCodePoint(ch);
-            index++;
-            if (index >= len) {
-                return BigInteger.ZERO; // 只有符号
+        boolean negative = ch == '-';
+        if (negative || ch == '+') {
+            index += Character.charCount(codePoint);
+            if (index >= end) {
+                return 0; // 只有符号
             }
         }
-
+        // 与Long.parseLong一样按负数累加，使Long.MIN_VALUE也能表示
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long value = 0;
+        // 小数位数，没有小数点时为-1
+        int scale = -1;
         boolean hasDigit = false;
-        int dotIndex = -1;
-
-        // 查找小数点位置
-        for (int i = 0; i < len; i++) {
-            if (codePoints[i] == '.') {
-                dotIndex = i;
+        // 整数部分支持千分位分隔符，小数部分只能是数字
+        for (; index < end; index += Character.charCount(codePoint)) {
+            codePoint = Character.codePointAt(source, index);
+            ch = map(codePoint);
+            if (ch >= '0' && ch <= '9') {
+                int digit = ch - '0';
+                if (value < multiplyMin || value * 10 < limit + digit) {
+                    return parseText(source, start, end);
+                }
+                value = value * 10 - digit;
+                hasDigit = true;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (ch == ',' && scale < 0) {
+                // 跳过千分位分隔符
+            } else if (ch == '.' && scale < 0) {
+                scale = 0;
+            } else if (Character.isDigit(ch)) {
+                return parseText(source, start, end);
+            } else {
                 break;
             }
         }
+        // 如果既没有数字也没有小数点则返回null
+        if (!hasDigit && scale < 0) {
+            return null;
+        }
+        // 小数点后没有数字时补一个0
+        if (scale == 0) {
+            if (value < multiplyMin) {
+                return parseText(source, start, end);
+            }
+            value *= 10;
+            scale = 1;
+        }
+        // 指数部分处理，结尾单独的'e'会被忽略
+        long exponent = 0;
+        if (index < end && (ch == 'e' || ch == 'E')) {
+            index += Character.charCount(codePoint);
+            if (index < end) {
+                codePoint = Character.codePointAt(source, index);
+                ch = map(codePoint);
+                boolean negativeExponent = ch == '-';
+                if (negativeExponent || ch == '+') {
+                    index += Character.charCount(codePoint);
+                }
+                int exponentStart = index;
+                for (; index < end; index += Character.charCount(codePoint)) {
+                    codePoint = Character.codePointAt(source, index);
+                    ch = map(codePoint);
+                    if (ch >= '0' && ch <= '9') {
+                        if (exponent >= EXPONENT_LIMIT) {
+                            return parseText(source, start, end);
+                        }
+                        exponent = exponent * 10 + (ch - '0');
+                    } else if (Character.isDigit(ch)) {
+                        return parseText(source, start, end);
+                    } else {
+                        break;
+                    }
+                }
+                // 指数没有数字或者整数带有指数时返回null
+                if (index == exponentStart || scale < 0) {
+                    return null;
+                }
+                if (negativeExponent) {
+                    exponent = -exponent;
+                }
+            }
+        }
+        // 如果还有未处理的字符则返回null
+        if (index != end) {
+            return null;
+        }
+        long unscaled = negative ? value : -value;
+        if (scale >= 0) {
+            long adjustedScale = scale - exponent;
+            if (adjustedScale != (int) adjustedScale) {
+                return parseText(source, start, end);
+            }
+            return BigDecimal.valueOf(unscaled, (int) adjustedScale);
+        }
+        if (unscaled == (int) unscaled) {
+            return (int) unscaled;
+        }
+        return unscaled;
+    }
 
+    /**
+     * 按原规则将数值拼接为规范的字符串后交由BigInteger或BigDecimal解析，用于快速路径无法处理的数值
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含），大于start
+     * @return 解析出的数值，整数在long范围内时缩小为Integer或Long，无法解析时返回null
+     */
+    private Number parseText(CharSequence source, int start, int end) {
+        StringBuilder buffer = new StringBuilder(end - start + 8);
+        int index = start;
+        int codePoint = Character.codePointAt(source, index);
+        int ch = map(codePoint);
+        // 处理正负号
+        if (ch == '+' || ch == '-') {
+            buffer.appendCodePoint(ch);
+            index += Character.charCount(codePoint);
+        }
+        boolean hasDigit = false;
         // 整数部分处理，支持千分位分隔符
-        while (index < len) {
-            ch = codePoints[index];
-            if (ch == ',') {
-                index++; // 跳过千分位分隔符
-            } else if (ch == '.') {
-                break;
-            } else if (Character.isDigit(ch)) {
+        for (; index < end; index += Character.charCount(codePoint)) {
+            codePoint = Character.codePointAt(source, index);
+            ch = map(codePoint);
+            if (Character.isDigit(ch)) {
                 buffer.appendCodePoint(ch);
                 hasDigit = true;
-                index++;
-            } else {
+            } else if (ch != ',') {
                 break;
             }
         }
-
         // 小数点处理
-        if (index < len && codePoints[index] == '.') {
+        boolean hasDot = index < end && ch == '.';
+        if (hasDot) {
             if (!hasDigit) {
                 buffer.append('0');
             }
             buffer.append('.');
             hasDigit = true;
-            index++;
-            boolean decimalHasDigit = false;
-            while (index < len && Character.isDigit(codePoints[index])) {
-                buffer.appendCodePoint(codePoints[index]);
-                decimalHasDigit = true;
-                index++;
+            index += Character.charCount(codePoint);
+            int fractionStart = buffer.length();
+            for (; index < end; index += Character.charCount(codePoint)) {
+                codePoint = Character.codePointAt(source, index);
+                ch = map(codePoint);
+                if (!Character.isDigit(ch)) {
+                    break;
+                }
+                buffer.appendCodePoint(ch);
             }
-            if (!decimalHasDigit) {
+            if (buffer.length() == fractionStart) {
                 buffer.append('0');
             }
         }
-
         // 如果没有数字则返回null
         if (!hasDigit) {
             return null;
         }
-
         // 指数部分处理
-        if (index < len && (codePoints[index] == 'e' || codePoints[index] == 'E')) {
-            buffer.append('E');
-            index++;
-            if (index >= len) {
-                buffer.setLength(buffer.length() - 1); // 回退 E
-            } else {
-                ch = codePoints[index];
+        if (index < end && (ch == 'e' || ch == 'E')) {
+            index += Character.charCount(codePoint);
+            if (index < end) {
+                buffer.append('E');
+                codePoint = Character.codePointAt(source, index);
+                ch = map(codePoint);
                 if (ch == '+' || ch == '-') {
-                    buffer.appendCodePoint(ch);
-                    index++;
-                } else {
-                    buffer.append('+');
+                    index += Character.charCount(codePoint);
                 }
-                int expStart = buffer.length();
-                while (index < len && Character.isDigit(codePoints[index])) {
-                    buffer.appendCodePoint(codePoints[index]);
-                    index++;
+                buffer.append(ch == '-' ? '-' : '+');
+                int exponentStart = buffer.length();
+                for (; index < end; index += Character.charCount(codePoint)) {
+                    codePoint = Character.codePointAt(source, index);
+                    ch = map(codePoint);
+                    if (!Character.isDigit(ch)) {
+                        break;
+                    }
+                    buffer.appendCodePoint(ch);
                 }
-                if (buffer.length() == expStart) {
-                    buffer.setLength(buffer.length() - 1); // 去掉符号
+                if (buffer.length() == exponentStart) {
+                    return null;
                 }
             }
         }
-
         // 如果还有未处理的字符则返回null
-        if (index != len) {
+        if (index != end) {
             return null;
         }
-
         try {
-            String resultStr = buffer.toString();
-            // 根据是否包含小数点决定返回BigDecimal还是BigInteger
-            return dotIndex >= 0 ? new BigDecimal(resultStr) : new BigInteger(resultStr);
+            if (hasDot) {
+                return DecimalRangeParser.parse(buffer, 0, buffer.length());
+            }
+            BigInteger integer = BigIntegerRangeParser.parse(buffer, 0, buffer.length());
+            if (integer.bitLength() < Integer.SIZE) {
+                return integer.intValue();
+            }
+            return integer.bitLength() < Long.SIZE ? (Number) integer.longValue() : integer;
         } catch (NumberFormatException e) {
             return null;
         }
     }
+
+    /**
+     * 获取代码点映射后的代码点
+     *
+     * @param codePoint 源代码点
+     * @return 映射后的代码点，没有映射时返回源代码点
+     */
+    private int map(int codePoint) {
+        return characterMapping == null ? codePoint : characterMapping.map(codePoint);
+    }
 }
@@ -1,6 +1,7 @@
 package com.github.zhitron.type_converter.number;
 
 import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.ConversionResult;
 
 /**
  * 字符串到Short类型转换器
@@ -36,4 +37,22 @@ public class StringToShortTypeConverter extends CharSequenceTypeConverter<String
     protected Short convertsUncheckedString(String input) throws Throwable {
         return Short.parseShort(input);
     }
+
+    /**
+     * 由{@link IntegerRangeParser}按十进制累加，非数字字符或超出short范围时失败，不截取修剪后的子串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    protected boolean tryConvertsUncheckedRange(String source, int start, int end, ConversionResult<? super Short> result) {
+        long negated = IntegerRangeParser.accumulate(source, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed((short) IntegerRangeParser.valueOf(source, start, negated));
+    }
 }
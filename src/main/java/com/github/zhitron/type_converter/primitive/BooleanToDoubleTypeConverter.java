@@ -11,7 +11,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class BooleanToDoubleTypeConverter extends TypeConverter<Boolean, Double> {
+public class BooleanToDoubleTypeConverter extends TypeConverter<Boolean, Double> implements ToDoubleTypeConverter<Boolean> {
     /**
      * 单例实例
      */
@@ -34,6 +34,19 @@ public class BooleanToDoubleTypeConverter extends TypeConverter<Boolean, Double>
      */
     @Override
     public Double convertsUnchecked(Boolean source) throws Throwable {
+        return convertsUncheckedToDouble(source, 0);
+    }
+
+    /**
+     * true转换为1.0，false转换为0.0
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的double值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public double convertsUncheckedToDouble(Boolean source, double targetDefault) throws Throwable {
         return source ? (double) 1 : (double) 0;
     }
 }
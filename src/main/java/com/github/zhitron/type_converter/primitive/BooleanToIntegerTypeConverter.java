@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverter;
 
 /**
@@ -12,7 +13,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class BooleanToIntegerTypeConverter extends TypeConverter<Boolean, Integer> {
+public class BooleanToIntegerTypeConverter extends TypeConverter<Boolean, Integer> implements ToIntTypeConverter<Boolean>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -35,6 +36,19 @@ public class BooleanToIntegerTypeConverter extends TypeConverter<Boolean, Intege
      */
     @Override
     public Integer convertsUnchecked(Boolean source) throws Throwable {
+        return convertsUncheckedToInt(source, 0);
+    }
+
+    /**
+     * true转换为1，false转换为0
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的int值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public int convertsUncheckedToInt(Boolean source, int targetDefault) throws Throwable {
         return source ? 1 : 0;
     }
 }
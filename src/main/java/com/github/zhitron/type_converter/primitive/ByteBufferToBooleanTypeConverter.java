@@ -0,0 +1,55 @@
+package com.github.zhitron.type_converter.primitive;
+
+import com.github.zhitron.type_converter.AsciiCharSequence;
+import com.github.zhitron.type_converter.TypeConverter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer到Boolean类型转换器
+ * <p>
+ * 将缓冲区position到limit之间的ASCII字节视为字符序列，转换规则与{@link CharSequenceToBooleanTypeConverter}一致。
+ * 通过{@link AsciiCharSequence}直接读取堆缓冲区或直接缓冲区中的字节，不解码、不复制，也不改变缓冲区的position，并直接得到基本类型值。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class ByteBufferToBooleanTypeConverter extends TypeConverter<ByteBuffer, Boolean> implements ToBooleanTypeConverter<ByteBuffer> {
+    /**
+     * 单例实例
+     */
+    public static final ByteBufferToBooleanTypeConverter INSTANCE = new ByteBufferToBooleanTypeConverter();
+
+    /**
+     * 构造函数，初始化源类型为ByteBuffer.class，目标类型为Boolean.class
+     */
+    protected ByteBufferToBooleanTypeConverter() {
+        super(ByteBuffer.class, Boolean.class);
+    }
+
+    /**
+     * 将缓冲区中的字节转换为Boolean对象
+     *
+     * @param source 源缓冲区
+     * @return 转换后的Boolean对象
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public Boolean convertsUnchecked(ByteBuffer source) throws Throwable {
+        return CharSequenceToBooleanTypeConverter.INSTANCE.convertsUnchecked(AsciiCharSequence.of(source));
+    }
+
+    /**
+     * 把缓冲区剩余字节按ASCII字符交给{@link CharSequenceToBooleanTypeConverter}判断，不移动缓冲区位置
+     *
+     * @param source        源缓冲区
+     * @param targetDefault 默认值，当对应的装箱转换结果为null时返回
+     * @return 转换后的布尔型值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedToBoolean(ByteBuffer source, boolean targetDefault) throws Throwable {
+        return CharSequenceToBooleanTypeConverter.INSTANCE.convertsUncheckedToBoolean(AsciiCharSequence.of(source), targetDefault);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.zhitron.type_converter.primitive;
+
+import com.github.zhitron.type_converter.TypeConverter;
+
+/**
+ * 字符序列到布尔类型转换器
+ * <p>
+ * 转换规则与{@link StringToBooleanTypeConverter}一致：只有当字符序列为"true"（忽略大小写）时返回true，其他所有情况都返回false。
+ * 直接按索引比较字符，不产生中间字符串。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class CharSequenceToBooleanTypeConverter extends TypeConverter<CharSequence, Boolean> implements ToBooleanTypeConverter<CharSequence> {
+    /**
+     * 单例实例
+     */
+    public static final CharSequenceToBooleanTypeConverter INSTANCE = new CharSequenceToBooleanTypeConverter();
+
+    /**
+     * 构造函数，初始化目标类型为Boolean.class
+     * 使用protected修饰符防止外部直接实例化
+     */
+    protected CharSequenceToBooleanTypeConverter() {
+        super(Boolean.class);
+    }
+
+    /**
+     * 判断指定的源对象是否支持转换
+     * 仅当源对象是CharSequence类型时才支持转换
+     *
+     * @param source 源对象
+     * @return 如果源对象是CharSequence类型返回true，否则返回false
+     */
+    @Override
+    public boolean isSupportsSource(Object source) {
+        return source instanceof CharSequence;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，不进行源对象类型检查
+     *
+     * @param source 源对象，任意字符序列
+     * @return 转换后的Boolean对象
+     */
+    @Override
+    public Boolean convertsUnchecked(CharSequence source) throws Throwable {
+        return convertsUncheckedToBoolean(source, false);
+    }
+
+    /**
+     * 逐个比较字符，忽略大小写的"true"为true，不调用toString复制字符序列
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的boolean值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedToBoolean(CharSequence source, boolean targetDefault) throws Throwable {
+        // 与0x20按位或只会把ASCII大写字母转为小写，与String.equalsIgnoreCase("true")的结果一致
+        return source.length() == 4
+                && (source.charAt(0) | 0x20) == 't'
+                && (source.charAt(1) | 0x20) == 'r'
+                && (source.charAt(2) | 0x20) == 'u'
+                && (source.charAt(3) | 0x20) == 'e';
+    }
+}
@@ -13,7 +13,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class CharacterToBooleanTypeConverter extends TypeConverter<Character, Boolean> {
+public class CharacterToBooleanTypeConverter extends TypeConverter<Character, Boolean> implements ToBooleanTypeConverter<Character> {
     /**
      * 单例实例
      */
@@ -36,6 +36,19 @@ public class CharacterToBooleanTypeConverter extends TypeConverter<Character, Bo
      */
     @Override
     public Boolean convertsUnchecked(Character source) throws Throwable {
+        return convertsUncheckedToBoolean(source, false);
+    }
+
+    /**
+     * 空白字符和\u0000为false，其余字符为true
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的boolean值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedToBoolean(Character source, boolean targetDefault) throws Throwable {
         if (source == null) {
             return false;
         }
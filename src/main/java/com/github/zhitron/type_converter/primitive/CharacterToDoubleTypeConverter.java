@@ -11,7 +11,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class CharacterToDoubleTypeConverter extends TypeConverter<Character, Double> {
+public class CharacterToDoubleTypeConverter extends TypeConverter<Character, Double> implements ToDoubleTypeConverter<Character> {
     /**
      * 单例实例
      */
@@ -35,6 +35,19 @@ public class CharacterToDoubleTypeConverter extends TypeConverter<Character, Dou
      */
     @Override
     public Double convertsUnchecked(Character source) throws Throwable {
+        return convertsUncheckedToDouble(source, 0);
+    }
+
+    /**
+     * 取字符的UTF-16码元值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的double值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public double convertsUncheckedToDouble(Character source, double targetDefault) throws Throwable {
         return (double) source;
     }
 }
@@ -11,7 +11,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class CharacterToIntegerTypeConverter extends TypeConverter<Character, Integer> {
+public class CharacterToIntegerTypeConverter extends TypeConverter<Character, Integer> implements ToIntTypeConverter<Character> {
     /**
      * 单例实例
      */
@@ -35,6 +35,19 @@ public class CharacterToIntegerTypeConverter extends TypeConverter<Character, In
      */
     @Override
     public Integer convertsUnchecked(Character source) throws Throwable {
+        return convertsUncheckedToInt(source, 0);
+    }
+
+    /**
+     * 取字符的UTF-16码元值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的int值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public int convertsUncheckedToInt(Character source, int targetDefault) throws Throwable {
         return (int) source;
     }
 }
@@ -11,7 +11,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class CharacterToLongTypeConverter extends TypeConverter<Character, Long> {
+public class CharacterToLongTypeConverter extends TypeConverter<Character, Long> implements ToLongTypeConverter<Character> {
     /**
      * 单例实例
      */
@@ -35,6 +35,19 @@ public class CharacterToLongTypeConverter extends TypeConverter<Character, Long>
      */
     @Override
     public Long convertsUnchecked(Character source) throws Throwable {
+        return convertsUncheckedToLong(source, 0);
+    }
+
+    /**
+     * 取字符的UTF-16码元值
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的long值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public long convertsUncheckedToLong(Character source, long targetDefault) throws Throwable {
         return (long) source;
     }
 }
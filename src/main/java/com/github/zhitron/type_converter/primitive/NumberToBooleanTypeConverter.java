@@ -12,7 +12,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class NumberToBooleanTypeConverter extends TypeConverter<Number, Boolean> {
+public class NumberToBooleanTypeConverter extends TypeConverter<Number, Boolean> implements ToBooleanTypeConverter<Number> {
     /**
      * 单例实例
      */
@@ -48,6 +48,19 @@ public class NumberToBooleanTypeConverter extends TypeConverter<Number, Boolean>
      */
     @Override
     public Boolean convertsUnchecked(Number source) throws Throwable {
+        return convertsUncheckedToBoolean(source, false);
+    }
+
+    /**
+     * long值非0时为true
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的boolean值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedToBoolean(Number source, boolean targetDefault) throws Throwable {
         return source.longValue() != 0;
     }
 }
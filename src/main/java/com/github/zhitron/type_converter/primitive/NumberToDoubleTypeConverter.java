@@ -11,7 +11,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class NumberToDoubleTypeConverter extends TypeConverter<Number, Double> {
+public class NumberToDoubleTypeConverter extends TypeConverter<Number, Double> implements ToDoubleTypeConverter<Number> {
     /**
      * 单例实例
      */
@@ -47,6 +47,19 @@ public class NumberToDoubleTypeConverter extends TypeConverter<Number, Double> {
      */
     @Override
     public Double convertsUnchecked(Number source) throws Throwable {
+        return convertsUncheckedToDouble(source, 0);
+    }
+
+    /**
+     * 取{@link Number#doubleValue()}
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的double值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public double convertsUncheckedToDouble(Number source, double targetDefault) throws Throwable {
         return source.doubleValue();
     }
 }
@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverter;
 
 /**
@@ -12,7 +13,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class NumberToIntegerTypeConverter extends TypeConverter<Number, Integer> {
+public class NumberToIntegerTypeConverter extends TypeConverter<Number, Integer> implements ToIntTypeConverter<Number>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -49,10 +50,34 @@ public class NumberToIntegerTypeConverter extends TypeConverter<Number, Integer>
      */
     @Override
     public Integer convertsUnchecked(Number source) throws Throwable {
+        return convertsUncheckedToInt(source, 0);
+    }
+
+    /**
+     * 按long值检查是否超出int范围，浮点数截断小数部分
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用，溢出时抛出ArithmeticException
+     * @return 转换后的int值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public int convertsUncheckedToInt(Number source, int targetDefault) throws Throwable {
         long value = source.longValue();
         if ((int) value != value) {
             throw new ArithmeticException("integer overflow");
         }
         return (int) value;
     }
+
+    /**
+     * 判断从指定源类型转换时是否不改变值，Long超出int范围时抛出异常，浮点数会截断小数部分
+     *
+     * @param sourceType 源对象的实际类型
+     * @return 源类型为Integer、Short、Byte或Long时返回true
+     */
+    @Override
+    public boolean isLosslessFrom(Class<?> sourceType) {
+        return sourceType == Integer.class || sourceType == Short.class || sourceType == Byte.class || sourceType == Long.class;
+    }
 }
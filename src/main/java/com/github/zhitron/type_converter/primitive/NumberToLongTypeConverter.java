@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverter;
 
 /**
@@ -11,7 +12,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class NumberToLongTypeConverter extends TypeConverter<Number, Long> {
+public class NumberToLongTypeConverter extends TypeConverter<Number, Long> implements ToLongTypeConverter<Number>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -47,6 +48,30 @@ public class NumberToLongTypeConverter extends TypeConverter<Number, Long> {
      */
     @Override
     public Long convertsUnchecked(Number source) throws Throwable {
+        return convertsUncheckedToLong(source, 0);
+    }
+
+    /**
+     * 取{@link Number#longValue()}，浮点数截断小数部分
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的long值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public long convertsUncheckedToLong(Number source, long targetDefault) throws Throwable {
         return source.longValue();
     }
+
+    /**
+     * 判断从指定源类型转换时是否不改变值，浮点数、BigDecimal会截断小数部分，BigInteger可能溢出
+     *
+     * @param sourceType 源对象的实际类型
+     * @return 源类型为Long、Integer、Short或Byte时返回true
+     */
+    @Override
+    public boolean isLosslessFrom(Class<?> sourceType) {
+        return sourceType == Long.class || sourceType == Integer.class || sourceType == Short.class || sourceType == Byte.class;
+    }
 }
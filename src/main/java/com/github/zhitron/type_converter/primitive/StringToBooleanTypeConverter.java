@@ -12,7 +12,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class StringToBooleanTypeConverter extends TypeConverter<String, Boolean> {
+public class StringToBooleanTypeConverter extends TypeConverter<String, Boolean> implements ToBooleanTypeConverter<String> {
     /**
      * 单例实例
      */
@@ -36,6 +36,19 @@ public class StringToBooleanTypeConverter extends TypeConverter<String, Boolean>
      */
     @Override
     public Boolean convertsUnchecked(String source) throws Throwable {
+        return convertsUncheckedToBoolean(source, false);
+    }
+
+    /**
+     * 由{@link Boolean#parseBoolean(String)}判断，忽略大小写的"true"为true
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用
+     * @return 转换后的boolean值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedToBoolean(String source, boolean targetDefault) throws Throwable {
         return Boolean.parseBoolean(source);
     }
 }
@@ -1,6 +1,8 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.ConversionResult;
 import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.number.IntegerRangeParser;
 
 /**
  * 字符串到字节的类型转换器
@@ -38,4 +40,20 @@ public class StringToByteTypeConverter extends TypeConverter<String, Byte> {
     public Byte convertsUnchecked(String source) throws Throwable {
         return Byte.parseByte(source);
     }
+
+    /**
+     * 尝试将字符串转换为Byte对象，转换规则与{@link #convertsUnchecked(String)}一致，只扫描一次字符串并检查解析状态，转换失败时不创建异常对象
+     *
+     * @param source 源对象
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(String source, ConversionResult<? super Byte> result) {
+        long negated = IntegerRangeParser.accumulate(source, 0, source.length(), Byte.MIN_VALUE, Byte.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed((byte) IntegerRangeParser.valueOf(source, 0, negated));
+    }
 }
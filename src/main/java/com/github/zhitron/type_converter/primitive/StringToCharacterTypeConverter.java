@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.ConversionResult;
 import com.github.zhitron.type_converter.TypeConverter;
 import com.github.zhitron.type_converter.TypeConverterException;
 
@@ -43,4 +44,16 @@ public class StringToCharacterTypeConverter extends TypeConverter<String, Charac
         }
         return source.charAt(0);
     }
+
+    /**
+     * 尝试将字符串转换为Character对象，字符串长度不为1时转换失败，不创建异常对象
+     *
+     * @param source 源对象
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(String source, ConversionResult<? super Character> result) {
+        return source.length() == 1 ? result.succeed(source.charAt(0)) : result.fail();
+    }
 }
@@ -1,17 +1,19 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.ConversionResult;
 import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.number.FloatingPointParser;
 
 /**
  * 字符串到双精度浮点数的类型转换器
  * <p>
- * 该转换器用于将String类型转换为Double类型，使用Double.parseDouble()方法进行转换。
+ * 该转换器用于将String类型转换为Double类型，使用{@link FloatingPointParser}进行转换，结果与Double.parseDouble()一致。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
  * @author zhitron
  */
-public class StringToDoubleTypeConverter extends TypeConverter<String, Double> {
+public class StringToDoubleTypeConverter extends TypeConverter<String, Double> implements ToDoubleTypeConverter<String> {
     /**
      * 单例实例
      */
@@ -27,7 +29,7 @@ public class StringToDoubleTypeConverter extends TypeConverter<String, Double> {
 
     /**
      * 将源对象转换为目标类型对象，不进行源对象类型检查
-     * 使用Double.parseDouble()方法将字符串转换为双精度浮点数
+     * 使用{@link FloatingPointParser}将字符串转换为双精度浮点数，结果与Double.parseDouble()一致
      *
      * @param source 源对象，必须是有效的数字字符串
      * @return 转换后的Double对象
@@ -36,6 +38,32 @@ public class StringToDoubleTypeConverter extends TypeConverter<String, Double> {
      */
     @Override
     public Double convertsUnchecked(String source) throws Throwable {
-        return Double.parseDouble(source);
+        return convertsUncheckedToDouble(source, 0);
+    }
+
+    /**
+     * 由{@link FloatingPointParser}解析整个字符串，不修剪空白
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用，解析失败时抛出NumberFormatException
+     * @return 转换后的double值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public double convertsUncheckedToDouble(String source, double targetDefault) throws Throwable {
+        return FloatingPointParser.parseDouble(source, 0, source.length());
+    }
+
+    /**
+     * 尝试将字符串转换为Double对象，转换规则与{@link #convertsUnchecked(String)}一致，只扫描一次字符串并检查解析状态，转换失败时不创建异常对象
+     *
+     * @param source 源对象
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(String source, ConversionResult<? super Double> result) {
+        Double value = FloatingPointParser.tryParseDouble(source, 0, source.length());
+        return value != null ? result.succeed(value) : result.fail();
     }
 }
@@ -1,11 +1,13 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.ConversionResult;
 import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.number.FloatingPointParser;
 
 /**
  * 字符串到浮点数的类型转换器
  * <p>
- * 该转换器用于将String类型转换为Float类型，使用Float.parseFloat()方法进行转换。
+ * 该转换器用于将String类型转换为Float类型，使用{@link FloatingPointParser}进行转换，结果与Float.parseFloat()一致。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
@@ -27,7 +29,7 @@ public class StringToFloatTypeConverter extends TypeConverter<String, Float> {
 
     /**
      * 将源对象转换为目标类型对象，不进行源对象类型检查
-     * 使用Float.parseFloat()方法将字符串转换为浮点数
+     * 使用{@link FloatingPointParser}将字符串转换为浮点数，结果与Float.parseFloat()一致
      *
      * @param source 源对象，必须是有效的数字字符串
      * @return 转换后的Float对象
@@ -36,6 +38,19 @@ public class StringToFloatTypeConverter extends TypeConverter<String, Float> {
      */
     @Override
     public Float convertsUnchecked(String source) throws Throwable {
-        return Float.parseFloat(source);
+        return FloatingPointParser.parseFloat(source, 0, source.length());
+    }
+
+    /**
+     * 尝试将字符串转换为Float对象，转换规则与{@link #convertsUnchecked(String)}一致，只扫描一次字符串并检查解析状态，转换失败时不创建异常对象
+     *
+     * @param source 源对象
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(String source, ConversionResult<? super Float> result) {
+        Float value = FloatingPointParser.tryParseFloat(source, 0, source.length());
+        return value != null ? result.succeed(value) : result.fail();
     }
 }
@@ -1,6 +1,9 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.number.IntegerRangeParser;
 
 /**
  * 字符串到整型的类型转换器
@@ -11,7 +14,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class StringToIntegerTypeConverter extends TypeConverter<String, Integer> {
+public class StringToIntegerTypeConverter extends TypeConverter<String, Integer> implements ToIntTypeConverter<String>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -36,6 +39,35 @@ public class StringToIntegerTypeConverter extends TypeConverter<String, Integer>
      */
     @Override
     public Integer convertsUnchecked(String source) throws Throwable {
+        return convertsUncheckedToInt(source, 0);
+    }
+
+    /**
+     * 由{@link Integer#parseInt(String)}解析，不修剪空白
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用，解析失败时抛出NumberFormatException
+     * @return 转换后的int值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public int convertsUncheckedToInt(String source, int targetDefault) throws Throwable {
         return Integer.parseInt(source);
     }
+
+    /**
+     * 尝试将字符串转换为Integer对象，转换规则与{@link #convertsUnchecked(String)}一致，只扫描一次字符串并检查解析状态，转换失败时不创建异常对象
+     *
+     * @param source 源对象
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(String source, ConversionResult<? super Integer> result) {
+        long negated = IntegerRangeParser.accumulate(source, 0, source.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed((int) IntegerRangeParser.valueOf(source, 0, negated));
+    }
 }
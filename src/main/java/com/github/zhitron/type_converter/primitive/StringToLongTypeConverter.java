@@ -1,6 +1,9 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.ConversionResult;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.number.IntegerRangeParser;
 
 /**
  * 字符串到长整型的类型转换器
@@ -11,7 +14,7 @@ import com.github.zhitron.type_converter.TypeConverter;
  *
  * @author zhitron
  */
-public class StringToLongTypeConverter extends TypeConverter<String, Long> {
+public class StringToLongTypeConverter extends TypeConverter<String, Long> implements ToLongTypeConverter<String>, LosslessTypeConverter {
     /**
      * 单例实例
      */
@@ -36,6 +39,35 @@ public class StringToLongTypeConverter extends TypeConverter<String, Long> {
      */
     @Override
     public Long convertsUnchecked(String source) throws Throwable {
+        return convertsUncheckedToLong(source, 0);
+    }
+
+    /**
+     * 由{@link Long#parseLong(String)}解析，不修剪空白
+     *
+     * @param source        源对象
+     * @param targetDefault 默认值，未使用，解析失败时抛出NumberFormatException
+     * @return 转换后的long值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public long convertsUncheckedToLong(String source, long targetDefault) throws Throwable {
         return Long.parseLong(source);
     }
+
+    /**
+     * 尝试将字符串转换为Long对象，转换规则与{@link #convertsUnchecked(String)}一致，只扫描一次字符串并检查解析状态，转换失败时不创建异常对象
+     *
+     * @param source 源对象
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(String source, ConversionResult<? super Long> result) {
+        long negated = IntegerRangeParser.accumulate(source, 0, source.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed(IntegerRangeParser.valueOf(source, 0, negated));
+    }
 }
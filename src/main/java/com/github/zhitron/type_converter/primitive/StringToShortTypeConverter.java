@@ -1,6 +1,8 @@
 package com.github.zhitron.type_converter.primitive;
 
+import com.github.zhitron.type_converter.ConversionResult;
 import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.number.IntegerRangeParser;
 
 /**
  * 字符串到短整型的类型转换器
@@ -38,4 +40,20 @@ public class StringToShortTypeConverter extends TypeConverter<String, Short> {
     public Short convertsUnchecked(String source) throws Throwable {
         return Short.parseShort(source);
     }
+
+    /**
+     * 尝试将字符串转换为Short对象，转换规则与{@link #convertsUnchecked(String)}一致，只扫描一次字符串并检查解析状态，转换失败时不创建异常对象
+     *
+     * @param source 源对象
+     * @param result 接收转换结果的对象
+     * @return 转换成功时返回true
+     */
+    @Override
+    public boolean tryConvertsUnchecked(String source, ConversionResult<? super Short> result) {
+        long negated = IntegerRangeParser.accumulate(source, 0, source.length(), Short.MIN_VALUE, Short.MAX_VALUE);
+        if (negated == IntegerRangeParser.INVALID) {
+            return result.fail();
+        }
+        return result.succeed((short) IntegerRangeParser.valueOf(source, 0, negated));
+    }
 }
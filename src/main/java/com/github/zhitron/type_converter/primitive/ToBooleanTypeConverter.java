@@ -0,0 +1,24 @@
+package com.github.zhitron.type_converter.primitive;
+
+/**
+ * 直接返回boolean值的类型转换器
+ * <p>
+ * 由目标类型为Boolean的转换器实现，{@link com.github.zhitron.type_converter.TypeConverterManager#toBoolean(Object, boolean)}
+ * 解析到实现了本接口的转换器时直接调用{@link #convertsUncheckedToBoolean(Object, boolean)}，
+ * 省去的是Boolean.valueOf和拆箱的调用，Boolean本身只有两个缓存实例，不存在对象分配。
+ * </p>
+ *
+ * @param <SourceType> 源类型
+ * @author zhitron
+ */
+public interface ToBooleanTypeConverter<SourceType> {
+    /**
+     * 将源对象转换为布尔型值，不进行源对象类型检查
+     *
+     * @param source        源对象，不能为null
+     * @param targetDefault 默认值，当对应的装箱转换结果为null时返回
+     * @return 转换后的布尔型值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    boolean convertsUncheckedToBoolean(SourceType source, boolean targetDefault) throws Throwable;
+}
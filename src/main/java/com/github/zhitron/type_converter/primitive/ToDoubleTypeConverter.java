@@ -0,0 +1,24 @@
+package com.github.zhitron.type_converter.primitive;
+
+/**
+ * 直接返回double值的类型转换器
+ * <p>
+ * 由目标类型为Double的转换器实现，{@link com.github.zhitron.type_converter.TypeConverterManager#toDouble(Object, double)}
+ * 解析到实现了本接口的转换器时直接调用{@link #convertsUncheckedToDouble(Object, double)}，
+ * Double没有值缓存，按Double目标类型转换时每个结果都会分配新对象，本接口避免了这部分分配。
+ * </p>
+ *
+ * @param <SourceType> 源类型
+ * @author zhitron
+ */
+public interface ToDoubleTypeConverter<SourceType> {
+    /**
+     * 将源对象转换为双精度浮点型值，不进行源对象类型检查
+     *
+     * @param source        源对象，不能为null
+     * @param targetDefault 默认值，当对应的装箱转换结果为null时返回
+     * @return 转换后的双精度浮点型值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    double convertsUncheckedToDouble(SourceType source, double targetDefault) throws Throwable;
+}
@@ -0,0 +1,24 @@
+package com.github.zhitron.type_converter.primitive;
+
+/**
+ * 直接返回int值的类型转换器
+ * <p>
+ * 由目标类型为Integer的转换器实现，{@link com.github.zhitron.type_converter.TypeConverterManager#toInt(Object, int)}
+ * 解析到实现了本接口的转换器时直接调用{@link #convertsUncheckedToInt(Object, int)}，
+ * 例如在循环中把大量字符串解析为int累加时，不会为每个值创建Integer对象。
+ * </p>
+ *
+ * @param <SourceType> 源类型
+ * @author zhitron
+ */
+public interface ToIntTypeConverter<SourceType> {
+    /**
+     * 将源对象转换为整型值，不进行源对象类型检查
+     *
+     * @param source        源对象，不能为null
+     * @param targetDefault 默认值，当对应的装箱转换结果为null时返回
+     * @return 转换后的整型值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    int convertsUncheckedToInt(SourceType source, int targetDefault) throws Throwable;
+}
@@ -0,0 +1,24 @@
+package com.github.zhitron.type_converter.primitive;
+
+/**
+ * 直接返回long值的类型转换器
+ * <p>
+ * 由目标类型为Long的转换器实现，{@link com.github.zhitron.type_converter.TypeConverterManager#toLong(Object, long)}
+ * 解析到实现了本接口的转换器时直接调用{@link #convertsUncheckedToLong(Object, long)}，
+ * 超出Long缓存范围的时间戳、编号等值不再各自分配一个Long对象。
+ * </p>
+ *
+ * @param <SourceType> 源类型
+ * @author zhitron
+ */
+public interface ToLongTypeConverter<SourceType> {
+    /**
+     * 将源对象转换为长整型值，不进行源对象类型检查
+     *
+     * @param source        源对象，不能为null
+     * @param targetDefault 默认值，当对应的装箱转换结果为null时返回
+     * @return 转换后的长整型值
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    long convertsUncheckedToLong(SourceType source, long targetDefault) throws Throwable;
+}
@@ -0,0 +1,64 @@
+package com.github.zhitron.type_converter.string;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * 向{@link Appendable}写入字符的辅助方法
+ * <p>
+ * 对{@link StringBuilder}和{@link Writer}使用其批量写入字符数组的方法，其他目标通过{@link CharBuffer}包装后写入，均不产生中间字符串。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class Appendables {
+
+    private Appendables() {
+    }
+
+    /**
+     * 将字符数组的指定部分追加到目标中
+     *
+     * @param destination 目标
+     * @param chars       字符数组
+     * @param offset      起始位置
+     * @param length      字符个数
+     * @throws IOException 写入目标时发生错误时抛出
+     */
+    static void append(Appendable destination, char[] chars, int offset, int length) throws IOException {
+        if (destination instanceof StringBuilder) {
+            ((StringBuilder) destination).append(chars, offset, length);
+        } else if (destination instanceof Writer) {
+            ((Writer) destination).write(chars, offset, length);
+        } else {
+            destination.append(CharBuffer.wrap(chars, offset, length));
+        }
+    }
+
+    /**
+     * 将长整型值的十进制形式追加到目标中
+     *
+     * @param destination 目标
+     * @param value       长整型值
+     * @throws IOException 写入目标时发生错误时抛出
+     */
+    static void append(Appendable destination, long value) throws IOException {
+        if (destination instanceof StringBuilder) {
+            ((StringBuilder) destination).append(value);
+            return;
+        }
+        char[] chars = new char[20];
+        int position = chars.length;
+        // 以负数计算，避免Long.MIN_VALUE取反溢出
+        long remaining = value < 0 ? value : -value;
+        do {
+            chars[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            chars[--position] = '-';
+        }
+        append(destination, chars, position, chars.length - position);
+    }
+}
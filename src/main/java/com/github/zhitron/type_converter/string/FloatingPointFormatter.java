@@ -0,0 +1,140 @@
+package com.github.zhitron.type_converter.string;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 将double值格式化为不使用科学计数法的十进制字符串
+ * <p>
+ * 输出与{@code BigDecimal.valueOf(value).toPlainString()}逐字符一致：十进制数字仍然取自{@link Double#toString(double)}，
+ * 只是把其中的科学计数法直接展开到一个按最终长度分配的char数组中，省去创建{@link BigDecimal}的过程。
+ * 数字不自行计算，因此在各个JDK版本上的输出都与该版本的{@link Double#toString(double)}保持一致。
+ * NaN和无穷大与原实现一样抛出{@link NumberFormatException}。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class FloatingPointFormatter {
+
+    private FloatingPointFormatter() {
+    }
+
+    /**
+     * 将double值格式化为不使用科学计数法的十进制字符串
+     *
+     * @param value 需要格式化的值
+     * @return 与{@code BigDecimal.valueOf(value).toPlainString()}相同的字符串
+     * @throws NumberFormatException 当值为NaN或无穷大时抛出
+     */
+    static String toPlainString(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            // 保持与原实现相同的异常
+            return BigDecimal.valueOf(value).toPlainString();
+        }
+        if (value == 0) {
+            // BigDecimal没有负零
+            return "0.0";
+        }
+        String text = Double.toString(value);
+        int exponentIndex = text.indexOf('E');
+        // 未使用科学计数法时，BigDecimal.toPlainString的结果与之相同
+        return exponentIndex < 0 ? text : new String(toPlainChars(value, text, exponentIndex));
+    }
+
+    /**
+     * 将double值不使用科学计数法的十进制形式追加到目标中，内容与{@link #toPlainString(double)}一致
+     *
+     * @param value       需要格式化的值
+     * @param destination 追加字符的目标
+     * @throws NumberFormatException 当值为NaN或无穷大时抛出，此时不写入任何内容
+     * @throws IOException           写入目标时发生错误时抛出
+     */
+    static void appendPlainString(double value, Appendable destination) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value) || value == 0) {
+            destination.append(toPlainString(value));
+            return;
+        }
+        String text = Double.toString(value);
+        int exponentIndex = text.indexOf('E');
+        if (exponentIndex < 0) {
+            destination.append(text);
+            return;
+        }
+        char[] chars = toPlainChars(value, text, exponentIndex);
+        Appendables.append(destination, chars, 0, chars.length);
+    }
+
+    /**
+     * 将Double.toString输出的科学计数法形式转换为不使用科学计数法的形式
+     *
+     * @param value         非零的有限值
+     * @param text          Double.toString的结果
+     * @param exponentIndex 字符'E'的位置
+     * @return 格式化后的字符
+     */
+    private static char[] toPlainChars(double value, String text, int exponentIndex) {
+        boolean negative = text.charAt(0) == '-';
+        long unscaled = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        for (int i = negative ? 1 : 0; i < exponentIndex; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                fractionDigits = exponentIndex - i - 1;
+            } else {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+            }
+        }
+        if (digits > 18) {
+            return BigDecimal.valueOf(value).toPlainString().toCharArray();
+        }
+        int exponent = Integer.parseInt(text.substring(exponentIndex + 1));
+        return render(negative, unscaled, digits, 0, fractionDigits - exponent);
+    }
+
+    /**
+     * 按BigDecimal.toPlainString的规则输出非标度值(f * 10^zeros)和标度
+     *
+     * @param negative 是否为负数
+     * @param f        非标度值的有效数字
+     * @param digits   f的位数
+     * @param zeros    非标度值末尾额外的零的个数
+     * @param scale    标度
+     * @return 格式化后的字符
+     */
+    private static char[] render(boolean negative, long f, int digits, int zeros, int scale) {
+        int unscaledDigits = digits + zeros;
+        int length = unscaledDigits + (scale <= 0 ? -scale : scale < unscaledDigits ? 1 : scale - unscaledDigits + 2);
+        if (negative) {
+            length++;
+        }
+        char[] chars = new char[length];
+        int position = length;
+        for (int i = scale; i < 0; i++) {
+            chars[--position] = '0';
+        }
+        for (int i = 0; i < unscaledDigits; i++) {
+            if (i == scale && scale > 0) {
+                chars[--position] = '.';
+            }
+            if (i < zeros) {
+                chars[--position] = '0';
+            } else {
+                chars[--position] = (char) ('0' + f % 10);
+                f /= 10;
+            }
+        }
+        if (scale >= unscaledDigits) {
+            for (int i = unscaledDigits; i < scale; i++) {
+                chars[--position] = '0';
+            }
+            chars[--position] = '.';
+            chars[--position] = '0';
+        }
+        if (negative) {
+            chars[--position] = '-';
+        }
+        return chars;
+    }
+}
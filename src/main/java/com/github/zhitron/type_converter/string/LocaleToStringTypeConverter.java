@@ -13,11 +13,12 @@ import java.util.Locale;
  * - 如果Locale有语言和国家部分，返回"language-country"格式
  * - 如果Locale只有语言部分，返回"language"
  * - 如果Locale的语言部分为null，则视为空字符串
+ * 实现了{@link ToAppendableTypeConverter}，可以将语言和国家部分直接写入目标而不拼接字符串。
  * </p>
  *
  * @author zhitron
  */
-public class LocaleToStringTypeConverter extends TypeConverter<Locale, String> {
+public class LocaleToStringTypeConverter extends TypeConverter<Locale, String> implements ToAppendableTypeConverter<Locale> {
     /**
      * 单例实例
      */
@@ -57,4 +58,27 @@ public class LocaleToStringTypeConverter extends TypeConverter<Locale, String> {
         }
     }
 
+    /**
+     * 将Locale的字符串形式直接追加到目标中，内容与{@link #convertsUnchecked(Locale)}一致
+     *
+     * @param source      Locale源对象
+     * @param destination 追加字符的目标
+     * @return 写入了内容时返回true，源对象为null时返回false
+     * @throws Throwable 写入过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedTo(Locale source, Appendable destination) throws Throwable {
+        if (source == null) {
+            return false;
+        }
+        String language = source.getLanguage();
+        String country = source.getCountry();
+        if (language != null) {
+            destination.append(language);
+        }
+        if (country != null && !country.isEmpty()) {
+            destination.append('-').append(country);
+        }
+        return true;
+    }
 }
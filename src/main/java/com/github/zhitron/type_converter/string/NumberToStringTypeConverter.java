@@ -11,14 +11,15 @@ import java.math.BigDecimal;
  * 用于将各种数字类型(Number子类)转换为字符串表示形式。
  * 针对不同数字类型采用不同的转换策略以保证精度：
  * - BigDecimal: 使用toPlainString()避免科学计数法
- * - Double/Float: 先转为BigDecimal再使用toPlainString()
+ * - Double/Float: 输出与BigDecimal.valueOf(value).toPlainString()一致，由{@link FloatingPointFormatter}直接生成，不创建BigDecimal
  * - 其他Number类型: 直接使用toString()
+ * 实现了{@link ToAppendableTypeConverter}，Double、Float以及Long、Integer、Short、Byte的数字直接写入目标。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
  * @author zhitron
  */
-public class NumberToStringTypeConverter extends TypeConverter<Number, String> {
+public class NumberToStringTypeConverter extends TypeConverter<Number, String> implements ToAppendableTypeConverter<Number> {
     /**
      * 单例实例
      */
@@ -48,7 +49,7 @@ public class NumberToStringTypeConverter extends TypeConverter<Number, String> {
      * 将源对象转换为目标类型对象，不进行源对象类型检查
      * 针对不同数字类型采用不同的转换策略以保证精度：
      * - BigDecimal: 使用toPlainString()避免科学计数法
-     * - Double/Float: 先转为BigDecimal再使用toPlainString()
+     * - Double/Float: 输出与BigDecimal.valueOf(value).toPlainString()一致，由{@link FloatingPointFormatter}直接生成，不创建BigDecimal
      * - 其他Number类型: 直接使用toString()
      *
      * @param source 源对象(数字类型)
@@ -61,13 +62,34 @@ public class NumberToStringTypeConverter extends TypeConverter<Number, String> {
             // 对于BigDecimal，使用toPlainString()避免科学计数法表示
             return ((BigDecimal) source).toPlainString();
         } else if (source instanceof Double) {
-            // 对于Double，先转换为BigDecimal再输出，确保精度不丢失
-            return BigDecimal.valueOf((Double) source).toPlainString();
+            // 对于Double，输出最短的可还原数字且不使用科学计数法
+            return FloatingPointFormatter.toPlainString((Double) source);
         } else if (source instanceof Float) {
-            // 对于Float，先转换为BigDecimal再输出，确保精度不丢失
-            return BigDecimal.valueOf((Float) source).toPlainString();
+            // 对于Float，与原实现一样按扩展后的double值输出
+            return FloatingPointFormatter.toPlainString((Float) source);
         }
         // 其他Number类型的直接转换
         return source.toString();
     }
+
+    /**
+     * 将数字的字符串形式直接追加到目标中，内容与{@link #convertsUnchecked(Number)}一致
+     * Double、Float和Long、Integer、Short、Byte的数字直接写入目标，其他Number类型追加其字符串形式
+     *
+     * @param source      源对象(数字类型)
+     * @param destination 追加字符的目标
+     * @return 总是返回true
+     * @throws Throwable 转换或写入过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedTo(Number source, Appendable destination) throws Throwable {
+        if (source instanceof Double || source instanceof Float) {
+            FloatingPointFormatter.appendPlainString(source.doubleValue(), destination);
+        } else if (source instanceof Long || source instanceof Integer || source instanceof Short || source instanceof Byte) {
+            Appendables.append(destination, source.longValue());
+        } else {
+            destination.append(convertsUnchecked(source));
+        }
+        return true;
+    }
 }
@@ -10,11 +10,12 @@ import com.github.zhitron.type_converter.TypeConverter;
  * - DEFAULT: 默认转换器实例，不改变字符串大小写
  * - UPPER_CASE: 大写转换器实例，将结果转换为大写
  * - LOWER_CASE: 小写转换器实例，将结果转换为小写
+ * 实现了{@link ToAppendableTypeConverter}，不改变大小写时字符序列直接写入目标。
  * </p>
  *
  * @author zhitron
  */
-public class ObjectToStringTypeConverter extends TypeConverter<Object, String> {
+public class ObjectToStringTypeConverter extends TypeConverter<Object, String> implements ToAppendableTypeConverter<Object> {
     /**
      * 默认转换器实例，不改变字符串大小写
      */
@@ -28,6 +29,15 @@ public class ObjectToStringTypeConverter extends TypeConverter<Object, String> {
      */
     public static final ObjectToStringTypeConverter LOWER_CASE = new ObjectToStringTypeConverter("lower", "lowercase");
 
+    /**
+     * 是否将结果转换为大写，构造时根据选择器确定
+     */
+    private final boolean upperCase;
+    /**
+     * 是否将结果转换为小写，构造时根据选择器确定
+     */
+    private final boolean lowerCase;
+
     /**
      * 构造一个新的对象到字符串转换器
      * 使用protected修饰符防止外部直接实例化
@@ -36,6 +46,8 @@ public class ObjectToStringTypeConverter extends TypeConverter<Object, String> {
      */
     protected ObjectToStringTypeConverter(Object... supportedSelectors) {
         super(String.class, supportedSelectors);
+        this.upperCase = isContainsSelector("upper", "uppercase");
+        this.lowerCase = !upperCase && isContainsSelector("lower", "lowercase");
     }
 
     /**
@@ -61,11 +73,34 @@ public class ObjectToStringTypeConverter extends TypeConverter<Object, String> {
     @Override
     public String convertsUnchecked(Object source) throws Throwable {
         String result = source.toString();
-        if (isContainsSelector("upper", "uppercase")) {
+        if (upperCase) {
             return result.toUpperCase();
-        } else if (isContainsSelector("lower", "lowercase")) {
+        } else if (lowerCase) {
             return result.toLowerCase();
         }
         return result;
     }
+
+    /**
+     * 将对象的字符串形式直接追加到目标中，内容与{@link #convertsUnchecked(Object)}一致
+     * 不改变大小写且源对象为字符序列时直接追加，不调用toString()
+     *
+     * @param source      源对象，不能为null
+     * @param destination 追加字符的目标
+     * @return 写入了内容时返回true，toString()返回null时返回false
+     * @throws Throwable 转换或写入过程中发生错误时抛出
+     */
+    @Override
+    public boolean convertsUncheckedTo(Object source, Appendable destination) throws Throwable {
+        if (source instanceof CharSequence && !upperCase && !lowerCase) {
+            destination.append((CharSequence) source);
+            return true;
+        }
+        String result = convertsUnchecked(source);
+        if (result == null) {
+            return false;
+        }
+        destination.append(result);
+        return true;
+    }
 }
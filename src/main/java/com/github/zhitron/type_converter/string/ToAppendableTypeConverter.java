@@ -0,0 +1,28 @@
+package com.github.zhitron.type_converter.string;
+
+import java.io.IOException;
+
+/**
+ * 直接将字符串形式写入目标的类型转换器
+ * <p>
+ * 由目标类型为String的转换器实现，{@link com.github.zhitron.type_converter.TypeConverterManager#convertsTo(Object, Appendable, Object...)}
+ * 解析到实现了本接口的转换器时直接调用{@link #convertsUncheckedTo(Object, Appendable)}，
+ * 字符直接追加到{@link StringBuilder}、{@link java.io.Writer}等目标中，适用于拼接日志、CSV行、SQL文本等场景。
+ * </p>
+ *
+ * @param <SourceType> 源类型
+ * @author zhitron
+ */
+public interface ToAppendableTypeConverter<SourceType> {
+    /**
+     * 将源对象的字符串形式追加到目标中，不进行源对象类型检查
+     * 写入的内容与对应的{@code convertsUnchecked}返回的字符串一致，转换失败时不写入任何内容
+     *
+     * @param source      源对象，不能为null
+     * @param destination 追加字符的目标
+     * @return 写入了内容时返回true，对应的字符串转换结果为null时不写入并返回false
+     * @throws IOException 写入目标时发生错误时抛出
+     * @throws Throwable   转换过程中发生错误时抛出
+     */
+    boolean convertsUncheckedTo(SourceType source, Appendable destination) throws Throwable;
+}
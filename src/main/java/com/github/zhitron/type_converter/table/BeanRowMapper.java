@@ -0,0 +1,351 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.ConversionHandle;
+import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.TypeConverterManager;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 将结果集的一行映射为Java对象的已编译映射计划
+ * <p>
+ * 针对一个目标类和一种结果集列结构只通过反射分析一次：目标类有公共无参构造函数时，按属性名匹配公共的单参数setter方法，
+ * 同名的setter有多个重载时优先选择参数类型与列的JDBC类型（{@link ResultSetMetaData#getColumnClassName(int)}）相同的，
+ * 都不相同时按参数类型的名称选择第一个，结果不受{@link Class#getMethods()}返回顺序的影响；
+ * 否则匹配公共构造函数的参数，编译时保留了参数名（-parameters）时按参数名匹配，否则选择参数个数与列数相同的构造函数按位置匹配。
+ * 列名与属性名比较时忽略大小写和下划线，例如user_name与userName匹配；没有匹配的列和属性会被忽略。
+ * 匹配结果编译为{@link MethodHandle}，之后每一行只需读取列值并调用方法句柄，不再使用反射。
+ * 列值的类型与属性类型不同时通过映射时传入的{@link TypeConverterManager}转换，转换句柄按列值的实际类型缓存，映射计划本身不持有管理器；
+ * 基本类型的属性遇到null或转换失败时使用该类型的默认值。
+ * </p>
+ *
+ * @param <T> 目标类型
+ * @author zhitron
+ */
+final class BeanRowMapper<T> {
+    /**
+     * 用于查找公共成员的方法句柄查找对象
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    /**
+     * 目标类型
+     */
+    private final Class<T> beanType;
+    /**
+     * 创建对象的方法句柄：setter方式时为()Object，构造函数方式时为(Object[])Object
+     */
+    private final MethodHandle factory;
+    /**
+     * 是否通过构造函数传入全部属性
+     */
+    private final boolean constructorInjection;
+    /**
+     * 需要读取的列
+     */
+    private final ColumnBinding[] bindings;
+
+    private BeanRowMapper(Class<T> beanType, MethodHandle factory, boolean constructorInjection, ColumnBinding[] bindings) {
+        this.beanType = beanType;
+        this.factory = factory;
+        this.constructorInjection = constructorInjection;
+        this.bindings = bindings;
+    }
+
+    /**
+     * 分析目标类并编译映射计划
+     *
+     * @param beanType 目标类型
+     * @param metaData 结果集的元数据
+     * @param <T>      目标类型
+     * @return 映射计划
+     * @throws SQLException           当读取元数据时发生SQL错误时抛出
+     * @throws TypeConverterException 当目标类没有可用的公共构造函数时抛出
+     */
+    static <T> BeanRowMapper<T> compile(Class<T> beanType, ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        Map<String, Integer> columns = new HashMap<>();
+        for (int j = 0; j < columnCount; j++) {
+            // 列索引从1开始（JDBC规范）
+            String label = metaData.getColumnLabel(j + 1);
+            columns.put(normalize(label != null ? label : metaData.getColumnName(j + 1)), j + 1);
+        }
+        try {
+            Constructor<T> noArgs = publicConstructor(beanType);
+            if (noArgs != null) {
+                return compileSetters(beanType, noArgs, columns, metaData);
+            }
+            return compileConstructor(beanType, columns, columnCount);
+        } catch (IllegalAccessException e) {
+            throw new TypeConverterException("Can not access the members of " + beanType.getName(), e);
+        }
+    }
+
+    /**
+     * 将结果集游标所在的行映射为对象
+     *
+     * @param resultSet            源结果集
+     * @param typeConverterManager 列值与属性类型不同时使用的类型转换管理器，同一映射计划每次都应传入同一个管理器
+     * @return 映射后的对象
+     * @throws Throwable 读取列值、类型转换或调用构造函数、setter方法时发生错误时抛出
+     */
+    T map(ResultSet resultSet, TypeConverterManager typeConverterManager) throws Throwable {
+        if (constructorInjection) {
+            Object[] arguments = new Object[bindings.length];
+            for (int i = 0; i < bindings.length; i++) {
+                arguments[i] = bindings[i].read(resultSet, typeConverterManager);
+            }
+            return beanType.cast((Object) factory.invokeExact(arguments));
+        }
+        Object bean = (Object) factory.invokeExact();
+        for (ColumnBinding binding : bindings) {
+            Object value = binding.read(resultSet, typeConverterManager);
+            if (value != null || !binding.propertyType.isPrimitive()) {
+                binding.setter.invokeExact(bean, value);
+            }
+        }
+        return beanType.cast(bean);
+    }
+
+    /**
+     * 编译通过无参构造函数和setter方法创建对象的映射计划
+     */
+    private static <T> BeanRowMapper<T> compileSetters(Class<T> beanType, Constructor<T> noArgs, Map<String, Integer> columns, ResultSetMetaData metaData)
+            throws IllegalAccessException, SQLException {
+        // 按列索引排列，重载的setter只使用其中一个
+        Map<Integer, Method> setters = new TreeMap<>();
+        for (Method method : beanType.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 1
+                    || !method.getName().startsWith("set") || method.getName().length() == 3) {
+                continue;
+            }
+            Integer columnIndex = columns.get(normalize(method.getName().substring(3)));
+            if (columnIndex == null) {
+                continue;
+            }
+            Method current = setters.get(columnIndex);
+            if (current == null || isPreferredSetter(method, current, metaData.getColumnClassName(columnIndex))) {
+                setters.put(columnIndex, method);
+            }
+        }
+        ColumnBinding[] bindings = new ColumnBinding[setters.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Method> entry : setters.entrySet()) {
+            Method method = entry.getValue();
+            MethodHandle setter = LOOKUP.unreflect(method).asType(MethodType.methodType(void.class, Object.class, Object.class));
+            bindings[i++] = new ColumnBinding(entry.getKey(), method.getParameterTypes()[0], setter);
+        }
+        MethodHandle factory = LOOKUP.unreflectConstructor(noArgs).asType(MethodType.methodType(Object.class));
+        return new BeanRowMapper<>(beanType, factory, false, bindings);
+    }
+
+    /**
+     * 判断重载的setter中是否应该选择候选方法代替当前方法
+     *
+     * @param candidate       候选方法
+     * @param current         当前选择的方法
+     * @param columnClassName 列的JDBC类型对应的Java类名，未知时为null
+     * @return 参数类型与列的类型相同的优先；都相同或都不相同时参数类型的名称较小的优先
+     */
+    private static boolean isPreferredSetter(Method candidate, Method current, String columnClassName) {
+        String candidateType = wrap(candidate.getParameterTypes()[0]).getName();
+        String currentType = wrap(current.getParameterTypes()[0]).getName();
+        boolean candidateMatches = candidateType.equals(columnClassName);
+        if (candidateMatches != currentType.equals(columnClassName)) {
+            return candidateMatches;
+        }
+        return candidate.getParameterTypes()[0].getName().compareTo(current.getParameterTypes()[0].getName()) < 0;
+    }
+
+    /**
+     * 编译通过构造函数参数创建对象的映射计划
+     */
+    private static <T> BeanRowMapper<T> compileConstructor(Class<T> beanType, Map<String, Integer> columns, int columnCount) throws IllegalAccessException {
+        Constructor<?> selected = null;
+        int[] selectedColumns = null;
+        for (Constructor<?> constructor : beanType.getConstructors()) {
+            Parameter[] parameters = constructor.getParameters();
+            int[] columnIndexes = new int[parameters.length];
+            boolean matched = true;
+            for (int i = 0; i < parameters.length && matched; i++) {
+                if (parameters[i].isNamePresent()) {
+                    Integer columnIndex = columns.get(normalize(parameters[i].getName()));
+                    matched = columnIndex != null;
+                    columnIndexes[i] = matched ? columnIndex : 0;
+                } else {
+                    // 没有参数名时按位置匹配，要求参数个数与列数相同
+                    matched = parameters.length == columnCount;
+                    columnIndexes[i] = i + 1;
+                }
+            }
+            // 优先选择参数最多的构造函数
+            if (matched && (selected == null || parameters.length > selectedColumns.length)) {
+                selected = constructor;
+                selectedColumns = columnIndexes;
+            }
+        }
+        if (selected == null) {
+            throw new TypeConverterException("No public constructor of " + beanType.getName()
+                    + " matches the ResultSet columns, a public no-argument constructor with setters or a constructor whose parameters match the columns is required");
+        }
+        Class<?>[] parameterTypes = selected.getParameterTypes();
+        ColumnBinding[] bindings = new ColumnBinding[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            bindings[i] = new ColumnBinding(selectedColumns[i], parameterTypes[i], null);
+        }
+        MethodHandle factory = LOOKUP.unreflectConstructor(selected)
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new BeanRowMapper<>(beanType, factory, true, bindings);
+    }
+
+    /**
+     * 获取公共的无参构造函数
+     *
+     * @param beanType 目标类型
+     * @param <T>      目标类型
+     * @return 无参构造函数，不存在或目标类不可实例化时返回null
+     */
+    private static <T> Constructor<T> publicConstructor(Class<T> beanType) {
+        if (Modifier.isAbstract(beanType.getModifiers()) || !Modifier.isPublic(beanType.getModifiers())) {
+            return null;
+        }
+        try {
+            return beanType.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 将列名或属性名规范化为小写并去除下划线
+     *
+     * @param name 列名或属性名
+     * @return 规范化后的名称
+     */
+    private static String normalize(String name) {
+        return name == null ? "" : name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 返回基本类型的默认值
+     *
+     * @param type 基本类型
+     * @return 默认值的包装对象
+     */
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        return 0d;
+    }
+
+    /**
+     * 将基本类型转换为对应的包装类型
+     *
+     * @param type 类型
+     * @return 包装类型，非基本类型返回自身
+     */
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    /**
+     * 一列到一个属性的绑定
+     */
+    private static final class ColumnBinding {
+        /**
+         * 列索引（从1开始）
+         */
+        private final int columnIndex;
+        /**
+         * 属性类型
+         */
+        private final Class<?> propertyType;
+        /**
+         * 属性类型的包装类型
+         */
+        private final Class<?> boxedType;
+        /**
+         * setter方法句柄，类型为(Object, Object)void，构造函数方式时为null
+         */
+        private final MethodHandle setter;
+        /**
+         * 最近一次转换使用的句柄，按列值的实际类型缓存，列值的类型通常不会变化
+         */
+        private volatile ConversionHandle<Object, Object> lastHandle;
+
+        private ColumnBinding(int columnIndex, Class<?> propertyType, MethodHandle setter) {
+            this.columnIndex = columnIndex;
+            this.propertyType = propertyType;
+            this.boxedType = wrap(propertyType);
+            this.setter = setter;
+        }
+
+        /**
+         * 读取列值并转换为属性类型
+         *
+         * @param resultSet            源结果集
+         * @param typeConverterManager 类型转换管理器
+         * @return 属性值，基本类型的构造函数参数遇到null时返回默认值，setter方式时返回null
+         * @throws SQLException 当读取列值时发生SQL错误时抛出
+         */
+        private Object read(ResultSet resultSet, TypeConverterManager typeConverterManager) throws SQLException {
+            Object value = resultSet.getObject(columnIndex);
+            if (value != null && !boxedType.isInstance(value)) {
+                value = handleOf(value.getClass(), typeConverterManager).convert(value);
+            }
+            if (value == null && setter == null && propertyType.isPrimitive()) {
+                return defaultValue(propertyType);
+            }
+            return value;
+        }
+
+        /**
+         * 获取列值类型到属性类型的转换句柄
+         *
+         * @param sourceType           列值的实际类型
+         * @param typeConverterManager 类型转换管理器
+         * @return 转换句柄
+         * @throws TypeConverterException 当找不到合适的转换器时抛出
+         */
+        @SuppressWarnings("unchecked")
+        private ConversionHandle<Object, Object> handleOf(Class<?> sourceType, TypeConverterManager typeConverterManager) {
+            ConversionHandle<Object, Object> handle = lastHandle;
+            if (handle == null || handle.getSourceType() != sourceType) {
+                lastHandle = handle = (ConversionHandle<Object, Object>) typeConverterManager.handle(sourceType, boxedType);
+            }
+            return handle;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.ConversionHandle;
+import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.TypeConverterManager;
+
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 绑定到一个结果集的逐列转换计划
+ * <p>
+ * 根据列到目标类型的映射和结果集的元数据，为每个需要转换的列解析一次{@link ConversionHandle}：
+ * 源类型取自{@link ResultSetMetaData#getColumnClassName(int)}，无法加载该类或找不到对应的转换器时，改为按第一个非null列值的实际类型解析。
+ * 之后每个单元格只需检查列值是否仍是该源类型的实例，不再经过管理器的查找；驱动返回的列值类型与元数据不一致时重新解析。
+ * 没有指定目标类型的列以及已经是目标类型的列值保持不变，转换失败的单元格为null。
+ * 实例只在读取一个结果集的线程中使用。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class ColumnConversionPlan {
+    /**
+     * 列数
+     */
+    private final int columnCount;
+    /**
+     * 各列的目标类型，不需要转换的列为null
+     */
+    private final Class<?>[] targetTypes;
+    /**
+     * 各列已解析的转换句柄，尚未解析的列为null
+     */
+    private final ConversionHandle<?, ?>[] handles;
+    /**
+     * 类型转换管理器
+     */
+    private final TypeConverterManager typeConverterManager;
+
+    private ColumnConversionPlan(int columnCount, Class<?>[] targetTypes, ConversionHandle<?, ?>[] handles, TypeConverterManager typeConverterManager) {
+        this.columnCount = columnCount;
+        this.targetTypes = targetTypes;
+        this.handles = handles;
+        this.typeConverterManager = typeConverterManager;
+    }
+
+    /**
+     * 根据元数据为每一列解析转换句柄
+     *
+     * @param metaData             结果集的元数据
+     * @param columnTypes          列到目标类型的映射，键为列名、列标签（不区分大小写）或从1开始的列索引
+     * @param typeConverterManager 类型转换管理器
+     * @return 绑定到该结果集的转换计划
+     * @throws SQLException           当读取元数据时发生SQL错误时抛出
+     * @throws TypeConverterException 当映射中的列在结果集中不存在时抛出
+     */
+    static ColumnConversionPlan bind(ResultSetMetaData metaData, Map<?, Class<?>> columnTypes, TypeConverterManager typeConverterManager) throws SQLException {
+        ResultSetSchema schema = new ResultSetSchema(metaData);
+        int columnCount = schema.getColumnCount();
+        Class<?>[] targetTypes = new Class<?>[columnCount];
+        ConversionHandle<?, ?>[] handles = new ConversionHandle<?, ?>[columnCount];
+        for (Map.Entry<?, Class<?>> entry : columnTypes.entrySet()) {
+            int column = schema.indexOf(entry.getKey());
+            if (column < 0) {
+                throw new TypeConverterException("Column [" + entry.getKey() + "] does not exist in the ResultSet");
+            }
+            Class<?> targetType = wrap(entry.getValue());
+            targetTypes[column] = targetType;
+            // 列索引从1开始（JDBC规范）
+            Class<?> sourceType = loadClass(metaData.getColumnClassName(column + 1), targetType);
+            if (sourceType != null && !targetType.isAssignableFrom(sourceType)) {
+                try {
+                    handles[column] = typeConverterManager.handle(sourceType, targetType);
+                } catch (TypeConverterException e) {
+                    // 元数据中的类型没有对应的转换器，按实际的列值类型解析
+                }
+            }
+        }
+        return new ColumnConversionPlan(columnCount, targetTypes, handles, typeConverterManager);
+    }
+
+    /**
+     * 获取列数
+     *
+     * @return 列数
+     */
+    int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * 读取结果集游标所在行的全部列并转换
+     *
+     * @param resultSet 源结果集
+     * @param row       接收列值的数组，长度为列数
+     * @return 传入的数组
+     * @throws SQLException 当读取列值时发生SQL错误时抛出
+     */
+    Object[] read(ResultSet resultSet, Object[] row) throws SQLException {
+        for (int j = 0; j < columnCount; j++) {
+            // 列索引从1开始（JDBC规范）
+            Object value = resultSet.getObject(j + 1);
+            row[j] = targetTypes[j] == null ? value : convert(j, value);
+        }
+        return row;
+    }
+
+    /**
+     * 将列值转换为该列的目标类型
+     *
+     * @param column 列下标
+     * @param value  列值
+     * @return 转换后的值，转换失败时为null
+     * @throws TypeConverterException 当找不到列值类型到目标类型的转换器时抛出
+     */
+    @SuppressWarnings("unchecked")
+    private Object convert(int column, Object value) {
+        if (value == null || targetTypes[column].isInstance(value)) {
+            return value;
+        }
+        ConversionHandle<Object, ?> handle = (ConversionHandle<Object, ?>) handles[column];
+        if (handle == null || !handle.getSourceType().isInstance(value)) {
+            handles[column] = handle = (ConversionHandle<Object, ?>) typeConverterManager.handle(value.getClass(), targetTypes[column]);
+        }
+        return handle.convert(value);
+    }
+
+    /**
+     * 加载元数据中的列值类名
+     *
+     * @param className  类名，可以为null
+     * @param targetType 目标类型，使用其类加载器
+     * @return 加载的类，无法加载时返回null
+     */
+    private static Class<?> loadClass(String className, Class<?> targetType) {
+        if (className == null) {
+            return null;
+        }
+        try {
+            return Class.forName(className, false, targetType.getClassLoader() != null ? targetType.getClassLoader() : ColumnConversionPlan.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * 将基本类型转换为对应的包装类型
+     *
+     * @param type 类型
+     * @return 包装类型，非基本类型返回自身
+     */
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+}
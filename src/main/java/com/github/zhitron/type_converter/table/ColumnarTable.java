@@ -0,0 +1,794 @@
+package com.github.zhitron.type_converter.table;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 按列存储的结果集数据
+ * <p>
+ * 根据{@link ResultSetMetaData#getColumnType(int)}为每一列选择存储方式：整数、长整数、浮点数列通过
+ * {@link ResultSet#getInt(int)}、{@link ResultSet#getLong(int)}、{@link ResultSet#getDouble(int)}读取并保存在基本类型数组中，
+ * 布尔列保存为位图，读取时不产生装箱对象；字符串、精确小数以及其他类型的列保存为对象数组。
+ * 基本类型列的null值通过{@link ResultSet#wasNull()}判断并记录在每列一个的long[]位图中，列中没有null时不分配位图。
+ * 列下标和行下标都从0开始。实例创建后不再修改，可以在线程之间共享。
+ * 分块读取时（见{@link ResultSetRows#forEachColumnarChunk(int, java.util.function.Consumer)}）各块共用同一组数组，
+ * 数组长度为块大小而不是行数，块的内容只在回调期间有效。
+ * </p>
+ *
+ * @author zhitron
+ */
+public final class ColumnarTable {
+    /**
+     * 初始的行容量
+     */
+    private static final int INITIAL_CAPACITY = 64;
+    /**
+     * 行数
+     */
+    private final int rowCount;
+    /**
+     * 列结构，用于按名称查找列
+     */
+    private final ResultSetSchema schema;
+    /**
+     * 列名
+     */
+    private final String[] columnNames;
+    /**
+     * 各列的数据
+     */
+    private final Column[] columns;
+
+    /**
+     * 构造函数
+     *
+     * @param rowCount    行数
+     * @param schema      列结构
+     * @param columnNames 列名
+     * @param columns     各列的数据，长度已截取为行数，分块读取时为块大小
+     */
+    private ColumnarTable(int rowCount, ResultSetSchema schema, String[] columnNames, Column[] columns) {
+        this.rowCount = rowCount;
+        this.schema = schema;
+        this.columnNames = columnNames;
+        this.columns = columns;
+    }
+
+    /**
+     * 读取结果集的全部剩余行
+     *
+     * @param resultSet 源结果集
+     * @param metaData  结果集的元数据
+     * @return 按列存储的数据
+     * @throws SQLException 当访问结果集时发生SQL错误时抛出
+     */
+    static ColumnarTable read(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException {
+        Builder builder = new Builder(metaData, 0);
+        while (resultSet.next()) {
+            builder.readRow(resultSet);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 获取行数
+     *
+     * @return 行数
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 获取列数
+     *
+     * @return 列数
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * 获取列名，优先使用列标签
+     *
+     * @param column 列下标
+     * @return 列名
+     */
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    /**
+     * 按列名或列标签查找列下标，不区分大小写
+     *
+     * @param name 列名或列标签
+     * @return 列下标，不存在时返回-1
+     */
+    public int indexOf(String name) {
+        return schema.indexOf(name);
+    }
+
+    /**
+     * 获取列的存储类型
+     *
+     * @param column 列下标
+     * @return 存储类型
+     */
+    public ColumnType getColumnType(int column) {
+        return columns[column].type;
+    }
+
+    /**
+     * 判断指定单元格是否为null
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @return 为null时返回true
+     */
+    public boolean isNull(int row, int column) {
+        return columns[column].isNull(checkRow(row));
+    }
+
+    /**
+     * 获取列的null位图，第row位为1表示该行为null
+     * 返回的是内部数组，不应修改
+     *
+     * @param column 列下标
+     * @return null位图，列中没有null时返回null
+     */
+    public long[] getNullBitmap(int column) {
+        return columns[column].nulls;
+    }
+
+    /**
+     * 获取{@link ColumnType#INT}列的值，null单元格的值为0
+     * 返回的是内部数组，长度等于行数（分块读取时为块大小），不应修改
+     *
+     * @param column 列下标
+     * @return 列的值
+     * @throws IllegalStateException 当列的存储类型不是INT时抛出
+     */
+    public int[] getIntColumn(int column) {
+        return ((IntColumn) columnOf(column, ColumnType.INT)).values;
+    }
+
+    /**
+     * 获取{@link ColumnType#LONG}列的值，null单元格的值为0
+     * 返回的是内部数组，长度等于行数（分块读取时为块大小），不应修改
+     *
+     * @param column 列下标
+     * @return 列的值
+     * @throws IllegalStateException 当列的存储类型不是LONG时抛出
+     */
+    public long[] getLongColumn(int column) {
+        return ((LongColumn) columnOf(column, ColumnType.LONG)).values;
+    }
+
+    /**
+     * 获取{@link ColumnType#DOUBLE}列的值，null单元格的值为0
+     * 返回的是内部数组，长度等于行数（分块读取时为块大小），不应修改
+     *
+     * @param column 列下标
+     * @return 列的值
+     * @throws IllegalStateException 当列的存储类型不是DOUBLE时抛出
+     */
+    public double[] getDoubleColumn(int column) {
+        return ((DoubleColumn) columnOf(column, ColumnType.DOUBLE)).values;
+    }
+
+    /**
+     * 获取{@link ColumnType#STRING}、{@link ColumnType#DECIMAL}或{@link ColumnType#OBJECT}列的值
+     * 返回的是内部数组，长度等于行数（分块读取时为块大小），不应修改
+     *
+     * @param column 列下标
+     * @return 列的值
+     * @throws IllegalStateException 当列的存储类型为基本类型时抛出
+     */
+    public Object[] getObjectColumn(int column) {
+        Column data = columns[column];
+        if (!(data instanceof ObjectColumn)) {
+            throw new IllegalStateException("Column " + column + " is stored as " + data.type);
+        }
+        return ((ObjectColumn) data).values;
+    }
+
+    /**
+     * 获取int值，适用于{@link ColumnType#INT}列
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @return 单元格的值，null时为0
+     */
+    public int getInt(int row, int column) {
+        return getIntColumn(column)[checkRow(row)];
+    }
+
+    /**
+     * 获取long值，适用于{@link ColumnType#INT}和{@link ColumnType#LONG}列
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @return 单元格的值，null时为0
+     */
+    public long getLong(int row, int column) {
+        Column data = columns[column];
+        return data instanceof IntColumn ? ((IntColumn) data).values[checkRow(row)] : getLongColumn(column)[checkRow(row)];
+    }
+
+    /**
+     * 获取double值，适用于{@link ColumnType#INT}、{@link ColumnType#LONG}和{@link ColumnType#DOUBLE}列
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @return 单元格的值，null时为0
+     */
+    public double getDouble(int row, int column) {
+        Column data = columns[column];
+        if (data instanceof IntColumn) {
+            return ((IntColumn) data).values[checkRow(row)];
+        }
+        if (data instanceof LongColumn) {
+            return ((LongColumn) data).values[checkRow(row)];
+        }
+        return getDoubleColumn(column)[checkRow(row)];
+    }
+
+    /**
+     * 获取boolean值，适用于{@link ColumnType#BOOLEAN}列
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @return 单元格的值，null时为false
+     */
+    public boolean getBoolean(int row, int column) {
+        BooleanColumn data = (BooleanColumn) columnOf(column, ColumnType.BOOLEAN);
+        return BooleanColumn.get(data.values, checkRow(row));
+    }
+
+    /**
+     * 获取单元格的对象值，基本类型列的值会被装箱
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @return 单元格的值，null单元格返回null
+     */
+    public Object getObject(int row, int column) {
+        return columns[column].get(checkRow(row));
+    }
+
+    /**
+     * 按行读取全部数据，结果与{@link ResultSetToArrayTableTypeConverter}的二维数组布局一致，基本类型的值会被装箱
+     *
+     * @return 第一维为行、第二维为列的二维数组
+     */
+    public Object[][] toRows() {
+        Object[][] rows = new Object[rowCount][columns.length];
+        for (int j = 0; j < columns.length; j++) {
+            for (int i = 0; i < rowCount; i++) {
+                rows[i][j] = columns[j].get(i);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 返回表结构的字符串表示形式
+     *
+     * @return 表结构的字符串表示
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ColumnarTable[rows=").append(rowCount).append(", columns=[");
+        for (int j = 0; j < columns.length; j++) {
+            if (j > 0) {
+                builder.append(", ");
+            }
+            builder.append(columnNames[j]).append(' ').append(columns[j].type);
+        }
+        return builder.append("]]").toString();
+    }
+
+    /**
+     * 获取指定存储类型的列
+     *
+     * @param column 列下标
+     * @param type   期望的存储类型
+     * @return 列的数据
+     * @throws IllegalStateException 当列的存储类型不同时抛出
+     */
+    private Column columnOf(int column, ColumnType type) {
+        Column data = columns[column];
+        if (data.type != type) {
+            throw new IllegalStateException("Column " + column + " is stored as " + data.type + ", not " + type);
+        }
+        return data;
+    }
+
+    /**
+     * 检查行下标
+     *
+     * @param row 行下标
+     * @return 行下标
+     * @throws IndexOutOfBoundsException 当行下标超出范围时抛出
+     */
+    private int checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", row count: " + rowCount);
+        }
+        return row;
+    }
+
+    /**
+     * 列的存储类型
+     */
+    public enum ColumnType {
+        /**
+         * TINYINT、SMALLINT、INTEGER，保存为int[]
+         */
+        INT,
+        /**
+         * BIGINT，保存为long[]
+         */
+        LONG,
+        /**
+         * REAL、FLOAT、DOUBLE，保存为double[]
+         */
+        DOUBLE,
+        /**
+         * BOOLEAN、BIT，保存为位图
+         */
+        BOOLEAN,
+        /**
+         * 字符类型，通过getString读取并保存为对象数组
+         */
+        STRING,
+        /**
+         * NUMERIC、DECIMAL，通过getBigDecimal读取并保存为对象数组
+         */
+        DECIMAL,
+        /**
+         * 其他类型，通过getObject读取并保存为对象数组
+         */
+        OBJECT;
+
+        /**
+         * 根据SQL类型选择存储类型
+         *
+         * @param sqlType {@link Types}中的SQL类型
+         * @return 存储类型
+         */
+        static ColumnType of(int sqlType) {
+            switch (sqlType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return INT;
+                case Types.BIGINT:
+                    return LONG;
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    return DOUBLE;
+                case Types.BOOLEAN:
+                case Types.BIT:
+                    return BOOLEAN;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return STRING;
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return DECIMAL;
+                default:
+                    return OBJECT;
+            }
+        }
+    }
+
+    /**
+     * 逐行填充列数据的构建器
+     * <p>
+     * 指定容量时按分块方式使用：行数达到容量后通过{@link #flush(Consumer)}交给回调，之后清空并复用同一组数组；
+     * 容量为0时按需扩容，最后通过{@link #build()}截取为实际行数。
+     * </p>
+     */
+    static final class Builder {
+        /**
+         * 列结构
+         */
+        private final ResultSetSchema schema;
+        /**
+         * 列名
+         */
+        private final String[] columnNames;
+        /**
+         * 各列的数据
+         */
+        private final Column[] columns;
+        /**
+         * 当前的行容量
+         */
+        private int capacity;
+        /**
+         * 已读取的行数
+         */
+        private int rowCount;
+
+        /**
+         * 构造函数
+         *
+         * @param metaData 结果集的元数据
+         * @param capacity 初始的行容量，分块读取时为块大小，为0时按需扩容
+         * @throws SQLException 当读取元数据时发生SQL错误时抛出
+         */
+        Builder(ResultSetMetaData metaData, int capacity) throws SQLException {
+            this.schema = new ResultSetSchema(metaData);
+            int columnCount = schema.getColumnCount();
+            this.columnNames = new String[columnCount];
+            this.columns = new Column[columnCount];
+            for (int j = 0; j < columnCount; j++) {
+                // 列索引从1开始（JDBC规范）
+                String label = metaData.getColumnLabel(j + 1);
+                columnNames[j] = label != null ? label : metaData.getColumnName(j + 1);
+                columns[j] = Column.of(ColumnType.of(metaData.getColumnType(j + 1)));
+                columns[j].grow(capacity);
+            }
+            this.capacity = capacity;
+        }
+
+        /**
+         * 获取已读取的行数
+         *
+         * @return 行数
+         */
+        int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * 读取结果集游标所在的行，容量不足时扩容
+         *
+         * @param resultSet 源结果集
+         * @throws SQLException 当访问结果集时发生SQL错误时抛出
+         */
+        void readRow(ResultSet resultSet) throws SQLException {
+            if (rowCount == capacity) {
+                capacity = capacity == 0 ? INITIAL_CAPACITY : capacity + (capacity >> 1);
+                for (Column column : columns) {
+                    column.grow(capacity);
+                }
+            }
+            for (int j = 0; j < columns.length; j++) {
+                columns[j].read(resultSet, j + 1, rowCount);
+            }
+            rowCount++;
+        }
+
+        /**
+         * 将已读取的行作为一个块交给回调，回调返回后清空数据并复用数组
+         *
+         * @param callback 块回调
+         */
+        void flush(Consumer<? super ColumnarTable> callback) {
+            try {
+                callback.accept(new ColumnarTable(rowCount, schema, columnNames, columns));
+            } finally {
+                for (Column column : columns) {
+                    column.clear();
+                }
+                rowCount = 0;
+            }
+        }
+
+        /**
+         * 将数组截取为已读取的行数并创建表，之后不应再使用此构建器
+         *
+         * @return 按列存储的数据
+         */
+        ColumnarTable build() {
+            for (Column column : columns) {
+                column.grow(rowCount);
+            }
+            return new ColumnarTable(rowCount, schema, columnNames, columns);
+        }
+    }
+
+    /**
+     * 一列的数据
+     */
+    private abstract static class Column {
+        /**
+         * 存储类型
+         */
+        final ColumnType type;
+        /**
+         * null位图，第一次遇到null时才分配
+         */
+        long[] nulls;
+
+        Column(ColumnType type) {
+            this.type = type;
+        }
+
+        /**
+         * 根据存储类型创建列
+         *
+         * @param type 存储类型
+         * @return 空列
+         */
+        static Column of(ColumnType type) {
+            switch (type) {
+                case INT:
+                    return new IntColumn();
+                case LONG:
+                    return new LongColumn();
+                case DOUBLE:
+                    return new DoubleColumn();
+                case BOOLEAN:
+                    return new BooleanColumn();
+                default:
+                    return new ObjectColumn(type);
+            }
+        }
+
+        /**
+         * 将容量调整为指定的行数
+         *
+         * @param capacity 行数
+         */
+        void grow(int capacity) {
+            if (nulls != null) {
+                nulls = Arrays.copyOf(nulls, words(capacity));
+            }
+            resize(capacity);
+        }
+
+        /**
+         * 清除已读取的数据，保留容量，用于分块读取时复用数组
+         */
+        void clear() {
+            if (nulls != null) {
+                Arrays.fill(nulls, 0L);
+            }
+        }
+
+        /**
+         * 记录最近读取的值是否为null
+         *
+         * @param resultSet 源结果集
+         * @param row       行下标
+         * @param capacity  当前的行容量
+         * @throws SQLException 当访问结果集时发生SQL错误时抛出
+         */
+        final void markNull(ResultSet resultSet, int row, int capacity) throws SQLException {
+            if (resultSet.wasNull()) {
+                setNull(row, capacity);
+            }
+        }
+
+        /**
+         * 在null位图中标记指定行为null
+         *
+         * @param row      行下标
+         * @param capacity 当前的行容量
+         */
+        final void setNull(int row, int capacity) {
+            if (nulls == null) {
+                nulls = new long[words(capacity)];
+            }
+            nulls[row >>> 6] |= 1L << row;
+        }
+
+        /**
+         * 判断指定行是否为null
+         *
+         * @param row 行下标
+         * @return 为null时返回true
+         */
+        boolean isNull(int row) {
+            return nulls != null && (nulls[row >>> 6] & 1L << row) != 0;
+        }
+
+        /**
+         * 计算位图需要的long个数
+         *
+         * @param bits 位数
+         * @return long的个数
+         */
+        static int words(int bits) {
+            return (bits + 63) >>> 6;
+        }
+
+        /**
+         * 调整值数组的长度
+         *
+         * @param capacity 新的长度
+         */
+        abstract void resize(int capacity);
+
+        /**
+         * 读取结果集当前行的值
+         *
+         * @param resultSet   源结果集
+         * @param columnIndex 列索引（从1开始）
+         * @param row         行下标
+         * @throws SQLException 当访问结果集时发生SQL错误时抛出
+         */
+        abstract void read(ResultSet resultSet, int columnIndex, int row) throws SQLException;
+
+        /**
+         * 获取装箱后的值
+         *
+         * @param row 行下标
+         * @return 单元格的值，null单元格返回null
+         */
+        abstract Object get(int row);
+    }
+
+    private static final class IntColumn extends Column {
+        int[] values = new int[0];
+
+        IntColumn() {
+            super(ColumnType.INT);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getInt(columnIndex);
+            markNull(resultSet, row, values.length);
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[] values = new long[0];
+
+        LongColumn() {
+            super(ColumnType.LONG);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getLong(columnIndex);
+            markNull(resultSet, row, values.length);
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] values = new double[0];
+
+        DoubleColumn() {
+            super(ColumnType.DOUBLE);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getDouble(columnIndex);
+            markNull(resultSet, row, values.length);
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        /**
+         * 值的位图，第row位为1表示true
+         */
+        long[] values = new long[0];
+        /**
+         * 行容量
+         */
+        int capacity;
+
+        BooleanColumn() {
+            super(ColumnType.BOOLEAN);
+        }
+
+        static boolean get(long[] values, int row) {
+            return (values[row >>> 6] & 1L << row) != 0;
+        }
+
+        @Override
+        void resize(int capacity) {
+            this.capacity = capacity;
+            values = Arrays.copyOf(values, words(capacity));
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            Arrays.fill(values, 0L);
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            if (resultSet.getBoolean(columnIndex)) {
+                values[row >>> 6] |= 1L << row;
+            }
+            markNull(resultSet, row, capacity);
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : get(values, row);
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = new Object[0];
+
+        ObjectColumn(ColumnType type) {
+            super(type);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            Object value;
+            switch (type) {
+                case STRING:
+                    value = resultSet.getString(columnIndex);
+                    break;
+                case DECIMAL:
+                    value = resultSet.getBigDecimal(columnIndex);
+                    break;
+                default:
+                    value = resultSet.getObject(columnIndex);
+                    break;
+            }
+            values[row] = value;
+            if (value == null) {
+                setNull(row, values.length);
+            }
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.zhitron.type_converter.table;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 结果集中一行数据的Map视图
+ * <p>
+ * 列值保存在按列顺序排列的Object数组中，键的解析由同一结果集的所有行共享的{@link ResultSetSchema}完成，
+ * 每行只占用一个数组和一个视图对象，不再为每个键创建哈希表的节点。
+ * 可以按列索引、列名或列标签读取，名称不区分大小写。
+ * 第一次修改（{@link #put(Object, Object)}、{@link #remove(Object)}或{@link #clear()}）时把全部键值复制到按需创建的哈希表中，
+ * 之后的读写都在该哈希表上进行：可以添加新的键，修改或移除一个键不会影响同一列的其他键。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class ResultSetRowMap extends AbstractMap<Object, Object> {
+    /**
+     * 共享的列结构
+     */
+    private final ResultSetSchema schema;
+    /**
+     * 按列顺序排列的列值
+     */
+    private final Object[] values;
+    /**
+     * 延迟创建的条目集合
+     */
+    private Set<Entry<Object, Object>> entrySet;
+    /**
+     * 第一次修改时创建的哈希表，创建后代替列值数组保存本行的全部键值
+     */
+    private Map<Object, Object> overflow;
+
+    /**
+     * 构造函数
+     *
+     * @param schema 共享的列结构
+     * @param values 按列顺序排列的列值，长度为列数
+     */
+    ResultSetRowMap(ResultSetSchema schema, Object[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (overflow != null) {
+            return overflow.get(schema.canonicalKey(key));
+        }
+        int column = schema.indexOf(key);
+        return column < 0 ? null : values[column];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (overflow != null) {
+            return overflow.containsKey(schema.canonicalKey(key));
+        }
+        return schema.indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return overflow != null ? overflow.size() : schema.getKeyCount();
+    }
+
+    /**
+     * 设置键的值，只修改该键，同一列的其他键保持原值
+     *
+     * @param key   列索引、列名、列标签或新的键，列名和列标签不区分大小写
+     * @param value 新的值
+     * @return 原来的值
+     */
+    @Override
+    public Object put(Object key, Object value) {
+        return overflow().put(schema.canonicalKey(key), value);
+    }
+
+    /**
+     * 移除键，只移除该键，同一列的其他键保持原值
+     *
+     * @param key 列索引、列名、列标签或其他键，列名和列标签不区分大小写
+     * @return 原来的值
+     */
+    @Override
+    public Object remove(Object key) {
+        return overflow().remove(schema.canonicalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        overflow().clear();
+    }
+
+    /**
+     * 获取保存全部键值的哈希表，第一次调用时按键的顺序复制列值
+     *
+     * @return 哈希表
+     */
+    private Map<Object, Object> overflow() {
+        Map<Object, Object> map = overflow;
+        if (map == null) {
+            int keyCount = schema.getKeyCount();
+            map = new LinkedHashMap<>((int) (keyCount / 0.75f + 1));
+            for (int i = 0; i < keyCount; i++) {
+                map.put(schema.getKey(i), values[schema.getKeyColumn(i)]);
+            }
+            overflow = map;
+        }
+        return map;
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        if (overflow != null) {
+            return overflow.entrySet();
+        }
+        Set<Entry<Object, Object>> entries = entrySet;
+        if (entries == null) {
+            entrySet = entries = new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    if (overflow != null) {
+                        return overflow.entrySet().iterator();
+                    }
+                    return new Iterator<Entry<Object, Object>>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < schema.getKeyCount();
+                        }
+
+                        @Override
+                        public Entry<Object, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(schema.getKey(i), values[schema.getKeyColumn(i)]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return ResultSetRowMap.this.size();
+                }
+            };
+        }
+        return entries;
+    }
+}
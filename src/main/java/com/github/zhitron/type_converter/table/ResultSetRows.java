@@ -0,0 +1,328 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.TypeConverterManager;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 逐行读取ResultSet的迭代器
+ * <p>
+ * 每次只从结果集中读取一行并转换为Object数组，内存占用与结果集的总行数无关，适用于导出等需要遍历大量数据的场景。
+ * 需要批量处理时可以按固定的行数分块读取，每块复用同一组缓冲区，便于与下游的批量写入对齐。
+ * 结果集读取完毕、读取过程中发生错误或调用{@link #close()}时关闭结果集，关闭后不再返回任何行。
+ * 实例不是线程安全的，只能由一个线程使用。
+ * </p>
+ *
+ * @author zhitron
+ */
+public final class ResultSetRows implements Iterator<Object[]>, AutoCloseable {
+    /**
+     * 源结果集
+     */
+    private final ResultSet resultSet;
+    /**
+     * 列数
+     */
+    private final int columnCount;
+    /**
+     * 逐列转换计划，为null时保持getObject得到的列值
+     */
+    private final ColumnConversionPlan conversionPlan;
+    /**
+     * 结果集的游标是否已指向一个尚未返回的行
+     */
+    private boolean fetched;
+    /**
+     * 是否已关闭
+     */
+    private boolean closed;
+
+    /**
+     * 构造函数
+     *
+     * @param resultSet 源结果集
+     * @throws TypeConverterException 当ResultSet元数据为空或读取元数据时发生SQL异常时抛出
+     */
+    ResultSetRows(ResultSet resultSet) {
+        this(resultSet, null, null);
+    }
+
+    /**
+     * 构造函数，按列到目标类型的映射转换每一行的列值
+     *
+     * @param resultSet            源结果集
+     * @param columnTypes          列到目标类型的映射，为null时不转换
+     * @param typeConverterManager 类型转换管理器
+     * @throws TypeConverterException 当ResultSet元数据为空、映射中的列不存在或读取元数据时发生SQL异常时抛出
+     */
+    ResultSetRows(ResultSet resultSet, Map<?, Class<?>> columnTypes, TypeConverterManager typeConverterManager) {
+        this.resultSet = resultSet;
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            if (metaData == null) {
+                throw new TypeConverterException("ResultSet metadata is unexpectedly null");
+            }
+            this.columnCount = metaData.getColumnCount();
+            this.conversionPlan = columnTypes == null ? null : ColumnConversionPlan.bind(metaData, columnTypes, typeConverterManager);
+        } catch (SQLException e) {
+            throw new TypeConverterException("Error occurred during ResultSet iteration", e);
+        }
+    }
+
+    /**
+     * 获取列数
+     *
+     * @return 结果集的列数
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * 判断是否还有下一行，没有下一行时关闭结果集
+     *
+     * @return 还有下一行时返回true
+     * @throws TypeConverterException 当移动游标时发生SQL异常时抛出，抛出前会关闭结果集
+     */
+    @Override
+    public boolean hasNext() {
+        if (fetched) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        try {
+            fetched = resultSet.next();
+        } catch (SQLException e) {
+            throw fail(e);
+        }
+        if (!fetched) {
+            close();
+        }
+        return fetched;
+    }
+
+    /**
+     * 读取下一行，每次返回新的数组
+     *
+     * @return 当前行的列值，按列的顺序排列
+     * @throws NoSuchElementException 当没有更多的行时抛出
+     * @throws TypeConverterException 当读取列值时发生SQL异常时抛出，抛出前会关闭结果集
+     */
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetched = false;
+        return read(new Object[columnCount]);
+    }
+
+    /**
+     * 依次将剩余的每一行交给回调处理，全部处理完毕或回调抛出异常后关闭结果集
+     * 回调得到的数组在每一行之间重复使用，如需保留某一行应在回调中复制
+     *
+     * @param callback 行回调，参数为当前行的列值
+     * @throws TypeConverterException 当读取结果集时发生SQL异常时抛出，抛出前会关闭结果集
+     */
+    public void forEachRow(Consumer<? super Object[]> callback) {
+        Object[] row = new Object[columnCount];
+        try {
+            while (hasNext()) {
+                fetched = false;
+                callback.accept(read(row));
+            }
+        } catch (RuntimeException | Error e) {
+            closeAfter(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 按固定的行数分块处理剩余的行，全部处理完毕或回调抛出异常后关闭结果集
+     * 开始前通过{@link ResultSet#setFetchSize(int)}将驱动每次获取的行数设置为块大小，使网络往返与块的边界对齐。
+     * 每读满一块调用一次回调，最后一块可能不满；回调的第一个参数为块数组，第二个参数为其中有效的行数。
+     * 块数组及其中的行数组在各块之间重复使用，内存占用只与块大小有关，如需保留数据应在回调中复制。
+     *
+     * @param chunkSize 每块的行数
+     * @param callback  块回调
+     * @throws IllegalArgumentException 当块大小不为正数时抛出
+     * @throws TypeConverterException   当读取结果集时发生SQL异常时抛出，抛出前会关闭结果集
+     */
+    public void forEachChunk(int chunkSize, ObjIntConsumer<? super Object[][]> callback) {
+        prepareChunks(chunkSize);
+        Object[][] chunk = new Object[chunkSize][columnCount];
+        int rowCount = 0;
+        try {
+            while (hasNext()) {
+                fetched = false;
+                read(chunk[rowCount++]);
+                if (rowCount == chunkSize) {
+                    callback.accept(chunk, rowCount);
+                    rowCount = 0;
+                }
+            }
+            if (rowCount > 0) {
+                callback.accept(chunk, rowCount);
+            }
+        } catch (RuntimeException | Error e) {
+            closeAfter(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 按固定的行数分块处理剩余的行，每块按列存储，全部处理完毕或回调抛出异常后关闭结果集
+     * 与{@link #forEachChunk(int, ObjIntConsumer)}一样设置获取行数，每块的存储方式与{@link ColumnarTable}相同，
+     * 各块共用同一组列数组，块的内容只在回调期间有效；按列转换类型的映射对列式块不生效。
+     *
+     * @param chunkSize 每块的行数
+     * @param callback  块回调，参数的行数为该块的有效行数
+     * @throws IllegalArgumentException 当块大小不为正数时抛出
+     * @throws TypeConverterException   当读取结果集时发生SQL异常时抛出，抛出前会关闭结果集
+     */
+    public void forEachColumnarChunk(int chunkSize, Consumer<? super ColumnarTable> callback) {
+        prepareChunks(chunkSize);
+        if (closed) {
+            return;
+        }
+        ColumnarTable.Builder builder;
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            if (metaData == null) {
+                throw new TypeConverterException("ResultSet metadata is unexpectedly null");
+            }
+            builder = new ColumnarTable.Builder(metaData, chunkSize);
+        } catch (SQLException e) {
+            throw fail(e);
+        }
+        try {
+            while (hasNext()) {
+                fetched = false;
+                try {
+                    builder.readRow(resultSet);
+                } catch (SQLException e) {
+                    throw fail(e);
+                }
+                if (builder.getRowCount() == chunkSize) {
+                    builder.flush(callback);
+                }
+            }
+            if (builder.getRowCount() > 0) {
+                builder.flush(callback);
+            }
+        } catch (RuntimeException | Error e) {
+            closeAfter(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 将剩余的行包装为顺序流，流被关闭时关闭结果集
+     *
+     * @return 每个元素为一行的顺序流
+     */
+    public Stream<Object[]> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 关闭结果集，重复调用没有影响
+     *
+     * @throws TypeConverterException 当关闭结果集时发生SQL异常时抛出
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        fetched = false;
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            throw new TypeConverterException("Error occurred while closing ResultSet", e);
+        }
+    }
+
+    /**
+     * 将游标所在行的列值读入数组
+     *
+     * @param row 接收列值的数组，长度为列数
+     * @return 传入的数组
+     */
+    private Object[] read(Object[] row) {
+        try {
+            if (conversionPlan != null) {
+                return conversionPlan.read(resultSet, row);
+            }
+            for (int j = 0; j < columnCount; j++) {
+                // 列索引从1开始（JDBC规范）
+                row[j] = resultSet.getObject(j + 1);
+            }
+        } catch (SQLException e) {
+            throw fail(e);
+        }
+        return row;
+    }
+
+    /**
+     * 检查块大小并设置结果集的获取行数
+     * 获取行数只是给驱动的提示，驱动不支持或拒绝设置时忽略并按驱动默认的获取行数继续读取
+     *
+     * @param chunkSize 每块的行数
+     * @throws IllegalArgumentException 当块大小不为正数时抛出
+     */
+    private void prepareChunks(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + chunkSize);
+        }
+        if (closed) {
+            return;
+        }
+        try {
+            resultSet.setFetchSize(chunkSize);
+        } catch (SQLException ignored) {
+            // 包括SQLFeatureNotSupportedException，不影响读取结果
+        }
+    }
+
+    /**
+     * 关闭结果集并创建读取失败的异常，关闭时发生的异常作为被抑制的异常附加
+     *
+     * @param e 读取时发生的SQL异常
+     * @return 转换异常
+     */
+    private TypeConverterException fail(SQLException e) {
+        TypeConverterException exception = new TypeConverterException("Error occurred during ResultSet iteration", e);
+        closeAfter(exception);
+        return exception;
+    }
+
+    /**
+     * 处理过程异常结束后关闭结果集，关闭时发生的异常作为被抑制的异常附加到原异常上
+     *
+     * @param e 导致处理结束的异常
+     */
+    private void closeAfter(Throwable e) {
+        try {
+            close();
+        } catch (TypeConverterException closeException) {
+            e.addSuppressed(closeException.getCause());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.zhitron.type_converter.table;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 结果集的列结构
+ * <p>
+ * 每个结果集只根据元数据解析一次，记录列索引（从1开始）、小写的列名和列标签到列下标的映射，由该结果集的所有行共享。
+ * 按名称查找时不区分大小写：先按原样查找，找不到时再转换为小写查找。同名的列以后出现的为准。
+ * 实例创建后不再修改，可以在线程之间共享。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class ResultSetSchema {
+    /**
+     * 列数
+     */
+    private final int columnCount;
+    /**
+     * 全部键，按列的顺序排列，每列依次为列索引、列名和列标签，没有重复
+     */
+    private final Object[] keys;
+    /**
+     * 与keys一一对应的列下标（从0开始）
+     */
+    private final int[] keyColumns;
+    /**
+     * 小写的列名和列标签到列下标的映射
+     */
+    private final Map<String, Integer> nameColumns;
+
+    /**
+     * 根据结果集的元数据创建列结构
+     *
+     * @param metaData 结果集的元数据
+     * @throws SQLException 当读取元数据时发生SQL错误时抛出
+     */
+    ResultSetSchema(ResultSetMetaData metaData) throws SQLException {
+        this.columnCount = metaData.getColumnCount();
+        this.nameColumns = new HashMap<>((int) (columnCount * 2 / 0.75f + 1));
+        for (int j = 0; j < columnCount; j++) {
+            // 列索引从1开始（JDBC规范）
+            String columnName = metaData.getColumnName(j + 1);
+            String columnLabel = metaData.getColumnLabel(j + 1);
+            if (columnName != null) {
+                nameColumns.put(columnName.toLowerCase(), j);
+                if (columnLabel != null && !columnName.equalsIgnoreCase(columnLabel)) {
+                    nameColumns.put(columnLabel.toLowerCase(), j);
+                }
+            } else if (columnLabel != null) {
+                nameColumns.put(columnLabel.toLowerCase(), j);
+            }
+        }
+        List<Object> keyList = new ArrayList<>(columnCount + nameColumns.size());
+        for (int j = 0; j < columnCount; j++) {
+            keyList.add(j + 1);
+        }
+        keyList.addAll(nameColumns.keySet());
+        this.keys = keyList.toArray();
+        this.keyColumns = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keyColumns[i] = i < columnCount ? i : nameColumns.get(keys[i]);
+        }
+    }
+
+    /**
+     * 获取列数
+     *
+     * @return 列数
+     */
+    int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * 获取键的个数，即每行对应的Map的大小
+     *
+     * @return 键的个数
+     */
+    int getKeyCount() {
+        return keys.length;
+    }
+
+    /**
+     * 获取指定位置的键
+     *
+     * @param i 键的位置
+     * @return 列索引或小写的列名、列标签
+     */
+    Object getKey(int i) {
+        return keys[i];
+    }
+
+    /**
+     * 获取指定位置的键对应的列下标
+     *
+     * @param i 键的位置
+     * @return 列下标（从0开始）
+     */
+    int getKeyColumn(int i) {
+        return keyColumns[i];
+    }
+
+    /**
+     * 查找键对应的列下标
+     *
+     * @param key 列索引（从1开始的Integer）、列名或列标签，名称不区分大小写
+     * @return 列下标（从0开始），不存在时返回-1
+     */
+    int indexOf(Object key) {
+        if (key instanceof Integer) {
+            int columnIndex = (Integer) key;
+            return columnIndex >= 1 && columnIndex <= columnCount ? columnIndex - 1 : -1;
+        }
+        if (key instanceof String) {
+            Integer column = nameColumns.get(key);
+            if (column == null) {
+                String lowerCase = ((String) key).toLowerCase();
+                if (!lowerCase.equals(key)) {
+                    column = nameColumns.get(lowerCase);
+                }
+            }
+            return column == null ? -1 : column;
+        }
+        return -1;
+    }
+
+    /**
+     * 获取键的规范形式，与{@link #indexOf(Object)}一样列名和列标签不区分大小写
+     *
+     * @param key 任意键
+     * @return 存在的列名、列标签返回对应的小写键，其他键原样返回
+     */
+    Object canonicalKey(Object key) {
+        if (key instanceof String && !nameColumns.containsKey(key)) {
+            String lowerCase = ((String) key).toLowerCase();
+            if (nameColumns.containsKey(lowerCase)) {
+                return lowerCase;
+            }
+        }
+        return key;
+    }
+}
@@ -0,0 +1,221 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.TypeConverterManager;
+
+import java.lang.reflect.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ResultSet到对象数组的类型转换器
+ * <p>
+ * 该转换器将JDBC的ResultSet的每一行直接映射为指定类型的对象，结果为该类型的数组，例如User[]，不再经过中间的Map。
+ * 列与构造函数参数或setter方法的匹配规则见{@link BeanRowMapper}。编译好的映射计划按目标类型、类型转换管理器和结果集的列结构
+ * （列标签、列类型和列的Java类名）缓存，由同一目标类型的所有转换器实例共享，同一查询再次执行或每次查询重新调用{@link #of(Class)}时都不再使用反射。
+ * 缓存以弱引用持有类型转换管理器，每个目标类型和管理器最多保留{@value #MAX_CACHED_MAPPERS}种列结构，超出时移除其中一种。
+ * 转换器需要通过{@link #of(Class)}为每个目标类型创建并注册到{@link TypeConverterManager}，之后以数组类型作为目标类型转换：
+ * {@code manager.converts(resultSet, User[].class, null)}。
+ * </p>
+ *
+ * @param <T> 每一行映射的目标类型
+ * @author zhitron
+ */
+public class ResultSetToBeanTableTypeConverter<T> extends TypeConverter<ResultSet, T[]> {
+    /**
+     * 按目标类型分配的映射计划缓存
+     */
+    private static final MapperSlots MAPPER_SLOTS = new MapperSlots();
+    /**
+     * 每个目标类型和类型转换管理器最多缓存的映射计划个数
+     */
+    static final int MAX_CACHED_MAPPERS = 64;
+    /**
+     * 每一行映射的目标类型
+     */
+    private final Class<T> beanType;
+    /**
+     * 列值与属性类型不同时使用的类型转换管理器
+     */
+    private final TypeConverterManager typeConverterManager;
+    /**
+     * 按列结构缓存的映射计划，与目标类型和类型转换管理器相同的其他转换器实例共享
+     */
+    private final Map<ColumnSignature, BeanRowMapper<T>> mappers;
+
+    /**
+     * 构造函数
+     *
+     * @param beanType             每一行映射的目标类型
+     * @param typeConverterManager 列值与属性类型不同时使用的类型转换管理器
+     */
+    @SuppressWarnings("unchecked")
+    protected ResultSetToBeanTableTypeConverter(Class<T> beanType, TypeConverterManager typeConverterManager) {
+        super((Class<T[]>) Array.newInstance(beanType, 0).getClass());
+        this.beanType = beanType;
+        this.typeConverterManager = Objects.requireNonNull(typeConverterManager);
+        this.mappers = (Map<ColumnSignature, BeanRowMapper<T>>) (Map<?, ?>)
+                MAPPER_SLOTS.get(beanType).computeIfAbsent(typeConverterManager, k -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 创建映射到指定类型的转换器，列值通过{@link TypeConverterManager#DEFAULT}转换为属性类型
+     *
+     * @param beanType 每一行映射的目标类型
+     * @param <T>      目标类型
+     * @return 新的转换器
+     */
+    public static <T> ResultSetToBeanTableTypeConverter<T> of(Class<T> beanType) {
+        return of(beanType, TypeConverterManager.DEFAULT);
+    }
+
+    /**
+     * 创建映射到指定类型的转换器
+     *
+     * @param beanType             每一行映射的目标类型
+     * @param typeConverterManager 列值与属性类型不同时使用的类型转换管理器
+     * @param <T>                  目标类型
+     * @return 新的转换器
+     */
+    public static <T> ResultSetToBeanTableTypeConverter<T> of(Class<T> beanType, TypeConverterManager typeConverterManager) {
+        return new ResultSetToBeanTableTypeConverter<>(Objects.requireNonNull(beanType), typeConverterManager);
+    }
+
+    /**
+     * 判断指定的源对象是否支持转换
+     * 仅当源对象是ResultSet类型时才支持转换
+     *
+     * @param source 源对象
+     * @return 如果源对象是ResultSet类型返回true，否则返回false
+     */
+    @Override
+    public boolean isSupportsSource(Object source) {
+        return source instanceof ResultSet;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，不进行源对象类型检查
+     * 读取ResultSet中剩余的全部行，每一行映射为一个目标对象
+     *
+     * @param source 源对象，必须是ResultSet类型
+     * @return 目标类型的数组
+     * @throws TypeConverterException 当ResultSet元数据为空、目标类无法映射或遍历过程中发生SQL异常时抛出
+     * @throws NullPointerException   当source为null时抛出
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] convertsUnchecked(ResultSet source) throws Throwable {
+        ResultSetMetaData metaData = source.getMetaData();
+        if (metaData == null) {
+            throw new TypeConverterException("ResultSet metadata is unexpectedly null");
+        }
+        List<T> rows = new ArrayList<>();
+        try {
+            BeanRowMapper<T> mapper = mapperOf(metaData);
+            while (source.next()) {
+                rows.add(mapper.map(source, typeConverterManager));
+            }
+        } catch (SQLException e) {
+            throw new TypeConverterException("Error occurred during ResultSet iteration", e);
+        }
+        return rows.toArray((T[]) Array.newInstance(beanType, rows.size()));
+    }
+
+    /**
+     * 获取列结构对应的映射计划，第一次遇到该列结构时编译并缓存，缓存已满时先移除其中一个
+     *
+     * @param metaData 结果集的元数据
+     * @return 映射计划
+     * @throws SQLException 当读取元数据时发生SQL错误时抛出
+     */
+    BeanRowMapper<T> mapperOf(ResultSetMetaData metaData) throws SQLException {
+        ColumnSignature signature = new ColumnSignature(metaData);
+        BeanRowMapper<T> mapper = mappers.get(signature);
+        if (mapper == null) {
+            mapper = BeanRowMapper.compile(beanType, metaData);
+            if (mappers.size() >= MAX_CACHED_MAPPERS) {
+                // 动态SQL可能产生大量不同的列结构，只保留有限的个数
+                Iterator<ColumnSignature> iterator = mappers.keySet().iterator();
+                if (iterator.hasNext()) {
+                    mappers.remove(iterator.next());
+                }
+            }
+            BeanRowMapper<T> existing = mappers.putIfAbsent(signature, mapper);
+            if (existing != null) {
+                mapper = existing;
+            }
+        }
+        return mapper;
+    }
+
+    /**
+     * 获取已缓存的映射计划个数
+     *
+     * @return 映射计划个数
+     */
+    int cachedMapperCount() {
+        return mappers.size();
+    }
+
+    /**
+     * 按目标类型分配映射计划缓存的数据槽，再按类型转换管理器区分，转换句柄按管理器的转换器解析。
+     * 管理器以弱引用作为键，映射计划不持有管理器，管理器不再使用后其缓存随之释放
+     */
+    private static final class MapperSlots extends ClassValue<Map<TypeConverterManager, Map<ColumnSignature, BeanRowMapper<?>>>> {
+        @Override
+        protected Map<TypeConverterManager, Map<ColumnSignature, BeanRowMapper<?>>> computeValue(Class<?> type) {
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    }
+
+    /**
+     * 结果集的列结构签名，由列标签、列类型和列的Java类名组成，列的Java类名决定重载的setter的选择
+     */
+    private static final class ColumnSignature {
+        private final String[] labels;
+        private final int[] types;
+        private final String[] classNames;
+        private final int hash;
+
+        private ColumnSignature(ResultSetMetaData metaData) throws SQLException {
+            int columnCount = metaData.getColumnCount();
+            this.labels = new String[columnCount];
+            this.types = new int[columnCount];
+            this.classNames = new String[columnCount];
+            for (int j = 0; j < columnCount; j++) {
+                // 列索引从1开始（JDBC规范）
+                String label = metaData.getColumnLabel(j + 1);
+                labels[j] = (label != null ? label : String.valueOf(metaData.getColumnName(j + 1))).toLowerCase(Locale.ROOT);
+                types[j] = metaData.getColumnType(j + 1);
+                classNames[j] = metaData.getColumnClassName(j + 1);
+            }
+            this.hash = (Arrays.hashCode(labels) * 31 + Arrays.hashCode(types)) * 31 + Arrays.hashCode(classNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ColumnSignature)) return false;
+            ColumnSignature that = (ColumnSignature) o;
+            return hash == that.hash && Arrays.equals(types, that.types) && Arrays.equals(labels, that.labels)
+                    && Arrays.equals(classNames, that.classNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.TypeConverterException;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * ResultSet到列式表的类型转换器
+ * <p>
+ * 该转换器将JDBC的ResultSet转换为{@link ColumnarTable}，按列的SQL类型通过getInt、getLong、getDouble、getBoolean读取数值，
+ * 保存在基本类型数组中并用位图记录null，不为每个单元格创建装箱对象；按列连续存放的数据也更适合后续的统计和聚合。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class ResultSetToColumnarTableTypeConverter extends TypeConverter<ResultSet, ColumnarTable> {
+    /**
+     * 转换器的单例实例
+     */
+    public static final ResultSetToColumnarTableTypeConverter INSTANCE = new ResultSetToColumnarTableTypeConverter();
+
+    /**
+     * 构造函数，初始化目标类型为ColumnarTable
+     * 使用protected修饰符防止外部直接实例化
+     */
+    protected ResultSetToColumnarTableTypeConverter() {
+        super(ColumnarTable.class);
+    }
+
+    /**
+     * 判断指定的源对象是否支持转换
+     * 仅当源对象是ResultSet类型时才支持转换
+     *
+     * @param source 源对象
+     * @return 如果源对象是ResultSet类型返回true，否则返回false
+     */
+    @Override
+    public boolean isSupportsSource(Object source) {
+        return source instanceof ResultSet;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，不进行源对象类型检查
+     * 读取ResultSet中剩余的全部行，按列保存
+     *
+     * @param source 源对象，必须是ResultSet类型
+     * @return 转换后的列式表
+     * @throws TypeConverterException 当ResultSet元数据为空或遍历过程中发生SQL异常时抛出
+     * @throws NullPointerException   当source为null时抛出
+     */
+    @Override
+    public ColumnarTable convertsUnchecked(ResultSet source) throws Throwable {
+        ResultSetMetaData metaData = source.getMetaData();
+        if (metaData == null) {
+            throw new TypeConverterException("ResultSet metadata is unexpectedly null");
+        }
+        try {
+            return ColumnarTable.read(source, metaData);
+        } catch (SQLException e) {
+            throw new TypeConverterException("Error occurred during ResultSet iteration", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.TypeConverterException;
+
+import java.sql.ResultSet;
+import java.util.Iterator;
+
+/**
+ * ResultSet到行迭代器的类型转换器
+ * <p>
+ * 该转换器将JDBC的ResultSet转换为Iterator&lt;Object[]&gt;，每次迭代只读取一行，
+ * 与{@link ResultSetToArrayTableTypeConverter}得到的每一行相同，但不会把整个结果集读入内存。
+ * 迭代完毕或读取出错时关闭结果集，提前结束迭代时可以将结果转换为{@link AutoCloseable}关闭。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+@SuppressWarnings("rawtypes")
+public class ResultSetToIteratorTypeConverter extends TypeConverter<ResultSet, Iterator> {
+    /**
+     * 转换器的单例实例
+     */
+    public static final ResultSetToIteratorTypeConverter INSTANCE = new ResultSetToIteratorTypeConverter();
+
+    /**
+     * 构造函数，初始化目标类型为Iterator
+     * 使用protected修饰符防止外部直接实例化
+     */
+    protected ResultSetToIteratorTypeConverter() {
+        super(Iterator.class);
+    }
+
+    /**
+     * 判断指定的源对象是否支持转换
+     * 仅当源对象是ResultSet类型时才支持转换
+     *
+     * @param source 源对象
+     * @return 如果源对象是ResultSet类型返回true，否则返回false
+     */
+    @Override
+    public boolean isSupportsSource(Object source) {
+        return source instanceof ResultSet;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，不进行源对象类型检查
+     *
+     * @param source 源对象，必须是ResultSet类型
+     * @return 元素类型为Object[]的迭代器，实际类型为{@link ResultSetRows}
+     * @throws TypeConverterException 当ResultSet元数据为空或读取元数据时发生SQL异常时抛出
+     * @throws NullPointerException   当source为null时抛出
+     */
+    @Override
+    public Iterator convertsUnchecked(ResultSet source) throws Throwable {
+        return new ResultSetRows(source);
+    }
+}
@@ -7,7 +7,6 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,7 +15,10 @@ import java.util.Map;
  * <p>
  * 该转换器将JDBC ResultSet转换为Map数组，每个Map代表一行数据。
  * 对于每一行数据，使用列索引、列名和列标签作为键存储值，
- * 其中列名和列标签会转换为小写形式。
+ * 其中列名和列标签会转换为小写形式，查找时不区分大小写。
+ * 列结构只在读取第一行之前解析一次并由所有行共享，每行只保存一个按列顺序排列的数组。
+ * 返回的Map可以像普通的HashMap一样修改：第一次put、remove或clear时把该行的全部键值复制到一个LinkedHashMap中，
+ * 之后可以添加新的键，修改或移除一个键不会影响同一列的其他键。
  * 这是一个单例类，通过INSTANCE字段获取实例。
  * </p>
  *
@@ -51,7 +53,7 @@ public class ResultSetToMapTableTypeConverter extends TypeConverter<ResultSet, M
 
     /**
      * 将源对象转换为目标类型对象，不进行源对象类型检查
-     * 遍历ResultSet中的每一行数据，将每行的列值以多种键形式存储到Map中：
+     * 遍历ResultSet中的每一行数据，每行的列值可以通过多种键读取：
      * 1. 列索引（从1开始）
      * 2. 列名（转换为小写）
      * 3. 列标签（转换为小写，当列名和列标签不同时）
@@ -68,32 +70,19 @@ public class ResultSetToMapTableTypeConverter extends TypeConverter<ResultSet, M
         if (metaData == null) {
             throw new TypeConverterException("ResultSet metadata is unexpectedly null");
         }
-        int columnCount = metaData.getColumnCount();
         // 使用List动态收集行数据以避免预分配固定大小数组
         List<Map> rows = new ArrayList<>();
         try {
+            // 列名和列标签只解析一次，由所有行共享
+            ResultSetSchema schema = new ResultSetSchema(metaData);
+            int columnCount = schema.getColumnCount();
             while (source.next()) {
-                Map row = new HashMap((int) (columnCount / 0.75f + 1));
+                Object[] values = new Object[columnCount];
                 for (int j = 0; j < columnCount; j++) {
                     // 列索引从1开始（JDBC规范）
-                    int columnIndex = j + 1;
-                    String columnName = metaData.getColumnName(columnIndex);
-                    String columnLabel = metaData.getColumnLabel(columnIndex);
-                    Object value = source.getObject(columnIndex);
-                    row.put(columnIndex, value);
-                    if (columnName != null) {
-                        columnName = columnName.toLowerCase();
-                        row.put(columnName, value);
-                        if (columnLabel != null && !columnName.equalsIgnoreCase(columnLabel)) {
-                            columnLabel = columnLabel.toLowerCase();
-                            row.put(columnLabel, value);
-                        }
-                    } else if (columnLabel != null) {
-                        columnLabel = columnLabel.toLowerCase();
-                        row.put(columnLabel, value);
-                    }
+                    values[j] = source.getObject(j + 1);
                 }
-                rows.add(row);
+                rows.add(new ResultSetRowMap(schema, values));
             }
         } catch (SQLException e) {
             throw new TypeConverterException("Error occurred during ResultSet iteration", e);
@@ -0,0 +1,56 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.TypeConverterException;
+
+import java.sql.ResultSet;
+
+/**
+ * ResultSet到逐行读取器的类型转换器
+ * <p>
+ * 该转换器将JDBC的ResultSet包装为{@link ResultSetRows}，不预先读取任何数据，
+ * 可以通过迭代、{@link ResultSetRows#forEachRow(java.util.function.Consumer)}回调或流逐行处理，读取完毕后关闭结果集。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class ResultSetToRowsTypeConverter extends TypeConverter<ResultSet, ResultSetRows> {
+    /**
+     * 转换器的单例实例
+     */
+    public static final ResultSetToRowsTypeConverter INSTANCE = new ResultSetToRowsTypeConverter();
+
+    /**
+     * 构造函数，初始化目标类型为ResultSetRows
+     * 使用protected修饰符防止外部直接实例化
+     */
+    protected ResultSetToRowsTypeConverter() {
+        super(ResultSetRows.class);
+    }
+
+    /**
+     * 判断指定的源对象是否支持转换
+     * 仅当源对象是ResultSet类型时才支持转换
+     *
+     * @param source 源对象
+     * @return 如果源对象是ResultSet类型返回true，否则返回false
+     */
+    @Override
+    public boolean isSupportsSource(Object source) {
+        return source instanceof ResultSet;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，不进行源对象类型检查
+     *
+     * @param source 源对象，必须是ResultSet类型
+     * @return 尚未读取任何行的逐行读取器
+     * @throws TypeConverterException 当ResultSet元数据为空或读取元数据时发生SQL异常时抛出
+     * @throws NullPointerException   当source为null时抛出
+     */
+    @Override
+    public ResultSetRows convertsUnchecked(ResultSet source) throws Throwable {
+        return new ResultSetRows(source);
+    }
+}
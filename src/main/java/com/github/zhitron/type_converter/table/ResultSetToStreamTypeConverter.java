@@ -0,0 +1,58 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.TypeConverterException;
+
+import java.sql.ResultSet;
+import java.util.stream.Stream;
+
+/**
+ * ResultSet到行流的类型转换器
+ * <p>
+ * 该转换器将JDBC的ResultSet转换为Stream&lt;Object[]&gt;，流的每个元素为一行，按需逐行读取，
+ * 不会把整个结果集读入内存。流的元素全部消费完毕或流被关闭时关闭结果集，建议在try-with-resources中使用。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+@SuppressWarnings("rawtypes")
+public class ResultSetToStreamTypeConverter extends TypeConverter<ResultSet, Stream> {
+    /**
+     * 转换器的单例实例
+     */
+    public static final ResultSetToStreamTypeConverter INSTANCE = new ResultSetToStreamTypeConverter();
+
+    /**
+     * 构造函数，初始化目标类型为Stream
+     * 使用protected修饰符防止外部直接实例化
+     */
+    protected ResultSetToStreamTypeConverter() {
+        super(Stream.class);
+    }
+
+    /**
+     * 判断指定的源对象是否支持转换
+     * 仅当源对象是ResultSet类型时才支持转换
+     *
+     * @param source 源对象
+     * @return 如果源对象是ResultSet类型返回true，否则返回false
+     */
+    @Override
+    public boolean isSupportsSource(Object source) {
+        return source instanceof ResultSet;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，不进行源对象类型检查
+     *
+     * @param source 源对象，必须是ResultSet类型
+     * @return 元素类型为Object[]的顺序流
+     * @throws TypeConverterException 当ResultSet元数据为空或读取元数据时发生SQL异常时抛出
+     * @throws NullPointerException   当source为null时抛出
+     */
+    @Override
+    public Stream convertsUnchecked(ResultSet source) throws Throwable {
+        return new ResultSetRows(source).stream();
+    }
+}
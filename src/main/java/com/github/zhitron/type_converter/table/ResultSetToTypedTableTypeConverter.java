@@ -0,0 +1,139 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverter;
+import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.TypeConverterManager;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 按列转换类型的ResultSet到二维数组的类型转换器
+ * <p>
+ * 该转换器持有一个列到目标类型的映射，键为列名、列标签（不区分大小写）或从1开始的列索引。
+ * 每次转换时根据{@link ResultSetMetaData}为映射中的每一列解析一次转换器（见{@link ColumnConversionPlan}），
+ * 之后逐行直接调用已绑定的转换器，不再对每个单元格查找转换器；映射中没有的列保持{@link ResultSet#getObject(int)}得到的值。
+ * 转换器通过{@link #of(String, Map)}创建时指定一个名称作为选择器，注册到{@link TypeConverterManager}后以该名称转换：
+ * {@code manager.converts(resultSet, Object[][].class, null, "orders")}，不影响未指定选择器的{@link ResultSetToArrayTableTypeConverter}。
+ * 也可以通过{@link #rows(ResultSet)}逐行读取转换后的结果。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class ResultSetToTypedTableTypeConverter extends TypeConverter<ResultSet, Object[][]> {
+    /**
+     * 列到目标类型的映射
+     */
+    private final Map<Object, Class<?>> columnTypes;
+    /**
+     * 用于解析每一列转换器的类型转换管理器
+     */
+    private final TypeConverterManager typeConverterManager;
+
+    /**
+     * 构造函数
+     *
+     * @param name                 转换器的名称，作为选择器使用
+     * @param columnTypes          列到目标类型的映射，键为列名、列标签或从1开始的列索引
+     * @param typeConverterManager 用于解析每一列转换器的类型转换管理器
+     */
+    protected ResultSetToTypedTableTypeConverter(String name, Map<?, Class<?>> columnTypes, TypeConverterManager typeConverterManager) {
+        super(Object[][].class, Objects.requireNonNull(name));
+        Map<Object, Class<?>> copy = new LinkedHashMap<>();
+        for (Map.Entry<?, Class<?>> entry : columnTypes.entrySet()) {
+            copy.put(Objects.requireNonNull(entry.getKey()), Objects.requireNonNull(entry.getValue()));
+        }
+        this.columnTypes = Collections.unmodifiableMap(copy);
+        this.typeConverterManager = Objects.requireNonNull(typeConverterManager);
+    }
+
+    /**
+     * 创建按列转换类型的转换器，列值通过{@link TypeConverterManager#DEFAULT}转换
+     *
+     * @param name        转换器的名称，作为选择器使用
+     * @param columnTypes 列到目标类型的映射，键为列名、列标签或从1开始的列索引
+     * @return 新的转换器
+     */
+    public static ResultSetToTypedTableTypeConverter of(String name, Map<?, Class<?>> columnTypes) {
+        return of(name, columnTypes, TypeConverterManager.DEFAULT);
+    }
+
+    /**
+     * 创建按列转换类型的转换器
+     *
+     * @param name                 转换器的名称，作为选择器使用
+     * @param columnTypes          列到目标类型的映射，键为列名、列标签或从1开始的列索引
+     * @param typeConverterManager 用于解析每一列转换器的类型转换管理器
+     * @return 新的转换器
+     */
+    public static ResultSetToTypedTableTypeConverter of(String name, Map<?, Class<?>> columnTypes, TypeConverterManager typeConverterManager) {
+        return new ResultSetToTypedTableTypeConverter(name, columnTypes, typeConverterManager);
+    }
+
+    /**
+     * 获取列到目标类型的映射
+     *
+     * @return 不可修改的映射
+     */
+    public Map<Object, Class<?>> getColumnTypes() {
+        return columnTypes;
+    }
+
+    /**
+     * 判断指定的源对象是否支持转换
+     * 仅当源对象是ResultSet类型时才支持转换
+     *
+     * @param source 源对象
+     * @return 如果源对象是ResultSet类型返回true，否则返回false
+     */
+    @Override
+    public boolean isSupportsSource(Object source) {
+        return source instanceof ResultSet;
+    }
+
+    /**
+     * 将源对象转换为目标类型对象，不进行源对象类型检查
+     * 读取ResultSet中剩余的全部行，映射中的列转换为指定的类型
+     *
+     * @param source 源对象，必须是ResultSet类型
+     * @return 转换后的Object[][]对象
+     * @throws TypeConverterException 当ResultSet元数据为空、映射中的列不存在、找不到列的转换器或遍历过程中发生SQL异常时抛出
+     * @throws NullPointerException   当source为null时抛出
+     */
+    @Override
+    public Object[][] convertsUnchecked(ResultSet source) throws Throwable {
+        ResultSetMetaData metaData = source.getMetaData();
+        if (metaData == null) {
+            throw new TypeConverterException("ResultSet metadata is unexpectedly null");
+        }
+        List<Object[]> rows = new ArrayList<>();
+        try {
+            ColumnConversionPlan plan = ColumnConversionPlan.bind(metaData, columnTypes, typeConverterManager);
+            int columnCount = plan.getColumnCount();
+            while (source.next()) {
+                rows.add(plan.read(source, new Object[columnCount]));
+            }
+        } catch (SQLException e) {
+            throw new TypeConverterException("Error occurred during ResultSet iteration", e);
+        }
+        return rows.toArray(new Object[0][0]);
+    }
+
+    /**
+     * 将结果集包装为逐行读取器，每一行按映射转换列的类型
+     *
+     * @param source 源结果集
+     * @return 尚未读取任何行的逐行读取器
+     * @throws TypeConverterException 当ResultSet元数据为空、映射中的列不存在或读取元数据时发生SQL异常时抛出
+     */
+    public ResultSetRows rows(ResultSet source) {
+        return new ResultSetRows(source, columnTypes, typeConverterManager);
+    }
+}
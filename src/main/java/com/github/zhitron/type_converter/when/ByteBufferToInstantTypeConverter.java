@@ -0,0 +1,43 @@
+package com.github.zhitron.type_converter.when;
+
+import com.github.zhitron.type_converter.AsciiCharSequence;
+import com.github.zhitron.type_converter.TypeConverter;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * ByteBuffer到Instant类型转换器
+ * <p>
+ * 将缓冲区position到limit之间的ASCII字节视为字符序列，转换规则与{@link CharSequenceToInstantTypeConverter}一致。
+ * 通过{@link AsciiCharSequence}直接读取堆缓冲区或直接缓冲区中的字节，不解码、不复制，也不改变缓冲区的position。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class ByteBufferToInstantTypeConverter extends TypeConverter<ByteBuffer, Instant> {
+    /**
+     * 单例实例
+     */
+    public static final ByteBufferToInstantTypeConverter INSTANCE = new ByteBufferToInstantTypeConverter();
+
+    /**
+     * 构造函数，初始化源类型为ByteBuffer.class，目标类型为Instant.class
+     */
+    protected ByteBufferToInstantTypeConverter() {
+        super(ByteBuffer.class, Instant.class);
+    }
+
+    /**
+     * 将缓冲区中的字节转换为Instant对象
+     *
+     * @param source 源缓冲区
+     * @return 转换后的Instant对象，空白内容时返回null
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    public Instant convertsUnchecked(ByteBuffer source) throws Throwable {
+        return CharSequenceToInstantTypeConverter.INSTANCE.convertsUnchecked(AsciiCharSequence.of(source));
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.zhitron.type_converter.when;
+
+import com.github.zhitron.type_converter.CharSequenceTypeConverter;
+import com.github.zhitron.type_converter.LosslessTypeConverter;
+
+import java.time.Instant;
+
+/**
+ * 字符序列到Instant类型转换器
+ * <p>
+ * 用于将ISO-8601格式的字符序列（例如{@code 2024-05-01T12:30:45.123Z}）转换为Instant类型，格式规则与{@link Instant#parse(CharSequence)}一致。
+ * 常见格式直接在修剪后的范围上按索引解析，不产生中间字符串。
+ * 这是一个单例类，通过INSTANCE字段获取实例。
+ * </p>
+ *
+ * @author zhitron
+ */
+public class CharSequenceToInstantTypeConverter extends CharSequenceTypeConverter<CharSequence, Instant> implements LosslessTypeConverter {
+    /**
+     * 单例实例
+     */
+    public static final CharSequenceToInstantTypeConverter INSTANCE = new CharSequenceToInstantTypeConverter();
+
+    /**
+     * 构造函数，初始化目标类型为Instant.class
+     */
+    protected CharSequenceToInstantTypeConverter() {
+        super(Instant.class);
+    }
+
+    /**
+     * 将修剪后的字符串转换为Instant对象
+     *
+     * @param input 修剪后的字符串
+     * @return 转换后的Instant对象
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    protected Instant convertsUncheckedString(String input) throws Throwable {
+        return IsoDateTimeParser.parseInstant(input, 0, input.length());
+    }
+
+    /**
+     * 直接在源字符序列的修剪范围上解析Instant对象，不产生中间字符串
+     *
+     * @param source 源字符序列
+     * @param start  修剪后的起始位置（包含）
+     * @param end    修剪后的结束位置（不包含）
+     * @return 转换后的Instant对象
+     * @throws Throwable 转换过程中发生错误时抛出
+     */
+    @Override
+    protected Instant convertsUncheckedRange(CharSequence source, int start, int end) throws Throwable {
+        return IsoDateTimeParser.parseInstant(source, start, end);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.when;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverterException;
 
 import java.time.Instant;
@@ -14,7 +15,7 @@ import java.util.Date;
  *
  * @author zhitron
  */
-public class DateToInstantTypeConverter extends AbstractWhenTypeConverter<Date, Instant> {
+public class DateToInstantTypeConverter extends AbstractWhenTypeConverter<Date, Instant> implements LosslessTypeConverter {
     /**
      * 转换器的单例实例
      */
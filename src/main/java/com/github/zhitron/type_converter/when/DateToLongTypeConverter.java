@@ -1,6 +1,8 @@
 package com.github.zhitron.type_converter.when;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.primitive.ToLongTypeConverter;
 
 import java.util.Date;
 
@@ -13,7 +15,7 @@ import java.util.Date;
  *
  * @author zhitron
  */
-public class DateToLongTypeConverter extends AbstractWhenTypeConverter<Date, Long> {
+public class DateToLongTypeConverter extends AbstractWhenTypeConverter<Date, Long> implements ToLongTypeConverter<Date>, LosslessTypeConverter {
     /**
      * 单例实例。
      * <p>
@@ -61,6 +63,19 @@ public class DateToLongTypeConverter extends AbstractWhenTypeConverter<Date, Lon
      */
     @Override
     public Long convertsUnchecked(Date source) throws Throwable {
+        return convertsUncheckedToLong(source, 0);
+    }
+
+    /**
+     * 取Date的毫秒时间戳。
+     *
+     * @param source        源对象。
+     * @param targetDefault 默认值，未使用，Date总能得到毫秒数。
+     * @return 转换后的long值，表示自1970年1月1日00:00:00 UTC以来的毫秒数。
+     * @throws Throwable 转换过程中发生错误时抛出。
+     */
+    @Override
+    public long convertsUncheckedToLong(Date source, long targetDefault) throws Throwable {
         return source.getTime();
     }
 }
@@ -2,6 +2,7 @@ package com.github.zhitron.type_converter.when;
 
 import com.github.zhitron.type_converter.TypeConverter;
 import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.primitive.ToLongTypeConverter;
 
 import java.time.Instant;
 
@@ -14,7 +15,7 @@ import java.time.Instant;
  *
  * @author zhitron
  */
-public class InstantToLongTypeConverter extends TypeConverter<Instant, Long> {
+public class InstantToLongTypeConverter extends TypeConverter<Instant, Long> implements ToLongTypeConverter<Instant> {
     /**
      * 转换器单例实例。
      * <p>
@@ -47,6 +48,19 @@ public class InstantToLongTypeConverter extends TypeConverter<Instant, Long> {
      */
     @Override
     public Long convertsUnchecked(Instant source) throws Throwable {
+        return convertsUncheckedToLong(source, 0);
+    }
+
+    /**
+     * 取Instant的毫秒时间戳，超出long范围时抛出ArithmeticException。
+     *
+     * @param source        源对象。
+     * @param targetDefault 默认值，未使用，Instant总能得到毫秒数。
+     * @return 转换后的long值，表示自1970年1月1日00:00:00 UTC以来的毫秒数。
+     * @throws Throwable 转换过程中发生错误时抛出。
+     */
+    @Override
+    public long convertsUncheckedToLong(Instant source, long targetDefault) throws Throwable {
         return source.toEpochMilli();
     }
 }
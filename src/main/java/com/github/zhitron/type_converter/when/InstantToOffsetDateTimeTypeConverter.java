@@ -1,5 +1,6 @@
 package com.github.zhitron.type_converter.when;
 
+import com.github.zhitron.type_converter.LosslessTypeConverter;
 import com.github.zhitron.type_converter.TypeConverterException;
 
 import java.time.Instant;
@@ -17,7 +18,7 @@ import java.util.Objects;
  *
  * @author zhitron
  */
-public class InstantToOffsetDateTimeTypeConverter extends AbstractWhenTypeConverter<Instant, OffsetDateTime> {
+public class InstantToOffsetDateTimeTypeConverter extends AbstractWhenTypeConverter<Instant, OffsetDateTime> implements LosslessTypeConverter {
     /**
      * 构造函数，使用指定的时区偏移字符串创建转换器。
      * <p>
@@ -0,0 +1,198 @@
+package com.github.zhitron.type_converter.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 直接在字符序列的指定范围上解析ISO-8601格式的日期时间
+ * <p>
+ * 最常见的固定布局（四位年份，例如{@code 2024-05-01T12:30:45.123Z}）按索引直接读取各个字段，不产生中间对象；
+ * 其他形式（带符号或超过四位的年份、时区偏移、闰秒、超出范围的字段等）交由
+ * {@link Instant#parse(CharSequence)}和{@link LocalDateTime#parse(CharSequence)}处理，结果和异常与其完全一致。
+ * </p>
+ *
+ * @author zhitron
+ */
+final class IsoDateTimeParser {
+    /**
+     * 0000-01-01到1970-01-01的天数
+     */
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    /**
+     * 用于将小数秒补齐为纳秒的10的幂
+     */
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private IsoDateTimeParser() {
+    }
+
+    /**
+     * 解析ISO-8601格式的时间点，例如{@code 2024-05-01T12:30:45Z}
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的时间点
+     * @throws java.time.format.DateTimeParseException 当格式错误时抛出
+     */
+    static Instant parseInstant(CharSequence source, int start, int end) {
+        // 必须包含秒和结尾的'Z'
+        int last = end - 1;
+        if (end - start >= 20 && (source.charAt(last) | 0x20) == 'z' && source.charAt(start + 16) == ':') {
+            int year = digits(source, start, 4);
+            int month = digits(source, start + 5, 2);
+            int day = digits(source, start + 8, 2);
+            int hour = digits(source, start + 11, 2);
+            int minute = digits(source, start + 14, 2);
+            int second = digits(source, start + 17, 2);
+            int nano = fraction(source, start + 19, last);
+            if (isDateTimeLayout(source, start) && isValid(year, month, day, hour, minute, second, nano)) {
+                long epochSecond = toEpochDay(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second;
+                return Instant.ofEpochSecond(epochSecond, nano);
+            }
+        }
+        return Instant.parse(source.subSequence(start, end));
+    }
+
+    /**
+     * 解析ISO-8601格式的本地日期时间，例如{@code 2024-05-01T12:30}或{@code 2024-05-01T12:30:45.123}
+     *
+     * @param source 源字符序列
+     * @param start  起始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 解析出的本地日期时间
+     * @throws java.time.format.DateTimeParseException 当格式错误时抛出
+     */
+    static LocalDateTime parseLocalDateTime(CharSequence source, int start, int end) {
+        int length = end - start;
+        if (length == 16 || length >= 19 && source.charAt(start + 16) == ':') {
+            int year = digits(source, start, 4);
+            int month = digits(source, start + 5, 2);
+            int day = digits(source, start + 8, 2);
+            int hour = digits(source, start + 11, 2);
+            int minute = digits(source, start + 14, 2);
+            int second = length == 16 ? 0 : digits(source, start + 17, 2);
+            int nano = length == 16 ? 0 : fraction(source, start + 19, end);
+            if (isDateTimeLayout(source, start) && isValid(year, month, day, hour, minute, second, nano)) {
+                return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+            }
+        }
+        return LocalDateTime.parse(source.subSequence(start, end));
+    }
+
+    /**
+     * 判断起始位置之后是否为{@code yyyy-MM-ddTHH:mm}的分隔符布局，数字部分另行检查
+     *
+     * @param source 源字符序列，从start开始至少有16个字符
+     * @param start  起始位置
+     * @return 分隔符都在预期的位置时返回true
+     */
+    private static boolean isDateTimeLayout(CharSequence source, int start) {
+        return source.charAt(start + 4) == '-'
+                && source.charAt(start + 7) == '-'
+                && (source.charAt(start + 10) | 0x20) == 't'
+                && source.charAt(start + 13) == ':';
+    }
+
+    /**
+     * 判断各字段是否都已成功读取且在常规范围内
+     *
+     * @return 所有字段有效时返回true，否则交由JDK处理
+     */
+    private static boolean isValid(int year, int month, int day, int hour, int minute, int second, int nano) {
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month)
+                && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59 && nano >= 0;
+    }
+
+    /**
+     * 读取固定位数的十进制数字
+     *
+     * @param source 源字符序列
+     * @param index  起始位置
+     * @param count  位数
+     * @return 读取到的数值，包含非数字字符时返回-1
+     */
+    private static int digits(CharSequence source, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            int digit = source.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 读取可选的小数秒部分
+     *
+     * @param source 源字符序列
+     * @param index  秒之后的位置
+     * @param end    小数部分的结束位置（不包含）
+     * @return 纳秒数，没有小数部分时返回0，格式不是'.'加1到9位数字时返回-1
+     */
+    private static int fraction(CharSequence source, int index, int end) {
+        if (index == end) {
+            return 0;
+        }
+        int count = end - index - 1;
+        if (source.charAt(index) != '.' || count < 1 || count > 9) {
+            return -1;
+        }
+        int value = digits(source, index + 1, count);
+        return value < 0 ? -1 : value * POWERS_OF_TEN[9 - count];
+    }
+
+    /**
+     * 获取指定月份的天数
+     *
+     * @param year  年份
+     * @param month 月份
+     * @return 天数
+     */
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * 判断是否为闰年
+     *
+     * @param year 非负的年份
+     * @return 闰年时返回true
+     */
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 计算日期距1970-01-01的天数，算法与{@link java.time.LocalDate#toEpochDay()}一致
+     *
+     * @param year  非负的年份
+     * @param month 月份
+     * @param day   日
+     * @return 距1970-01-01的天数
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
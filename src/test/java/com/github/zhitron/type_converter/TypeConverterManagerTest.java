@@ -1,12 +1,28 @@
 package com.github.zhitron.type_converter;
 
+import com.github.zhitron.type_converter.string.NumberToStringTypeConverter;
+import com.github.zhitron.type_converter.string.ObjectToStringTypeConverter;
+import com.github.zhitron.universal.Logger;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -405,4 +421,793 @@ public class TypeConverterManagerTest {
         // 使用默认值：null转String，提供默认值"default"
         assertEquals("default", typeConverterManager.converts(null, String.class, "default"));
     }
+
+    /**
+     * 测试解析缓存在注册新转换器后失效
+     * 包括未找到转换器的结果也会被重新解析
+     */
+    @Test
+    public void testResolutionCacheInvalidatedOnRegister() {
+        TypeConverterManager manager = TypeConverterManager.of();
+        // 未注册任何转换器时返回默认值，且结果被缓存
+        assertEquals("none", manager.converts(123, String.class, "none"));
+        assertEquals("none", manager.converts(123, String.class, "none"));
+
+        // 注册后缓存失效，能够解析到新注册的转换器
+        manager.register(NumberToStringTypeConverter.INSTANCE);
+        assertEquals("123", manager.converts(123, String.class, "none"));
+        assertEquals("456", manager.converts(456, String.class, "none"));
+
+        // 选择器参与缓存键，不同选择器的结果互不影响
+        manager.register(ObjectToStringTypeConverter.UPPER_CASE);
+        assertEquals("ABC", manager.converts("abc", String.class, null, "upper"));
+        assertNull(manager.converts("abc", String.class, null));
+    }
+
+    /**
+     * 测试预先绑定的转换句柄
+     */
+    @Test
+    public void testConversionHandle() {
+        ConversionHandle<Integer, Long> handle = typeConverterManager.handle(Integer.class, Long.class);
+        assertEquals(Long.valueOf(42L), handle.convert(42));
+        assertEquals(Long.valueOf(-1L), handle.convert(null, -1L));
+
+        // 选择器在创建句柄时生效
+        ConversionHandle<String, String> upper = typeConverterManager.handle(String.class, String.class, "upper", null);
+        assertEquals("ABC", upper.convert("abc"));
+        assertArrayEquals(new Object[]{"upper"}, upper.getSelectors());
+
+        // 转换失败时返回默认值
+        ConversionHandle<String, Integer> parser = typeConverterManager.handle(String.class, Integer.class);
+        assertEquals(Integer.valueOf(0), parser.convert("invalid", 0));
+
+        // 找不到转换器时立即失败
+        try {
+            TypeConverterManager.of().handle(Integer.class, Long.class);
+            fail("Expected TypeConverterException");
+        } catch (TypeConverterException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 测试不抛出异常的转换，同一个结果对象可以重复使用
+     */
+    @Test
+    public void testTryConvert() {
+        ConversionResult<Integer> result = new ConversionResult<>();
+        assertTrue(typeConverterManager.tryConvert(new StringBuilder(" 123 "), Integer.class, result));
+        assertEquals(ConversionResult.Status.SUCCESS, result.getStatus());
+        assertEquals(Integer.valueOf(123), result.get());
+
+        // 格式错误、超出范围、空白字符串和null分别对应不同的状态
+        assertFalse(typeConverterManager.tryConvert("12a", Integer.class, result));
+        assertEquals(ConversionResult.Status.FAILURE, result.getStatus());
+        assertNull(result.get());
+        assertEquals(Integer.valueOf(-1), result.getOrDefault(-1));
+        assertFalse(typeConverterManager.tryConvert(new StringBuilder("2147483648"), Integer.class, result));
+        assertEquals(ConversionResult.Status.FAILURE, result.getStatus());
+        assertFalse(typeConverterManager.tryConvert(" 123 ", Integer.class, result));
+        assertEquals(ConversionResult.Status.FAILURE, result.getStatus());
+        assertFalse(typeConverterManager.tryConvert(new StringBuilder("   "), Integer.class, result));
+        assertEquals(ConversionResult.Status.EMPTY, result.getStatus());
+        assertFalse(typeConverterManager.tryConvert(null, Integer.class, result));
+        assertEquals(ConversionResult.Status.EMPTY, result.getStatus());
+        assertFalse(TypeConverterManager.of().tryConvert("1", Integer.class, result));
+        assertEquals(ConversionResult.Status.NO_CONVERTER, result.getStatus());
+
+        // 基本类型的目标类型与包装类型一致
+        ConversionResult<Integer> primitive = new ConversionResult<>();
+        assertTrue(typeConverterManager.tryConvert("7", int.class, primitive));
+        assertEquals(Integer.valueOf(7), primitive.get());
+
+        // 各种数值类型和源类型的失败与成功
+        ConversionResult<BigDecimal> decimal = new ConversionResult<>();
+        assertTrue(typeConverterManager.tryConvert("1.50", BigDecimal.class, decimal));
+        assertEquals(new BigDecimal("1.50"), decimal.get());
+        assertFalse(typeConverterManager.tryConvert("1.5.0", BigDecimal.class, decimal));
+        assertEquals(ConversionResult.Status.FAILURE, decimal.getStatus());
+        ConversionResult<Double> floating = new ConversionResult<>();
+        assertTrue(typeConverterManager.tryConvert(ByteBuffer.wrap("2.5".getBytes(StandardCharsets.US_ASCII)), Double.class, floating));
+        assertEquals(Double.valueOf(2.5), floating.get());
+        assertFalse(typeConverterManager.tryConvert("2,5", Double.class, floating));
+        ConversionResult<Character> character = new ConversionResult<>();
+        assertFalse(typeConverterManager.tryConvert("ab", Character.class, character));
+        assertEquals(ConversionResult.Status.FAILURE, character.getStatus());
+
+        // 句柄与转换器上的对应方法
+        ConversionHandle<String, Long> handle = typeConverterManager.handle(String.class, Long.class);
+        ConversionResult<Long> longResult = new ConversionResult<>();
+        assertTrue(handle.tryConvert("-9", longResult));
+        assertEquals(Long.valueOf(-9L), longResult.get());
+        assertFalse(handle.tryConvert("x", longResult));
+        assertEquals(ConversionResult.Status.FAILURE, longResult.getStatus());
+    }
+
+    /**
+     * 测试转换失败的计数与限流日志
+     */
+    @Test
+    public void testFailureLog() {
+        Assume.assumeTrue(Logger.isEnabledWarn());
+        ConversionFailureLog failureLog = ConversionFailureLog.of(0, 2, Duration.ofHours(1));
+        TypeConverterManager manager = TypeConverterManager.of(typeConverterManager).setFailureLog(failureLog);
+        assertSame(failureLog, manager.getFailureLog());
+        assertSame(failureLog, manager.freeze().getFailureLog());
+
+        // 每种组合只有前两次失败记录完整日志，其余只计数
+        assertTrue(failureLog.record(String.class, Integer.class, null, new NumberFormatException()));
+        assertTrue(failureLog.record(String.class, Integer.class, null, new NumberFormatException()));
+        assertFalse(failureLog.record(String.class, Integer.class, null, new NumberFormatException()));
+        assertTrue(failureLog.record(String.class, Long.class, null, new NumberFormatException()));
+        assertEquals(3, failureLog.getFailureCount(String.class, Integer.class));
+        String summary = failureLog.drainSummary();
+        assertTrue(summary, summary.contains("java.lang.String -> java.lang.Integer using null] 3 (1 not logged)"));
+        assertTrue(summary, summary.contains("java.lang.String -> java.lang.Long using null] 1 (0 not logged)"));
+        assertNull(failureLog.drainSummary());
+        // 新的周期重新记录完整日志，累计次数不清零
+        assertTrue(failureLog.record(String.class, Integer.class, null, new NumberFormatException()));
+        assertEquals(4, failureLog.getFailureCount(String.class, Integer.class));
+
+        // 管理器的各个入口都计入该管理器的日志
+        ConversionFailureLog managerLog = ConversionFailureLog.of();
+        manager.setFailureLog(managerLog);
+        assertNull(manager.converts("x", Integer.class, null));
+        assertEquals(-1, manager.toInt("x", -1));
+        assertEquals(Long.valueOf(0L), manager.handle(String.class, Long.class).convert("x", 0L));
+        assertEquals(2, managerLog.getFailureCount(String.class, Integer.class));
+        assertEquals(1, managerLog.getFailureCount(String.class, Long.class));
+        assertEquals(3, managerLog.getFailureCount());
+        assertEquals(4, failureLog.getFailureCount(String.class, Integer.class));
+
+        // 只计数的失败不创建包装异常，不调用源对象的toString()
+        AtomicInteger toStringCalls = new AtomicInteger();
+        Object source = new Object() {
+            @Override
+            public String toString() {
+                toStringCalls.incrementAndGet();
+                return "source";
+            }
+        };
+        TypeConverterManager silent = TypeConverterManager.of().setFailureLog(ConversionFailureLog.of(0, 0, Duration.ofHours(1)));
+        silent.register(new TypeConverter<Object, Integer>(Object.class, Integer.class) {
+            @Override
+            public Integer convertsUnchecked(Object source) {
+                throw new IllegalStateException();
+            }
+        });
+        assertEquals(Integer.valueOf(-1), silent.converts(source, Integer.class, -1));
+        assertEquals(-1, silent.toInt(source, -1));
+        assertEquals(Integer.valueOf(-1), silent.handle(Object.class, Integer.class).convert(source, -1));
+        assertEquals(3, silent.getFailureLog().getFailureCount(source.getClass(), Integer.class)
+                + silent.getFailureLog().getFailureCount(Object.class, Integer.class));
+        assertEquals(0, toStringCalls.get());
+
+        try {
+            ConversionFailureLog.of(1, 1, Duration.ZERO);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 测试周期结束后即使没有新的失败也会由守护线程输出汇总，没有失败后停止调度
+     */
+    @Test
+    public void testFailureLogSummaryTicker() throws Exception {
+        ConversionFailureLog failureLog = ConversionFailureLog.of(0, 1, Duration.ofMillis(20));
+        assertFalse(failureLog.isTicking());
+        failureLog.record(String.class, Integer.class, null, new NumberFormatException());
+        assertTrue(failureLog.isTicking());
+        for (int i = 0; i < 500 && failureLog.isTicking(); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse("The ticker should stop after an interval without failures", failureLog.isTicking());
+        // 汇总已由守护线程取出，累计次数保留
+        assertNull(failureLog.drainSummary());
+        assertEquals(1, failureLog.getFailureCount(String.class, Integer.class));
+        // 新的失败重新开始调度
+        failureLog.record(String.class, Integer.class, null, new NumberFormatException());
+        assertTrue(failureLog.isTicking());
+    }
+
+    /**
+     * 测试失败计数不会阻止类型所在的类加载器被回收
+     */
+    @Test
+    public void testFailureLogReleasesTypes() throws Exception {
+        ConversionFailureLog failureLog = ConversionFailureLog.of(0, 0, Duration.ofHours(1));
+        WeakReference<ClassLoader> loaderReference = recordPluginFailure(failureLog);
+        for (int i = 0; i < 100 && loaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("The plugin class loader should be collectable", loaderReference.get());
+        // 被回收的组合在输出汇总时移除
+        assertNull(failureLog.drainSummary());
+        assertEquals(0, failureLog.getFailureCount());
+    }
+
+    /**
+     * 使用独立的类加载器加载插件类型并记录一次以其为目标类型的转换失败
+     *
+     * @param failureLog 转换失败日志
+     * @return 插件类加载器的弱引用
+     */
+    private WeakReference<ClassLoader> recordPluginFailure(ConversionFailureLog failureLog) throws Exception {
+        PluginClassLoader loader = new PluginClassLoader(PluginValue.class.getName());
+        Class<?> pluginType = loader.loadClass(PluginValue.class.getName());
+        assertFalse(failureLog.record(String.class, pluginType, ObjectToStringTypeConverter.DEFAULT, new IllegalStateException()));
+        assertEquals(1, failureLog.getFailureCount(String.class, pluginType));
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * 测试特定转换器按选择器索引，不同时区偏移量的转换器互不覆盖
+     */
+    @Test
+    public void testSpecificConvertersIndexedBySelector() {
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 1, 1, 12, 0, 0);
+
+        // 不同的时区偏移量选择到各自的转换器
+        assertEquals(Instant.parse("2023-01-01T04:00:00Z"), typeConverterManager.converts(localDateTime, Instant.class, null, "+8"));
+        assertEquals(Instant.parse("2023-01-01T17:00:00Z"), typeConverterManager.converts(localDateTime, Instant.class, null, "-5"));
+        assertEquals(Instant.parse("2023-01-01T12:00:00Z"), typeConverterManager.converts(localDateTime, Instant.class, null, "+0"));
+
+        // 支持ZoneOffset对象和标准格式的字符串选择器
+        assertEquals(Instant.parse("2023-01-01T04:00:00Z"), typeConverterManager.converts(localDateTime, Instant.class, null, ZoneOffset.ofHours(8)));
+        assertEquals(Instant.parse("2023-01-01T04:00:00Z"), typeConverterManager.converts(localDateTime, Instant.class, null, "+08:00"));
+
+        // 时区偏移量同样作用于其他目标类型
+        assertEquals(Long.valueOf(Instant.parse("2023-01-01T10:00:00Z").toEpochMilli()),
+                typeConverterManager.converts(localDateTime, Long.class, null, "+2"));
+        assertEquals(ZoneOffset.ofHours(-3), typeConverterManager.converts(localDateTime, OffsetDateTime.class, null, "-3").getOffset());
+
+        // 未登记的选择器不会回退到最后注册的偏移量转换器
+        Instant fallback = Instant.EPOCH;
+        assertSame(fallback, typeConverterManager.converts(localDateTime, Instant.class, fallback, "+05:30"));
+        assertSame(fallback, typeConverterManager.converts(localDateTime, Instant.class, fallback, "UTC"));
+        assertSame(fallback, typeConverterManager.freeze().converts(localDateTime, Instant.class, fallback, "UTC"));
+        assertEquals(Long.valueOf(-1L), typeConverterManager.converts(localDateTime, Long.class, -1L, ZoneOffset.ofHoursMinutes(5, 30)));
+
+        // 没有按选择器登记转换器的类型组合忽略无关的选择器
+        assertEquals(Integer.valueOf(5), typeConverterManager.converts("5", Integer.class, null, "foo"));
+        assertEquals(Integer.valueOf(5), typeConverterManager.freeze().converts("5", Integer.class, null, "foo"));
+        assertEquals(Integer.valueOf(5), typeConverterManager.handle(String.class, Integer.class, "foo").convert("5"));
+    }
+
+    /**
+     * 测试冻结后的只读管理器与原实例的转换结果一致
+     */
+    @Test
+    public void testFrozenManager() {
+        TypeConverterManager frozen = typeConverterManager.freeze();
+        assertTrue(frozen.isFrozen());
+        assertFalse(typeConverterManager.isFrozen());
+        assertSame(frozen, frozen.freeze());
+
+        // 特定转换器、通用转换器以及选择器
+        assertEquals(Integer.valueOf(123), frozen.converts("123", Integer.class, null));
+        assertEquals(Integer.valueOf(123), frozen.converts(new StringBuilder("123"), Integer.class, null));
+        assertEquals(Long.valueOf(1L), frozen.converts(true, Long.class, null));
+        assertEquals("ABC", frozen.converts("abc", String.class, null, "upper"));
+        assertEquals(Instant.parse("2023-01-01T04:00:00Z"), frozen.converts(LocalDateTime.of(2023, 1, 1, 12, 0), Instant.class, null, "+8"));
+        assertNull(frozen.converts(new Object(), Integer.class, null));
+        assertEquals(Long.valueOf(42L), frozen.handle(Integer.class, Long.class).convert(42));
+
+        // 冻结实例不可注册，可基于其创建新的可变实例
+        try {
+            frozen.register(NumberToStringTypeConverter.INSTANCE);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // expected
+        }
+        TypeConverterManager copy = TypeConverterManager.of(frozen);
+        assertFalse(copy.isFrozen());
+        assertEquals(Integer.valueOf(123), copy.converts("123", Integer.class, null));
+    }
+
+    /**
+     * 测试沿父类和接口查找转换器，距离最近的转换器优先
+     */
+    @Test
+    public void testHierarchyAwareResolution() {
+        TypeConverterManager manager = TypeConverterManager.of();
+        manager.register(ObjectToStringTypeConverter.DEFAULT);
+        manager.register(new TypeConverter<Number, String>(Number.class, String.class) {
+            @Override
+            public String convertsUnchecked(Number source) {
+                return "number:" + source;
+            }
+        });
+        // 父类Number上的特定转换器比Object上的通用转换器更近
+        assertEquals("number:5", manager.converts(5, String.class, null));
+        assertEquals("number:1.5", manager.converts(new BigDecimal("1.5"), String.class, null));
+        assertEquals("abc", manager.converts("abc", String.class, null));
+        // 接口上声明的通用转换器同样适用于实现类
+        assertEquals(Integer.valueOf(123), typeConverterManager.converts(new StringBuilder("123"), Integer.class, null));
+
+        // 冻结实例的已编号源类型和未编号源类型得到相同的结果
+        TypeConverterManager frozen = manager.freeze();
+        assertEquals("number:7", frozen.converts(7, String.class, null));
+        assertEquals("number:3", frozen.converts(new AtomicInteger(3), String.class, null));
+        assertEquals("[]", frozen.converts(new ArrayList<>(), String.class, null));
+    }
+
+    /**
+     * 测试通用转换器按值拒绝源对象时继续尝试下一个候选转换器
+     */
+    @Test
+    public void testValueDependentGenericConverter() throws IOException {
+        TypeConverterManager manager = TypeConverterManager.of();
+        manager.register(new TypeConverter<CharSequence, String>(String.class) {
+            @Override
+            public boolean isSupportsSource(Object source) {
+                return source instanceof CharSequence && ((CharSequence) source).length() > 3;
+            }
+
+            @Override
+            public String convertsUnchecked(CharSequence source) {
+                return "long:" + source;
+            }
+        });
+        manager.register(ObjectToStringTypeConverter.DEFAULT);
+        assertEquals("long:abcd", manager.converts(new StringBuilder("abcd"), String.class, null));
+        // 同一类型的值被第一个转换器拒绝时，由后面的转换器处理，不受缓存的影响
+        assertEquals("ab", manager.converts(new StringBuilder("ab"), String.class, null));
+        assertEquals("long:abcde", manager.converts(new StringBuilder("abcde"), String.class, null));
+        assertEquals("ab", manager.freeze().converts(new StringBuilder("ab"), String.class, null));
+        StringBuilder destination = new StringBuilder();
+        assertTrue(manager.convertsTo(new StringBuilder("xy"), destination));
+        assertEquals("xy", destination.toString());
+
+        // 句柄绑定该转换器时，拒绝的源对象转换为默认值
+        ConversionHandle<StringBuilder, String> handle = manager.handle(StringBuilder.class, String.class);
+        assertEquals("long:abcd", handle.convert(new StringBuilder("abcd")));
+        assertEquals("default", handle.convert(new StringBuilder("ab"), "default"));
+        ConversionResult<String> result = new ConversionResult<>();
+        assertFalse(handle.tryConvert(new StringBuilder("ab"), result));
+        assertTrue(handle.tryConvert(new StringBuilder("abcd"), result));
+        assertEquals("long:abcd", result.get());
+    }
+
+    /**
+     * 测试没有直接转换器时经由无损转换器和中间类型组合转换
+     */
+    @Test
+    public void testMultiHopConversion() {
+        TypeConverterManager manager = TypeConverterManager.of(typeConverterManager).setPathPlanning(true);
+        assertTrue(manager.isPathPlanning());
+        // Boolean -> Integer -> BigDecimal
+        assertEquals(BigDecimal.ONE, manager.converts(true, BigDecimal.class, null));
+        // Date -> Long -> BigInteger
+        assertEquals(BigInteger.valueOf(1000L), manager.converts(new Date(1000L), BigInteger.class, null));
+        // 字符序列 -> Instant -> OffsetDateTime，偏移量由选择器指定
+        OffsetDateTime offsetDateTime = manager.converts(new StringBuilder("2023-01-01T00:00:00Z"), OffsetDateTime.class, null, "+8");
+        assertEquals(OffsetDateTime.of(2023, 1, 1, 8, 0, 0, 0, ZoneOffset.ofHours(8)), offsetDateTime);
+
+        // 组合后的转换器被缓存并可用于转换句柄
+        ConversionHandle<Date, BigDecimal> handle = manager.handle(Date.class, BigDecimal.class);
+        assertTrue(handle.getTypeConverter() instanceof ChainedTypeConverter);
+        assertEquals(BigDecimal.valueOf(5L), handle.convert(new Date(5L)));
+        assertSame(handle.getTypeConverter(), manager.handle(Date.class, BigDecimal.class).getTypeConverter());
+
+        // 冻结实例继承该设置，同样支持组合转换
+        TypeConverterManager frozen = manager.freeze();
+        assertTrue(frozen.isPathPlanning());
+        assertEquals(BigInteger.valueOf(1000L), frozen.converts(new Date(1000L), BigInteger.class, null));
+        assertEquals(offsetDateTime, frozen.converts("2023-01-01T00:00:00Z", OffsetDateTime.class, null, "+8"));
+
+        // 默认不规划组合路径
+        assertFalse(typeConverterManager.isPathPlanning());
+        assertNull(typeConverterManager.converts(new Date(1000L), BigInteger.class, null));
+        // 关闭后丢弃已缓存的组合转换器
+        manager.setPathPlanning(false);
+        assertNull(manager.converts(new Date(1000L), BigInteger.class, null));
+    }
+
+    /**
+     * 测试用户注册的无损转换器参与组合，中间类型可以由调用方添加
+     */
+    @Test
+    public void testMultiHopConversionWithUserTypes() {
+        TypeConverterManager manager = TypeConverterManager.of(typeConverterManager).setPathPlanning(true);
+        manager.register(new CentsToLongTypeConverter()).register(new LongToCentsTypeConverter());
+        // Integer -> Long -> Cents，Cents作为路径的目标类型不需要添加为中间类型
+        assertEquals(new Cents(42L), manager.converts(42, Cents.class, null));
+        // Cents -> Long -> BigDecimal
+        assertEquals(BigDecimal.valueOf(42L), manager.converts(new Cents(42L), BigDecimal.class, null));
+
+        manager.register(new DollarsToCentsTypeConverter());
+        // Dollars -> Cents -> Long 需要允许经过Cents
+        assertNull(manager.converts(new Dollars(2L), Long.class, null));
+        assertFalse(manager.getPathTypes().contains(Cents.class));
+        manager.addPathType(Cents.class);
+        assertTrue(manager.getPathTypes().contains(Cents.class));
+        assertEquals(Long.valueOf(200L), manager.converts(new Dollars(2L), Long.class, null));
+        try {
+            manager.freeze().addPathType(Cents.class);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 测试组合转换不会经由改变值含义的转换器或作为回退的带选择器转换器
+     */
+    @Test
+    public void testMultiHopConversionRejectsLossyPaths() {
+        TypeConverterManager manager = TypeConverterManager.of(typeConverterManager).setPathPlanning(true);
+        Locale defaultLocale = Locale.CHINA;
+        // 不经由格式化为字符串的转换器
+        assertSame(defaultLocale, manager.converts(new Date(1000L), Locale.class, defaultLocale));
+        assertSame(defaultLocale, manager.converts(42, Locale.class, defaultLocale));
+        assertSame(defaultLocale, manager.converts(true, Locale.class, defaultLocale));
+        // 不经由按值判断真假或取字符编码的转换器
+        assertEquals(Boolean.FALSE, manager.converts(Instant.ofEpochMilli(1000L), Boolean.class, Boolean.FALSE));
+        assertEquals(Character.valueOf('x'), manager.converts(new Date(5L), Character.class, 'x'));
+        assertNull(manager.converts('中', BigDecimal.class, null));
+        // 不经由截断小数部分或丢弃纳秒的转换器
+        assertNull(manager.converts(Instant.ofEpochMilli(1000L), BigDecimal.class, null));
+        // 不经由只是作为回退的时区偏移量转换器
+        assertNull(manager.converts(LocalDateTime.of(2023, 1, 1, 0, 0), BigDecimal.class, null));
+        assertNull(manager.converts(OffsetDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), BigInteger.class, null));
+        assertNull(manager.converts("2023-01-01T00:00:00Z", OffsetDateTime.class, null));
+        // 兜底转换器不参与组合
+        assertNull(manager.converts(new Object(), Integer.class, null));
+    }
+
+    /**
+     * 测试不经过装箱的基本类型转换
+     */
+    @Test
+    public void testPrimitiveConversions() {
+        assertEquals(42, typeConverterManager.toInt(42L, -1));
+        assertEquals(42, typeConverterManager.toInt("42", -1));
+        assertEquals(42, typeConverterManager.toInt(new StringBuilder("  42"), -1));
+        assertEquals(65, typeConverterManager.toInt('A', -1));
+        assertEquals(1, typeConverterManager.toInt(true, -1));
+        assertEquals(1_700_000_000_000L, typeConverterManager.toLong(new Date(1_700_000_000_000L), -1L));
+        assertEquals(1_700_000_000_000L, typeConverterManager.toLong(Instant.ofEpochMilli(1_700_000_000_000L), -1L));
+        assertEquals(1.5, typeConverterManager.toDouble("1.5", -1), 0.0);
+        assertEquals(2.0, typeConverterManager.toDouble(2, -1), 0.0);
+        assertTrue(typeConverterManager.toBoolean(1, false));
+        assertTrue(typeConverterManager.toBoolean("true", false));
+        assertFalse(typeConverterManager.toBoolean(' ', true));
+
+        // 失败、空值和找不到转换器时返回默认值
+        assertEquals(-1, typeConverterManager.toInt("invalid", -1));
+        assertEquals(-1, typeConverterManager.toInt(Long.MAX_VALUE, -1));
+        assertEquals(-1, typeConverterManager.toInt(null, -1));
+        assertEquals(-1, typeConverterManager.toInt(new StringBuilder("   "), -1));
+        assertEquals(-1, typeConverterManager.toInt(new Object(), -1));
+        // 没有实现基本类型接口的转换器按包装类型转换后拆箱
+        assertEquals(1L, typeConverterManager.toLong(LocalDateTime.of(1970, 1, 1, 8, 0, 0, 1_000_000), -1L, "+8"));
+
+        // 基本类型的Class对象按包装类型解析
+        assertEquals(Integer.valueOf(12), typeConverterManager.converts("12", int.class, null));
+        assertEquals(Long.valueOf(12L), typeConverterManager.handle(String.class, long.class).convert("12"));
+        assertEquals(Long.valueOf(12L), typeConverterManager.handle(int.class, long.class).convert(12));
+    }
+
+    /**
+     * 测试字符序列按修剪范围直接解析整数
+     */
+    @Test
+    public void testCharSequenceRangeParsing() {
+        assertEquals(Integer.valueOf(-42), typeConverterManager.converts(new StringBuilder(" \t-42 \n"), Integer.class, null));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), typeConverterManager.converts(new StringBuilder("-9223372036854775808 "), Long.class, null));
+        assertEquals(Short.valueOf((short) 123), typeConverterManager.converts(CharBuffer.wrap(" +123 "), Short.class, null));
+        assertEquals(Byte.valueOf((byte) -128), typeConverterManager.converts(new StringBuilder("-128"), Byte.class, null));
+        assertNull(typeConverterManager.converts(new StringBuilder("128"), Byte.class, null));
+        assertNull(typeConverterManager.converts(new StringBuilder("2147483648"), Integer.class, null));
+        assertNull(typeConverterManager.converts(new StringBuilder("1 2"), Integer.class, null));
+        assertNull(typeConverterManager.converts(new StringBuilder("-"), Integer.class, null));
+        assertNull(typeConverterManager.converts(new StringBuilder("  "), Integer.class, null));
+    }
+
+    /**
+     * 测试字符序列到基本类型的转换不分配任何对象
+     */
+    @Test
+    public void testCharSequenceToPrimitiveAllocationFree() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+        StringBuilder intValue = new StringBuilder("  12345  ");
+        CharBuffer longValue = CharBuffer.wrap("\t-9876543210\n");
+        int iterations = 100_000;
+        long sum = 0;
+        // 预热，使解析结果进入缓存并完成编译
+        for (int i = 0; i < iterations; i++) {
+            sum += typeConverterManager.toInt(intValue, 0) + typeConverterManager.toLong(longValue, 0L);
+        }
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            sum += typeConverterManager.toInt(intValue, 0) + typeConverterManager.toLong(longValue, 0L);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        assertEquals(2L * iterations * (12345L - 9876543210L), sum);
+        // 允许测量本身的少量分配，但远小于每次调用一个对象
+        assertTrue("Allocated " + allocated + " bytes", allocated < iterations);
+    }
+
+    /**
+     * 测试直接追加到Appendable的结果与转换为字符串一致
+     */
+    @Test
+    public void testAppendableConversions() throws IOException {
+        Object[] sources = {
+                42, -7L, Long.MIN_VALUE, (short) 3, (byte) -1, 0.1, -0.0, 1.0E23, 1e-5, 123.5f, Double.MIN_VALUE,
+                new BigDecimal("1E+3"), new BigInteger("123456789012345678901234567890"), new AtomicInteger(5),
+                Locale.CHINA, Locale.ENGLISH, "text", new StringBuilder("builder"), Boolean.TRUE
+        };
+        for (Object source : sources) {
+            String expected = typeConverterManager.converts(source, String.class, null);
+            StringBuilder builder = new StringBuilder("|");
+            assertTrue(typeConverterManager.convertsTo(source, builder));
+            assertEquals("|" + expected, builder.toString());
+            java.io.StringWriter writer = new java.io.StringWriter();
+            assertTrue(typeConverterManager.convertsTo(source, writer));
+            assertEquals(expected, writer.toString());
+            // 既不是StringBuilder也不是Writer的目标
+            StringBuffer buffer = new StringBuffer();
+            assertTrue(typeConverterManager.convertsTo(source, buffer));
+            assertEquals(expected, buffer.toString());
+        }
+        StringBuilder builder = new StringBuilder();
+        assertTrue(typeConverterManager.convertsTo("MiXed", builder, "upper"));
+        assertTrue(typeConverterManager.convertsTo("MiXed", builder, "lower"));
+        assertEquals("MIXEDmixed", builder.toString());
+        // 源对象为null或转换失败时不写入任何内容
+        builder.setLength(0);
+        assertFalse(typeConverterManager.convertsTo(null, builder));
+        assertFalse(typeConverterManager.convertsTo(Double.NaN, builder));
+        assertEquals("", builder.toString());
+    }
+
+    /**
+     * 测试直接从字节数组片段和ByteBuffer解析数值、布尔值和时间
+     */
+    @Test
+    public void testByteSources() {
+        byte[] bytes = "xx -123 |9876543210|2.5e3|12.50|TRUE|2024-05-01T12:30:45.5Z|2024-05-01T12:30".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Integer.valueOf(-123), typeConverterManager.converts(AsciiCharSequence.of(bytes, 2, 6), Integer.class, null));
+        assertEquals(Long.valueOf(9876543210L), typeConverterManager.converts(AsciiCharSequence.of(bytes, 9, 10), Long.class, null));
+        assertEquals(Double.valueOf(2500), typeConverterManager.converts(AsciiCharSequence.of(bytes, 20, 5), Double.class, null));
+        assertEquals(new BigDecimal("12.50"), typeConverterManager.converts(AsciiCharSequence.of(bytes, 26, 5), BigDecimal.class, null));
+        assertEquals(Boolean.TRUE, typeConverterManager.converts(AsciiCharSequence.of(bytes, 32, 4), Boolean.class, null));
+        assertEquals(Instant.parse("2024-05-01T12:30:45.5Z"), typeConverterManager.converts(AsciiCharSequence.of(bytes, 37, 22), Instant.class, null));
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30), typeConverterManager.converts(AsciiCharSequence.of(bytes, 60, 16), LocalDateTime.class, null));
+        assertEquals(-123, typeConverterManager.toInt(AsciiCharSequence.of(bytes, 2, 6), 0));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), direct, ByteBuffer.allocate(64).asReadOnlyBuffer()}) {
+            if (buffer.isReadOnly()) {
+                buffer = ByteBuffer.wrap("  42 ".getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+            } else {
+                buffer.put("  42 ".getBytes(StandardCharsets.US_ASCII)).flip();
+            }
+            assertEquals(Integer.valueOf(42), typeConverterManager.converts(buffer, Integer.class, null));
+            assertEquals(Long.valueOf(42), typeConverterManager.converts(buffer, Long.class, null));
+            assertEquals(Double.valueOf(42), typeConverterManager.converts(buffer, Double.class, null));
+            assertEquals(new BigDecimal("42"), typeConverterManager.converts(buffer, BigDecimal.class, null));
+            assertEquals(42, typeConverterManager.toInt(buffer, 0));
+            assertEquals(42L, typeConverterManager.toLong(buffer, 0L));
+            assertEquals(42.0, typeConverterManager.toDouble(buffer, 0.0), 0.0);
+            assertFalse(typeConverterManager.toBoolean(buffer, true));
+            // 转换不改变缓冲区的position
+            assertEquals(0, buffer.position());
+        }
+        // 只读取position到limit之间的字节
+        ByteBuffer window = ByteBuffer.wrap("2024-01-31T23:59:59Z,1".getBytes(StandardCharsets.US_ASCII));
+        window.limit(20);
+        assertEquals(Instant.parse("2024-01-31T23:59:59Z"), typeConverterManager.converts(window, Instant.class, null));
+        assertEquals(LocalDateTime.of(2024, 1, 31, 23, 59, 59), typeConverterManager.converts(window.duplicate().limit(19), LocalDateTime.class, null));
+        window.limit(22).position(21);
+        assertEquals(1, typeConverterManager.toInt(window, 0));
+        // 非ASCII字节不会被识别为数字
+        assertEquals(-1, typeConverterManager.toInt(AsciiCharSequence.of("４２".getBytes(StandardCharsets.UTF_8)), -1));
+    }
+
+    /**
+     * 测试插件重新部署后其类加载器可以被回收
+     * 模拟应用服务器重新部署：插件的转换器由独立的类加载器加载并注册到长期存在的管理器上，
+     * 插件类型同时作为源类型和目标类型参与解析，卸载时注销该类加载器的全部转换器后丢弃其余引用
+     */
+    @Test
+    public void testPluginClassLoaderReleasedAfterRedeploy() throws Exception {
+        TypeConverterManager manager = TypeConverterManager.of(typeConverterManager);
+        WeakReference<ClassLoader> loaderReference = convertWithPluginClassLoader(manager);
+        for (int i = 0; i < 100 && loaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("The plugin class loader should be collectable", loaderReference.get());
+        // 注销插件后管理器的其余转换器不受影响
+        assertEquals("1", manager.converts(1, String.class, null));
+    }
+
+    /**
+     * 使用独立的类加载器加载插件的类型和转换器，注册到管理器并执行转换，最后注销插件的转换器
+     *
+     * @param manager 长期存在的管理器
+     * @return 插件类加载器的弱引用
+     */
+    private WeakReference<ClassLoader> convertWithPluginClassLoader(TypeConverterManager manager) throws Exception {
+        PluginClassLoader loader = new PluginClassLoader(PluginValue.class.getName(), PluginValueToStringConverter.class.getName(), StringToPluginValueConverter.class.getName());
+        Class<?> pluginType = loader.loadClass(PluginValue.class.getName());
+        assertNotSame(PluginValue.class, pluginType);
+        Object pluginValue = pluginType.getConstructor().newInstance();
+        // 插件的通用转换器登记在String目标类型上，特定转换器登记在String源类型上
+        manager.register((TypeConverter<?, ?>) loader.loadClass(PluginValueToStringConverter.class.getName()).getConstructor().newInstance());
+        manager.register((TypeConverter<?, ?>) loader.loadClass(StringToPluginValueConverter.class.getName()).getConstructor().newInstance());
+        assertEquals("converted:plugin", manager.converts(pluginValue, String.class, null));
+        assertEquals("PLUGIN", manager.converts(pluginValue, String.class, null, "upper"));
+        assertSame(pluginType, manager.converts("plugin", pluginType, null).getClass());
+        assertEquals("plugin", typeConverterManager.converts(pluginValue, String.class, null));
+
+        manager.unregister(loader);
+        assertEquals("plugin", manager.converts(pluginValue, String.class, null));
+        assertNull(manager.converts("plugin", pluginType, null));
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * 测试注销转换器后解析结果随之更新
+     */
+    @Test
+    public void testUnregister() {
+        TypeConverterManager manager = TypeConverterManager.of(typeConverterManager);
+        assertEquals("ABC", manager.converts("abc", String.class, null, "upper"));
+        manager.unregister(ObjectToStringTypeConverter.UPPER_CASE);
+        assertNull(manager.converts("abc", String.class, null, "upper"));
+        assertEquals("abc", manager.converts("abc", String.class, null, "lower"));
+        assertEquals("ABC", typeConverterManager.converts("abc", String.class, null, "upper"));
+
+        try {
+            manager.freeze().unregister(ObjectToStringTypeConverter.DEFAULT);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 插件类型，由{@link PluginClassLoader}重新定义
+     */
+    public static final class Cents {
+        private final long value;
+
+        public Cents(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Cents && ((Cents) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+    }
+
+    public static final class Dollars {
+        private final long value;
+
+        public Dollars(long value) {
+            this.value = value;
+        }
+    }
+
+    public static class CentsToLongTypeConverter extends TypeConverter<Cents, Long> implements LosslessTypeConverter {
+        public CentsToLongTypeConverter() {
+            super(Cents.class, Long.class);
+        }
+
+        @Override
+        public Long convertsUnchecked(Cents source) {
+            return source.value;
+        }
+    }
+
+    public static class LongToCentsTypeConverter extends TypeConverter<Long, Cents> implements LosslessTypeConverter {
+        public LongToCentsTypeConverter() {
+            super(Long.class, Cents.class);
+        }
+
+        @Override
+        public Cents convertsUnchecked(Long source) {
+            return new Cents(source);
+        }
+    }
+
+    public static class DollarsToCentsTypeConverter extends TypeConverter<Dollars, Cents> implements LosslessTypeConverter {
+        public DollarsToCentsTypeConverter() {
+            super(Dollars.class, Cents.class);
+        }
+
+        @Override
+        public Cents convertsUnchecked(Dollars source) {
+            return new Cents(Math.multiplyExact(source.value, 100L));
+        }
+    }
+
+    public static class PluginValue {
+        @Override
+        public String toString() {
+            return "plugin";
+        }
+    }
+
+    /**
+     * 插件的通用转换器，目标类型为String
+     */
+    public static class PluginValueToStringConverter extends TypeConverter<PluginValue, String> {
+        public PluginValueToStringConverter() {
+            super(String.class);
+        }
+
+        @Override
+        public String convertsUnchecked(PluginValue source) {
+            return "converted:" + source;
+        }
+    }
+
+    /**
+     * 插件的特定转换器，源类型为String
+     */
+    public static class StringToPluginValueConverter extends TypeConverter<String, PluginValue> {
+        public StringToPluginValueConverter() {
+            super(String.class, PluginValue.class);
+        }
+
+        @Override
+        public PluginValue convertsUnchecked(String source) {
+            return new PluginValue();
+        }
+    }
+
+    /**
+     * 模拟插件的类加载器，自行定义指定的类而不委托给父加载器
+     */
+    private static final class PluginClassLoader extends ClassLoader {
+        private final List<String> pluginClassNames;
+
+        private PluginClassLoader(String... pluginClassNames) {
+            super(TypeConverterManagerTest.class.getClassLoader());
+            this.pluginClassNames = Arrays.asList(pluginClassNames);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!pluginClassNames.contains(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[4096];
+                    for (int n; (n = in.read(buffer)) > 0; ) {
+                        out.write(buffer, 0, n);
+                    }
+                    byte[] bytes = out.toByteArray();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
 }
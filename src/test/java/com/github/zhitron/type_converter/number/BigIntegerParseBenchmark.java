@@ -0,0 +1,67 @@
+package com.github.zhitron.type_converter.number;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * 比较{@link StringToBigIntegerTypeConverter}与{@code new BigInteger(String)}解析1千到1百万位整数的耗时
+ * <p>
+ * 不属于单元测试，直接运行main方法，例如：
+ * {@code mvn test-compile && java -cp target/classes:target/test-classes com.github.zhitron.type_converter.number.BigIntegerParseBenchmark}
+ * </p>
+ *
+ * @author zhitron
+ */
+public class BigIntegerParseBenchmark {
+    private static final int[] DIGITS = {1_000, 2_000, 5_000, 10_000, 100_000, 1_000_000};
+    /**
+     * 保存各轮的校验和，避免循环被即时编译器消除
+     */
+    private static volatile long sink;
+
+    public static void main(String[] args) throws Throwable {
+        Random random = new Random(42);
+        for (int digits : DIGITS) {
+            StringBuilder builder = new StringBuilder(digits);
+            builder.append((char) ('1' + random.nextInt(9)));
+            while (builder.length() < digits) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            String text = builder.toString();
+            if (!new BigInteger(text).equals(StringToBigIntegerTypeConverter.INSTANCE.convertsUnchecked(text))) {
+                throw new AssertionError("Output differs for " + digits + " digits");
+            }
+            // 每次测量至少运行约0.2秒的总位数，耗时取各轮中的最小值
+            int iterations = Math.max(1, 2_000_000 / digits);
+            int rounds = digits >= 1_000_000 ? 2 : 10;
+            long constructor = Long.MAX_VALUE, converter = Long.MAX_VALUE;
+            for (int round = 0; round < rounds; round++) {
+                long start = System.nanoTime();
+                sink += runConstructor(text, iterations);
+                constructor = Math.min(constructor, System.nanoTime() - start);
+                start = System.nanoTime();
+                sink += runConverter(text, iterations);
+                converter = Math.min(converter, System.nanoTime() - start);
+            }
+            System.out.printf("%,9d digits  new BigInteger %10.3f ms  converter %10.3f ms%n",
+                    digits, constructor / 1e6 / iterations, converter / 1e6 / iterations);
+        }
+        System.out.println("Checksum: " + sink);
+    }
+
+    private static long runConstructor(String text, int iterations) {
+        long checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            checksum += new BigInteger(text).bitLength();
+        }
+        return checksum;
+    }
+
+    private static long runConverter(String text, int iterations) throws Throwable {
+        long checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            checksum += StringToBigIntegerTypeConverter.INSTANCE.convertsUnchecked(text).bitLength();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.zhitron.type_converter.number;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试{@link BigIntegerRangeParser}的分治解析结果与BigInteger和BigDecimal的字符串构造函数一致
+ *
+ * @author zhitron
+ */
+public class BigIntegerRangeParserTest {
+
+    /**
+     * 测试不同位数的整数，包括分块边界附近的位数和前导零
+     */
+    @Test
+    public void testSameAsBigInteger() throws Throwable {
+        Random random = new Random(20241020L);
+        int[] lengths = {1, 18, 287, 288, 289, 1999, 2000, 2001, 2304, 4607, 4608, 4609, 12_345, 50_000};
+        for (int length : lengths) {
+            for (int round = 0; round < 4; round++) {
+                String digits = randomDigits(random, length, round == 1);
+                String text = (round == 2 ? "-" : round == 3 ? "+" : "") + digits;
+                assertEquals(text, new BigInteger(text), BigIntegerRangeParser.parse(text, 0, text.length()));
+                assertEquals(text, new BigInteger(text), BigIntegerRangeParser.tryParse(text, 0, text.length()));
+            }
+        }
+        String digits = randomDigits(random, 10_000, false);
+        String text = " [" + digits + "] ";
+        assertEquals(new BigInteger(digits), BigIntegerRangeParser.parse(new StringBuilder(text), 2, text.length() - 2));
+        assertEquals(new BigInteger(digits), StringToBigIntegerTypeConverter.INSTANCE.convertsUncheckedRange(text, 2, text.length() - 2));
+    }
+
+    /**
+     * 测试格式错误的长输入与构造函数抛出相同的异常
+     */
+    @Test
+    public void testInvalidInputs() {
+        String digits = randomDigits(new Random(1), 5_000, false);
+        String[] inputs = {digits + "x", "-+" + digits, digits.substring(0, 2500) + "-" + digits.substring(2500), "-", ""};
+        for (String input : inputs) {
+            assertNull(BigIntegerRangeParser.tryParse(input, 0, input.length()));
+            String expected = null;
+            try {
+                new BigInteger(input);
+            } catch (NumberFormatException e) {
+                expected = e.getMessage();
+            }
+            try {
+                BigIntegerRangeParser.parse(input, 0, input.length());
+                fail("Expected NumberFormatException");
+            } catch (NumberFormatException e) {
+                assertEquals(expected, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 测试位数很多的BigDecimal的数值和精度与构造函数一致
+     */
+    @Test
+    public void testLargeDecimals() {
+        Random random = new Random(20241021L);
+        String integer = randomDigits(random, 6_000, true);
+        String fraction = randomDigits(random, 3_000, false);
+        String[] inputs = {
+                integer + "." + fraction, "-" + integer + "." + fraction, "." + fraction, integer + ".",
+                integer + "." + fraction + "e-12", "+" + integer + "E+77", fraction + "e" + 999_999_999L
+        };
+        for (String input : inputs) {
+            BigDecimal expected = new BigDecimal(input);
+            BigDecimal actual = DecimalRangeParser.parse(input, 0, input.length());
+            assertEquals(input.substring(0, 10), expected, actual);
+            assertEquals(expected.scale(), actual.scale());
+        }
+    }
+
+    private static String randomDigits(Random random, int length, boolean leadingZeros) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('0' + (leadingZeros && i < length / 3 ? 0 : random.nextInt(10))));
+        }
+        return builder.toString();
+    }
+}
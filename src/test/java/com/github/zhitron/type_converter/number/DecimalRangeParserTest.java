@@ -0,0 +1,100 @@
+package com.github.zhitron.type_converter.number;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试{@link DecimalRangeParser}的结果与{@link BigDecimal#BigDecimal(String)}完全一致，包括精度和异常
+ *
+ * @author zhitron
+ */
+public class DecimalRangeParserTest {
+
+    /**
+     * 测试边界和特殊形式的输入
+     */
+    @Test
+    public void testEdgeCases() {
+        String[] inputs = {
+                "0", "-0", "+0", "0.00", "-0.0", "1.", ".5", "-.5", "1234.5600", "1e5", "1E+5", "1.5e-3", "-1.5E-0",
+                "9223372036854775807", "-9223372036854775808", "9223372036854775808", "0.9223372036854775807",
+                "922337203685477580.8", "-92233720368547758.08", "12345678901234567890.123", "0000000000000000000000001.5",
+                "1e99999999", "1e2147483647", "1e-2147483648", "0.1e-2147483647", "1e12345678901",
+                "٣.٥", "1.5e٣", "", "+", "-", ".", "e5", "1e", "1e+", "1.2.3", "1,234", "1 2", "--1", "1e5.0", "0x10", "NaN", "1e00000000000005", "1e12345678901", "1e-٣"
+        };
+        for (String input : inputs) {
+            assertSame(input);
+        }
+    }
+
+    /**
+     * 测试随机生成的数值和随机字符组成的输入
+     */
+    @Test
+    public void testRandomInputs() {
+        Random random = new Random(20241019L);
+        String alphabet = "0123456789000.eE+-x";
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            if ((i & 1) == 0) {
+                for (int length = 1 + random.nextInt(10); length > 0; length--) {
+                    builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            } else {
+                if (random.nextInt(3) == 0) {
+                    builder.append(random.nextBoolean() ? '-' : '+');
+                }
+                for (int digits = random.nextInt(21); digits > 0; digits--) {
+                    builder.append((char) ('0' + random.nextInt(10)));
+                }
+                if (random.nextBoolean()) {
+                    builder.append('.');
+                    for (int digits = random.nextInt(21); digits > 0; digits--) {
+                        builder.append((char) ('0' + random.nextInt(10)));
+                    }
+                }
+                if (random.nextInt(4) == 0) {
+                    builder.append('e').append(random.nextBoolean() ? "-" : "").append(random.nextInt(1000));
+                }
+            }
+            assertSame(builder.toString());
+        }
+    }
+
+    /**
+     * 测试只解析指定的范围
+     */
+    @Test
+    public void testRange() {
+        String text = "[-1234.50]";
+        assertEquals(new BigDecimal("-1234.50"), DecimalRangeParser.parse(text, 1, 9));
+        assertEquals(new BigDecimal("34.5"), DecimalRangeParser.parse(new StringBuilder(text), 4, 8));
+    }
+
+    private static void assertSame(String input) {
+        BigDecimal expected;
+        try {
+            expected = new BigDecimal(input);
+        } catch (NumberFormatException e) {
+            assertFalse(input, DecimalRangeParser.isValid(input, 0, input.length()));
+            assertNull(input, DecimalRangeParser.tryParse(input, 0, input.length()));
+            try {
+                DecimalRangeParser.parse(input, 0, input.length());
+                fail("Expected NumberFormatException for " + input);
+            } catch (NumberFormatException expectedException) {
+                // expected
+            }
+            return;
+        }
+        assertTrue(input, DecimalRangeParser.isValid(input, 0, input.length()));
+        BigDecimal actual = DecimalRangeParser.parse(input, 0, input.length());
+        assertEquals(input, expected, actual);
+        assertEquals(input, expected.scale(), actual.scale());
+        assertEquals(input, actual, DecimalRangeParser.tryParse(input, 0, input.length()));
+        assertEquals(input, expected.scale(), DecimalRangeParser.tryParse(input, 0, input.length()).scale());
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.zhitron.type_converter.number;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * 与{@link Double#parseDouble(String)}和{@link Float#parseFloat(String)}逐位比较{@link FloatingPointParser}的解析结果
+ *
+ * @author zhitron
+ */
+public class FloatingPointParserTest {
+
+    /**
+     * 测试边界值和特殊形式
+     */
+    @Test
+    public void testEdgeCases() {
+        String[] inputs = {
+                "0", "-0", "+0", "0.0", "-0.0", "0e0", "0e-999999", "-0e999999", "00000.00000",
+                "1", "-1", "+1", "1.", ".5", "-.5", "1.e5", "1E5", "1e+5", "1e-5", "0.1", "0.2", "0.3",
+                "9007199254740991", "9007199254740992", "9007199254740993", "9007199254740995",
+                "1e22", "1e23", "1e-22", "1e-23", "123456789012345678", "1234567890123456789", "12345678901234567890",
+                "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1e309", "-1e309",
+                "2.2250738585072014e-308", "2.2250738585072011e-308", "2.225073858507201e-308",
+                "4.9e-324", "4.9406564584124654e-324", "2.4703282292062327e-324", "2.4703282292062328e-324",
+                "1e-324", "1e-400", "1e-342", "1e-343",
+                "3.4028235e38", "3.4028236e38", "3.4028234663852886e38", "1.4e-45", "7.0e-46", "1.17549435e-38",
+                "1.00000000000000011102230246251565404236316680908203125",
+                "1.00000000000000011102230246251565404236316680908203124",
+                "1.00000000000000011102230246251565404236316680908203126",
+                "100000000000000000000000000000000000000000000000000000000",
+                "1000000000000000000000.0000000000000000000000000",
+                "0.000000000000000000000000000000000000000000001",
+                "  12.5  ", "\t-3.25\n", "NaN", "-Infinity", "+Infinity", "0x1p3", "0x1.8p1", "1d", "2.5f", "3.5D"
+        };
+        for (String input : inputs) {
+            assertSameDouble(input);
+            assertSameFloat(input);
+        }
+    }
+
+    /**
+     * 测试格式错误的输入与JDK一样抛出异常
+     */
+    @Test
+    public void testInvalidInputs() {
+        String[] inputs = {"", " ", "-", "+", ".", "e5", ".e5", "1e", "1e+", "1e-", "1..2", "1.2.3", "--1", "+-1", "1 2", "1,5", "abc", "1e5.0", "٣"};
+        for (String input : inputs) {
+            try {
+                FloatingPointParser.parseDouble(input, 0, input.length());
+                fail("Expected NumberFormatException for '" + input + "'");
+            } catch (NumberFormatException expected) {
+                // expected
+            }
+            try {
+                FloatingPointParser.parseFloat(input, 0, input.length());
+                fail("Expected NumberFormatException for '" + input + "'");
+            } catch (NumberFormatException expected) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * 随机生成各种形式的十进制字符串进行比较
+     */
+    @Test
+    public void testRandomInputs() {
+        Random random = new Random(20240917L);
+        for (int i = 0; i < 50_000; i++) {
+            // 随机位模式的double及其各种字符串表示
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            assertSameDouble(Double.toString(value));
+            assertSameDouble(new BigDecimal(value).toString());
+            assertSameDouble(new BigDecimal(value).round(new java.math.MathContext(1 + random.nextInt(25))).toString());
+            float floatValue = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(floatValue) && !Float.isInfinite(floatValue)) {
+                assertSameFloat(Float.toString(floatValue));
+                assertSameFloat(new BigDecimal(floatValue).round(new java.math.MathContext(1 + random.nextInt(12))).toString());
+            }
+            // 随机的尾数与指数组合
+            String digits = randomDigits(random, 1 + random.nextInt(24));
+            int point = random.nextInt(digits.length() + 1);
+            String input = (random.nextBoolean() ? "-" : "") + digits.substring(0, point) + "." + digits.substring(point)
+                    + "e" + (random.nextInt(700) - 350);
+            assertSameDouble(input);
+            assertSameFloat(input);
+        }
+    }
+
+    /**
+     * 测试格式判断与JDK是否接受输入的结果一致
+     */
+    @Test
+    public void testIsValid() {
+        String[] inputs = {"NaN", "-Infinity", "+Infinity", "Infinit", "nan", " 1.5 ", "1.5f", "1.5D", "1f5", "0x1p3", "0X1.8P-1d",
+                "0x.8p1", "0x1.8", "0xp1", "0x1p", "1e5", "1.e5", ".5", "\t-2\n"};
+        for (String input : inputs) {
+            assertValid(input);
+        }
+        Random random = new Random(20241101L);
+        String alphabet = "0123456789.eE+-xXpPfFdDaN ";
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            if (random.nextInt(4) == 0) {
+                builder.append("0x");
+            }
+            for (int length = random.nextInt(8); length >= 0; length--) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertValid(builder.toString());
+        }
+    }
+
+    /**
+     * 测试字符序列和字符数组的指定范围
+     */
+    @Test
+    public void testRanges() {
+        StringBuilder builder = new StringBuilder("price=123.456;");
+        assertEquals(123.456, FloatingPointParser.parseDouble(builder, 6, 13), 0.0);
+        assertEquals(123.456f, FloatingPointParser.parseFloat(builder, 6, 13), 0.0f);
+        char[] chars = "x-0.25x".toCharArray();
+        assertEquals(-0.25, FloatingPointParser.parseDouble(chars, 1, 5), 0.0);
+        assertEquals(-0.25f, FloatingPointParser.parseFloat(chars, 1, 5), 0.0f);
+    }
+
+    private static String randomDigits(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        return builder.toString();
+    }
+
+    private static void assertValid(String input) {
+        boolean expected;
+        try {
+            Double.parseDouble(input);
+            expected = true;
+        } catch (NumberFormatException e) {
+            expected = false;
+        }
+        assertEquals(input, expected, FloatingPointParser.isValid(input, 0, input.length()));
+        Double parsed = FloatingPointParser.tryParseDouble(input, 0, input.length());
+        assertEquals(input, expected, parsed != null);
+        if (parsed != null) {
+            assertEquals(input, Double.doubleToRawLongBits(Double.parseDouble(input)), Double.doubleToRawLongBits(parsed));
+            assertEquals(input, Float.floatToRawIntBits(Float.parseFloat(input)), Float.floatToRawIntBits(FloatingPointParser.tryParseFloat(input, 0, input.length())));
+        } else {
+            assertNull(input, FloatingPointParser.tryParseFloat(input, 0, input.length()));
+        }
+    }
+
+    private static void assertSameDouble(String input) {
+        long expected = Double.doubleToRawLongBits(Double.parseDouble(input));
+        long actual = Double.doubleToRawLongBits(FloatingPointParser.parseDouble(input, 0, input.length()));
+        assertEquals(input, expected, actual);
+    }
+
+    private static void assertSameFloat(String input) {
+        int expected = Float.floatToRawIntBits(Float.parseFloat(input));
+        int actual = Float.floatToRawIntBits(FloatingPointParser.parseFloat(input, 0, input.length()));
+        assertEquals(input, expected, actual);
+    }
+}
@@ -0,0 +1,255 @@
+package com.github.zhitron.type_converter.number;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试{@link StringToNumberTypeConverter}的类型推断，以及解析结果与原有的拼接字符串实现一致
+ *
+ * @author zhitron
+ */
+public class StringToNumberTypeConverterTest {
+
+    /**
+     * 测试按数值大小返回最小的类型
+     */
+    @Test
+    public void testSmallestType() throws Throwable {
+        StringToNumberTypeConverter converter = StringToNumberTypeConverter.INSTANCE;
+        assertEquals(42, converter.convertsUnchecked("42"));
+        assertEquals(-2147483648, converter.convertsUnchecked("-2147483648"));
+        assertEquals(2147483648L, converter.convertsUnchecked("2147483648"));
+        assertEquals(Long.MIN_VALUE, converter.convertsUnchecked("-9223372036854775808"));
+        assertEquals(new BigInteger("9223372036854775808"), converter.convertsUnchecked("9223372036854775808"));
+        assertEquals(1234567, converter.convertsUnchecked(" 1,234,567 "));
+        assertEquals(new BigDecimal("1234.50"), converter.convertsUnchecked("1,234.50"));
+        assertEquals(new BigDecimal("5.0"), converter.convertsUnchecked("5."));
+        assertEquals(new BigDecimal("-0.5"), converter.convertsUnchecked("-.5"));
+        assertEquals(new BigDecimal("1.5E+3"), converter.convertsUnchecked("1.5e3"));
+        assertEquals(new BigDecimal("-12345678901234567890.5"), converter.convertsUnchecked("-12345678901234567890.5"));
+        assertEquals(0, converter.convertsUnchecked("-"));
+        assertEquals(7, converter.convertsUnchecked("7e"));
+        assertNull(converter.convertsUnchecked("7e5"));
+        assertNull(converter.convertsUnchecked("7.0e+"));
+        assertNull(converter.convertsUnchecked("1.2.3"));
+        assertNull(converter.convertsUnchecked("abc"));
+        assertNull(converter.convertsUnchecked("1.0e99999999999"));
+        // 非ASCII数字
+        assertEquals(42, converter.convertsUnchecked("٤٢"));
+        assertNull(converter.convertsUnchecked("𝟙"));
+        assertEquals(12, CharSequenceToNumberTypeConverter.INSTANCE.convertsUnchecked(new StringBuilder(" 12 ")));
+    }
+
+    /**
+     * 测试全角数字、阿拉伯-印度数字和辅助平面数字的字符映射
+     */
+    @Test
+    public void testCharacterMapping() throws Throwable {
+        StringToNumberTypeConverter converter = new StringToNumberTypeConverter(
+                "０１２３４５６７８９٠١٢٣٤٥٦٧٨٩，．𝟎𝟏𝟐𝟑𝟒𝟓𝟔𝟕𝟖𝟗", "01234567890123456789,.0123456789") {
+        };
+        assertEquals(1234, converter.convertsUnchecked("１，２３４"));
+        assertEquals(new BigDecimal("-3.25"), converter.convertsUnchecked("-٣．٢٥"));
+        assertEquals(2024L * 1_000_000_000L, converter.convertsUnchecked("𝟐𝟎𝟐𝟒000000000"));
+        assertNull(converter.convertsUnchecked("𝟙"));
+        try {
+            new StringToNumberTypeConverter("1𝟏1", "abc") {
+            };
+            fail("Expected IllegalArgumentException for duplicate mapping");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+        try {
+            new StringToNumberTypeConverter("𝟏x𝟏", "abc") {
+            };
+            fail("Expected IllegalArgumentException for duplicate mapping");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 测试CodePointMapping与HashMap的查找结果一致，包括扩容后的辅助平面映射
+     */
+    @Test
+    public void testCodePointMapping() {
+        Random random = new Random(20241018L);
+        StringBuilder source = new StringBuilder(), target = new StringBuilder();
+        Map<Integer, Integer> expected = new HashMap<>();
+        while (expected.size() < 500) {
+            int from = random.nextBoolean() ? random.nextInt(0xD800) : 0x10000 + random.nextInt(0x1000);
+            if (!expected.containsKey(from)) {
+                int to = random.nextInt(0x10FFFF);
+                to = Character.isSurrogate((char) to) && to < 0x10000 ? 'x' : to;
+                expected.put(from, to);
+                source.appendCodePoint(from);
+                target.appendCodePoint(to);
+            }
+        }
+        CodePointMapping mapping = CodePointMapping.of(source, target);
+        for (int codePoint = 0; codePoint < 0x11100; codePoint++) {
+            assertEquals(expected.getOrDefault(codePoint, codePoint).intValue(), mapping.map(codePoint));
+        }
+        assertNull(CodePointMapping.of("", "0"));
+        assertNull(CodePointMapping.of(null, "0"));
+    }
+
+    /**
+     * 测试随机输入的解析结果与原实现一致，包括BigDecimal的精度
+     */
+    @Test
+    public void testSameAsLegacy() throws Throwable {
+        StringToNumberTypeConverter mapped = new StringToNumberTypeConverter("，。", ",.") {
+        };
+        Map<Integer, Integer> mapping = new HashMap<>();
+        mapping.put((int) '，', (int) ',');
+        mapping.put((int) '。', (int) '.');
+        String alphabet = "0123456789000000000,,..eE+--x٣，。";
+        Random random = new Random(20241017L);
+        for (int i = 0; i < 200_000; i++) {
+            int length = 1 + random.nextInt(i % 10 == 0 ? 40 : 12);
+            StringBuilder builder = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String input = (i & 1) == 0 ? builder.toString() : numeral(random);
+            assertEquals(input, legacy(input, new HashMap<>()), StringToNumberTypeConverter.INSTANCE.convertsUnchecked(input));
+            assertEquals(input, legacy(input, mapping), mapped.convertsUnchecked(input));
+        }
+    }
+
+    /**
+     * 生成大多可以解析的数值文本，可能带有符号、千分位分隔符、小数和指数
+     */
+    private static String numeral(Random random) {
+        StringBuilder builder = new StringBuilder();
+        if (random.nextInt(3) == 0) {
+            builder.append(random.nextBoolean() ? '-' : '+');
+        }
+        for (int digits = random.nextInt(22); digits > 0; digits--) {
+            builder.append((char) ('0' + random.nextInt(10)));
+            if (random.nextInt(8) == 0) {
+                builder.append(',');
+            }
+        }
+        if (random.nextBoolean()) {
+            builder.append('.');
+            for (int digits = random.nextInt(22); digits > 0; digits--) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            builder.append(random.nextBoolean() ? 'e' : 'E').append(random.nextBoolean() ? "-" : "");
+            for (int digits = random.nextInt(12); digits > 0; digits--) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+        }
+        return builder.length() == 0 ? "0" : builder.toString();
+    }
+
+    /**
+     * 原有的实现，整数结果按大小缩小为Integer或Long
+     */
+    private static Number legacy(String input, Map<Integer, Integer> characterMapping) {
+        int[] codePoints = input.codePoints().map(cp -> characterMapping.getOrDefault(cp, cp)).toArray();
+        int len = codePoints.length;
+        StringBuilder buffer = new StringBuilder(len + 8);
+        int index = 0;
+        int ch = codePoints[index];
+        if (ch == '+' || ch == '-') {
+            buffer.appendCodePoint(ch);
+            index++;
+            if (index >= len) {
+                return 0;
+            }
+        }
+        boolean hasDigit = false;
+        int dotIndex = -1;
+        for (int i = 0; i < len; i++) {
+            if (codePoints[i] == '.') {
+                dotIndex = i;
+                break;
+            }
+        }
+        while (index < len) {
+            ch = codePoints[index];
+            if (ch == ',') {
+                index++;
+            } else if (ch == '.') {
+                break;
+            } else if (Character.isDigit(ch)) {
+                buffer.appendCodePoint(ch);
+                hasDigit = true;
+                index++;
+            } else {
+                break;
+            }
+        }
+        if (index < len && codePoints[index] == '.') {
+            if (!hasDigit) {
+                buffer.append('0');
+            }
+            buffer.append('.');
+            hasDigit = true;
+            index++;
+            boolean decimalHasDigit = false;
+            while (index < len && Character.isDigit(codePoints[index])) {
+                buffer.appendCodePoint(codePoints[index]);
+                decimalHasDigit = true;
+                index++;
+            }
+            if (!decimalHasDigit) {
+                buffer.append('0');
+            }
+        }
+        if (!hasDigit) {
+            return null;
+        }
+        if (index < len && (codePoints[index] == 'e' || codePoints[index] == 'E')) {
+            buffer.append('E');
+            index++;
+            if (index >= len) {
+                buffer.setLength(buffer.length() - 1);
+            } else {
+                ch = codePoints[index];
+                if (ch == '+' || ch == '-') {
+                    buffer.appendCodePoint(ch);
+                    index++;
+                } else {
+                    buffer.append('+');
+                }
+                int expStart = buffer.length();
+                while (index < len && Character.isDigit(codePoints[index])) {
+                    buffer.appendCodePoint(codePoints[index]);
+                    index++;
+                }
+                if (buffer.length() == expStart) {
+                    buffer.setLength(buffer.length() - 1);
+                }
+            }
+        }
+        if (index != len) {
+            return null;
+        }
+        try {
+            String resultStr = buffer.toString();
+            if (dotIndex >= 0) {
+                return new BigDecimal(resultStr);
+            }
+            BigInteger integer = new BigInteger(resultStr);
+            if (integer.bitLength() < Integer.SIZE) {
+                return integer.intValue();
+            }
+            return integer.bitLength() < Long.SIZE ? (Number) integer.longValue() : integer;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
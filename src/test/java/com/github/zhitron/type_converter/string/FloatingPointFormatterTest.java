@@ -0,0 +1,62 @@
+package com.github.zhitron.type_converter.string;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试{@link FloatingPointFormatter}与原有的BigDecimal实现输出一致
+ *
+ * @author zhitron
+ */
+public class FloatingPointFormatterTest {
+
+    /**
+     * 测试数字到字符串转换器的输出与{@code BigDecimal.valueOf(value).toPlainString()}逐字符一致
+     */
+    @Test
+    public void testSameAsBigDecimal() throws Throwable {
+        double[] values = {
+                0.0, -0.0, 1.0, -1.0, 0.1, 0.001, 0.0001, 0.002, 1e7, 9999999.0, 1.0E23, 2.82879384806159E17,
+                123456789.125, 1e-5, 1.5e-5, Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, 9007199254740993.0, 100.0
+        };
+        for (double value : values) {
+            assertSame(value);
+        }
+        Random random = new Random(20240918L);
+        for (int i = 0; i < 100_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                assertSame(value);
+            }
+            // 常见的较小量级的数值
+            assertSame((random.nextInt(2_000_000) - 1_000_000) / Math.pow(10, random.nextInt(12)));
+            float floatValue = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(floatValue) && !Float.isInfinite(floatValue)) {
+                assertEquals(BigDecimal.valueOf(floatValue).toPlainString(), NumberToStringTypeConverter.INSTANCE.convertsUnchecked(floatValue));
+            }
+        }
+    }
+
+    /**
+     * 测试NaN和无穷大与原实现一样抛出异常
+     */
+    @Test
+    public void testNonFiniteValues() {
+        for (double value : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            try {
+                FloatingPointFormatter.toPlainString(value);
+                fail("Expected NumberFormatException for " + value);
+            } catch (NumberFormatException expected) {
+                // expected
+            }
+        }
+    }
+
+    private static void assertSame(double value) throws Throwable {
+        assertEquals(BigDecimal.valueOf(value).toPlainString(), NumberToStringTypeConverter.INSTANCE.convertsUnchecked(value));
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.zhitron.type_converter.string;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Random;
+
+/**
+ * 比较{@link NumberToStringTypeConverter}与原有的{@code BigDecimal.valueOf(value).toPlainString()}实现的耗时和内存分配
+ * <p>
+ * 不属于单元测试，直接运行main方法，例如：
+ * {@code mvn test-compile && java -cp target/classes:target/test-classes com.github.zhitron.type_converter.string.NumberToStringBenchmark}
+ * </p>
+ *
+ * @author zhitron
+ */
+public class NumberToStringBenchmark {
+    private static final int VALUE_COUNT = 1 << 16;
+    private static final int ROUNDS = 30;
+    /**
+     * 保存各轮的校验和，避免循环被即时编译器消除
+     */
+    private static volatile long sink;
+
+    public static void main(String[] args) throws Throwable {
+        double[] values = new double[VALUE_COUNT];
+        Random random = new Random(42);
+        for (int i = 0; i < values.length; i++) {
+            // 一半为常见的指标数值，一半为任意位模式
+            double value = (i & 1) == 0
+                    ? random.nextInt(100_000_000) / Math.pow(10, random.nextInt(8))
+                    : Double.longBitsToDouble(random.nextLong());
+            values[i] = Double.isNaN(value) || Double.isInfinite(value) ? i : value;
+        }
+        for (double value : values) {
+            if (!BigDecimal.valueOf(value).toPlainString().equals(NumberToStringTypeConverter.INSTANCE.convertsUnchecked(value))) {
+                throw new AssertionError("Output differs for " + value);
+            }
+        }
+        // 每种实现使用独立的循环方法，避免共用的调用点影响即时编译的结果；耗时取各轮中的最小值以减少垃圾回收的干扰
+        long[] best = {Long.MAX_VALUE, Long.MAX_VALUE};
+        long[] allocated = new long[2];
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int mode = 0; mode < best.length; mode++) {
+                long allocatedBefore = allocatedBytes();
+                long start = System.nanoTime();
+                if (mode == 0) {
+                    sink += runBigDecimal(values);
+                } else {
+                    sink += runConverter(values);
+                }
+                best[mode] = Math.min(best[mode], System.nanoTime() - start);
+                allocated[mode] = allocatedBytes() - allocatedBefore;
+            }
+        }
+        String[] names = {"BigDecimal.toPlainString", "NumberToStringTypeConverter"};
+        for (int mode = 0; mode < names.length; mode++) {
+            System.out.printf("%-30s %8.1f ns/op %8.1f bytes/op%n",
+                    names[mode], (double) best[mode] / values.length, (double) allocated[mode] / values.length);
+        }
+        System.out.println("Checksum: " + sink);
+    }
+
+    private static long runBigDecimal(double[] values) {
+        long checksum = 0;
+        for (double value : values) {
+            checksum += BigDecimal.valueOf(value).toPlainString().length();
+        }
+        return checksum;
+    }
+
+    private static long runConverter(double[] values) throws Throwable {
+        long checksum = 0;
+        for (double value : values) {
+            checksum += NumberToStringTypeConverter.INSTANCE.convertsUnchecked(value).length();
+        }
+        return checksum;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverterManager;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试ResultSet到列式表的转换
+ *
+ * @author zhitron
+ */
+public class ColumnarTableTest {
+    private static final String[] COLUMNS = {"id", "amount", "ratio", "active", "name", "price", "other"};
+    private static final int[] TYPES = {Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.BOOLEAN, Types.VARCHAR, Types.DECIMAL, Types.OTHER};
+
+    /**
+     * 测试各种列类型的存储方式和null位图，超过初始容量的行数也能正确扩容
+     */
+    @Test
+    public void testColumnTypes() {
+        int rowCount = 1000;
+        Object[][] data = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            data[i] = new Object[]{
+                    i % 7 == 0 ? null : i,
+                    i % 11 == 0 ? null : (long) i << 33,
+                    i % 13 == 0 ? null : i / 4.0,
+                    i % 17 == 0 ? null : i % 2 == 0,
+                    i % 19 == 0 ? null : "name" + i,
+                    i % 23 == 0 ? null : BigDecimal.valueOf(i, 2),
+                    i % 29 == 0 ? null : 'x'
+            };
+        }
+        FakeResultSet fake = new FakeResultSet(COLUMNS, TYPES, data);
+        ColumnarTable table = TypeConverterManager.DEFAULT.converts(fake.resultSet(), ColumnarTable.class, null);
+        assertEquals(rowCount, table.getRowCount());
+        assertEquals(COLUMNS.length, table.getColumnCount());
+        assertEquals(ColumnarTable.ColumnType.INT, table.getColumnType(0));
+        assertEquals(ColumnarTable.ColumnType.LONG, table.getColumnType(1));
+        assertEquals(ColumnarTable.ColumnType.DOUBLE, table.getColumnType(2));
+        assertEquals(ColumnarTable.ColumnType.BOOLEAN, table.getColumnType(3));
+        assertEquals(ColumnarTable.ColumnType.STRING, table.getColumnType(4));
+        assertEquals(ColumnarTable.ColumnType.DECIMAL, table.getColumnType(5));
+        assertEquals(ColumnarTable.ColumnType.OBJECT, table.getColumnType(6));
+        assertEquals(rowCount, table.getIntColumn(0).length);
+        assertEquals(rowCount, table.getObjectColumn(4).length);
+        assertEquals(2, table.indexOf("RATIO"));
+        assertEquals("ratio", table.getColumnName(2));
+
+        // 按行读取的结果与二维数组转换一致
+        Object[][] rows = TypeConverterManager.DEFAULT.converts(new FakeResultSet(COLUMNS, TYPES, data).resultSet(), Object[][].class, null);
+        assertArrayEquals(rows, table.toRows());
+        for (int i = 0; i < rowCount; i++) {
+            for (int j = 0; j < COLUMNS.length; j++) {
+                assertEquals(data[i][j] == null, table.isNull(i, j));
+            }
+            assertEquals(i % 7 == 0 ? 0 : i, table.getInt(i, 0));
+            assertEquals(i % 11 == 0 ? 0 : (long) i << 33, table.getLong(i, 1));
+            assertEquals(i % 13 == 0 ? 0 : i / 4.0, table.getDouble(i, 2), 0.0);
+            assertEquals(i % 17 != 0 && i % 2 == 0, table.getBoolean(i, 3));
+        }
+        assertNotNull(table.getNullBitmap(0));
+        // 对象列同样记录null位图
+        for (int j = 4; j < COLUMNS.length; j++) {
+            long[] nulls = table.getNullBitmap(j);
+            assertNotNull(nulls);
+            for (int i = 0; i < rowCount; i++) {
+                assertEquals(data[i][j] == null, (nulls[i >>> 6] & 1L << i) != 0);
+            }
+        }
+    }
+
+    /**
+     * 测试可为null的VARCHAR列的null位图，分块读取时每块重新记录
+     */
+    @Test
+    public void testNullableVarcharBitmap() {
+        Object[][] data = {{"a"}, {null}, {"c"}, {null}, {"e"}};
+        FakeResultSet fake = new FakeResultSet(new String[]{"name"}, new int[]{Types.VARCHAR}, data);
+        ColumnarTable table = TypeConverterManager.DEFAULT.converts(fake.resultSet(), ColumnarTable.class, null);
+        assertEquals(ColumnarTable.ColumnType.STRING, table.getColumnType(0));
+        assertEquals(0b01010L, table.getNullBitmap(0)[0]);
+        assertTrue(table.isNull(1, 0));
+        assertFalse(table.isNull(2, 0));
+
+        FakeResultSet noNulls = new FakeResultSet(new String[]{"name"}, new int[]{Types.VARCHAR}, new Object[][]{{"a"}, {"b"}});
+        assertNull(TypeConverterManager.DEFAULT.converts(noNulls.resultSet(), ColumnarTable.class, null).getNullBitmap(0));
+
+        List<Long> bitmaps = new ArrayList<>();
+        new ResultSetRows(new FakeResultSet(new String[]{"name"}, new int[]{Types.VARCHAR}, data).resultSet())
+                .forEachColumnarChunk(2, chunk -> {
+                    long[] nulls = chunk.getNullBitmap(0);
+                    bitmaps.add(nulls == null ? 0L : nulls[0]);
+                });
+        assertEquals(Arrays.asList(0b10L, 0b10L, 0L), bitmaps);
+    }
+
+    /**
+     * 测试没有null的列不分配位图，类型不符时抛出异常
+     */
+    @Test
+    public void testNoNullsAndTypeMismatch() {
+        FakeResultSet fake = new FakeResultSet(new String[]{"n"}, new int[]{Types.SMALLINT}, new Object[][]{{1}, {2}});
+        ColumnarTable table = TypeConverterManager.DEFAULT.converts(fake.resultSet(), ColumnarTable.class, null);
+        assertNull(table.getNullBitmap(0));
+        assertArrayEquals(new int[]{1, 2}, table.getIntColumn(0));
+        assertEquals(2.0, table.getDouble(1, 0), 0.0);
+        try {
+            table.getLongColumn(0);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        try {
+            table.getInt(2, 0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.zhitron.type_converter.table;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+
+/**
+ * 基于内存数据的ResultSet，只实现转换器用到的方法
+ *
+ * @author zhitron
+ */
+final class FakeResultSet {
+    /**
+     * 列名
+     */
+    private final String[] columnNames;
+    /**
+     * 列的SQL类型
+     */
+    private final int[] columnTypes;
+    /**
+     * 行数据
+     */
+    private final Object[][] rows;
+    /**
+     * 当前行的下标，-1表示第一行之前
+     */
+    private int cursor = -1;
+    /**
+     * 最近读取的列值是否为null
+     */
+    private boolean wasNull;
+    /**
+     * 是否已关闭
+     */
+    boolean closed;
+    /**
+     * 调用next()的次数
+     */
+    int nextCalls;
+    /**
+     * 设置的抓取大小
+     */
+    int fetchSize;
+    /**
+     * 是否模拟不支持设置抓取大小的驱动
+     */
+    boolean fetchSizeUnsupported;
+
+    FakeResultSet(String[] columnNames, int[] columnTypes, Object[][] rows) {
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.rows = rows;
+    }
+
+    FakeResultSet(String[] columnNames, Object[][] rows) {
+        this(columnNames, defaultTypes(columnNames.length), rows);
+    }
+
+    private static int[] defaultTypes(int columnCount) {
+        int[] types = new int[columnCount];
+        java.util.Arrays.fill(types, Types.OTHER);
+        return types;
+    }
+
+    /**
+     * 以列中第一个非null值的类型作为列值的类名，全部为null时为Object
+     *
+     * @param column 列下标
+     * @return 类名
+     */
+    private String columnClassName(int column) {
+        for (Object[] row : rows) {
+            if (row[column] != null) {
+                return row[column].getClass().getName();
+            }
+        }
+        return Object.class.getName();
+    }
+
+    /**
+     * 创建ResultSet代理
+     *
+     * @return ResultSet对象
+     */
+    ResultSet resultSet() {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getColumnCount":
+                    return columnNames.length;
+                case "getColumnName":
+                case "getColumnLabel":
+                    return columnNames[(Integer) args[0] - 1];
+                case "getColumnType":
+                    return columnTypes[(Integer) args[0] - 1];
+                case "getColumnClassName":
+                    return columnClassName((Integer) args[0] - 1);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getMetaData":
+                    return metaData;
+                case "next":
+                    if (closed) {
+                        throw new SQLException("ResultSet is closed");
+                    }
+                    nextCalls++;
+                    return ++cursor < rows.length;
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "setFetchSize":
+                    if (fetchSizeUnsupported) {
+                        throw new SQLFeatureNotSupportedException("setFetchSize");
+                    }
+                    fetchSize = (Integer) args[0];
+                    return null;
+                case "getFetchSize":
+                    return fetchSize;
+                case "wasNull":
+                    return wasNull;
+                case "getObject":
+                    return value(args[0]);
+                case "getString": {
+                    Object value = value(args[0]);
+                    return value == null ? null : value.toString();
+                }
+                case "getInt": {
+                    Object value = value(args[0]);
+                    return value == null ? 0 : ((Number) value).intValue();
+                }
+                case "getLong": {
+                    Object value = value(args[0]);
+                    return value == null ? 0L : ((Number) value).longValue();
+                }
+                case "getDouble": {
+                    Object value = value(args[0]);
+                    return value == null ? 0.0 : ((Number) value).doubleValue();
+                }
+                case "getBoolean": {
+                    Object value = value(args[0]);
+                    return value != null && (Boolean) value;
+                }
+                case "getBigDecimal": {
+                    Object value = value(args[0]);
+                    return value == null || value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+                }
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private Object value(Object column) throws SQLException {
+        if (closed) {
+            throw new SQLException("ResultSet is closed");
+        }
+        int index;
+        if (column instanceof Integer) {
+            index = (Integer) column - 1;
+        } else {
+            index = -1;
+            for (int i = 0; i < columnNames.length; i++) {
+                if (columnNames[i].equalsIgnoreCase((String) column)) {
+                    index = i;
+                }
+            }
+        }
+        if (cursor < 0 || cursor >= rows.length || index < 0 || index >= columnNames.length) {
+            throw new SQLException("Invalid cursor or column: " + column);
+        }
+        Object value = rows[cursor][index];
+        wasNull = value == null;
+        return value;
+    }
+}
@@ -0,0 +1,213 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverterManager;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试逐行读取ResultSet的迭代器、流和回调
+ *
+ * @author zhitron
+ */
+public class ResultSetRowsTest {
+    private static final String[] COLUMNS = {"id", "name"};
+    private static final Object[][] ROWS = {{1, "a"}, {2, null}, {3, "c"}};
+
+    /**
+     * 测试迭代器逐行读取，读取完毕后关闭结果集
+     */
+    @Test
+    public void testIterator() {
+        FakeResultSet fake = new FakeResultSet(COLUMNS, ROWS);
+        Iterator<?> iterator = TypeConverterManager.DEFAULT.converts(fake.resultSet(), Iterator.class, null);
+        assertNotNull(iterator);
+        assertTrue(iterator.hasNext());
+        assertArrayEquals(ROWS[0], (Object[]) iterator.next());
+        // 只读取了第一行
+        assertEquals(1, fake.nextCalls);
+        assertArrayEquals(ROWS[1], (Object[]) iterator.next());
+        assertArrayEquals(ROWS[2], (Object[]) iterator.next());
+        assertFalse(fake.closed);
+        assertFalse(iterator.hasNext());
+        assertTrue(fake.closed);
+        assertFalse(iterator.hasNext());
+        try {
+            iterator.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 测试流的元素与二维数组转换结果一致，关闭流时关闭结果集
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStream() {
+        Object[][] table = TypeConverterManager.DEFAULT.converts(new FakeResultSet(COLUMNS, ROWS).resultSet(), Object[][].class, null);
+        FakeResultSet fake = new FakeResultSet(COLUMNS, ROWS);
+        try (Stream<Object[]> stream = TypeConverterManager.DEFAULT.converts(fake.resultSet(), Stream.class, null)) {
+            assertArrayEquals(table, stream.toArray(Object[][]::new));
+        }
+        assertTrue(fake.closed);
+
+        // 提前结束时由关闭流关闭结果集
+        FakeResultSet partial = new FakeResultSet(COLUMNS, ROWS);
+        try (Stream<Object[]> stream = TypeConverterManager.DEFAULT.converts(partial.resultSet(), Stream.class, null)) {
+            assertEquals(1, stream.limit(1).collect(Collectors.toList()).size());
+        }
+        assertTrue(partial.closed);
+    }
+
+    /**
+     * 测试行回调重复使用同一个数组
+     */
+    @Test
+    public void testForEachRow() {
+        FakeResultSet fake = new FakeResultSet(COLUMNS, ROWS);
+        ResultSetRows rows = TypeConverterManager.DEFAULT.converts(fake.resultSet(), ResultSetRows.class, null);
+        assertEquals(2, rows.getColumnCount());
+        List<Object[]> copies = new ArrayList<>();
+        List<Object[]> arrays = new ArrayList<>();
+        rows.forEachRow(row -> {
+            copies.add(row.clone());
+            arrays.add(row);
+        });
+        assertArrayEquals(ROWS, copies.toArray());
+        assertSame(arrays.get(0), arrays.get(2));
+        assertTrue(fake.closed);
+
+        // 关闭后不再返回任何行
+        FakeResultSet closed = new FakeResultSet(COLUMNS, ROWS);
+        ResultSetRows closedRows = new ResultSetRows(closed.resultSet());
+        closedRows.close();
+        closedRows.close();
+        assertTrue(closed.closed);
+        assertFalse(closedRows.hasNext());
+    }
+
+    /**
+     * 测试按行分块处理，设置获取行数并复用块数组
+     */
+    @Test
+    public void testForEachChunk() {
+        Object[][] data = {{1, "a"}, {2, "b"}, {3, "c"}, {4, "d"}, {5, "e"}};
+        FakeResultSet fake = new FakeResultSet(COLUMNS, data);
+        ResultSetRows rows = TypeConverterManager.DEFAULT.converts(fake.resultSet(), ResultSetRows.class, null);
+        List<Object[][]> chunks = new ArrayList<>();
+        List<Object> ids = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        rows.forEachChunk(2, (chunk, rowCount) -> {
+            chunks.add(chunk);
+            sizes.add(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                ids.add(chunk[i][0]);
+            }
+        });
+        assertEquals(2, fake.fetchSize);
+        assertEquals(Arrays.asList(2, 2, 1), sizes);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), ids);
+        assertSame(chunks.get(0), chunks.get(2));
+        assertTrue(fake.closed);
+
+        try {
+            rows.forEachChunk(0, (chunk, rowCount) -> fail());
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 测试按列分块处理，每块的行数和null位图与块内的行对应
+     */
+    @Test
+    public void testForEachColumnarChunk() {
+        String[] columns = {"id", "score"};
+        int[] types = {Types.INTEGER, Types.DOUBLE};
+        Object[][] data = {{1, 1.5}, {2, null}, {3, 3.5}};
+        FakeResultSet fake = new FakeResultSet(columns, types, data);
+        List<String> chunks = new ArrayList<>();
+        new ResultSetRows(fake.resultSet()).forEachColumnarChunk(2, table -> {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < table.getRowCount(); i++) {
+                builder.append(table.getInt(i, 0)).append(table.isNull(i, 1) ? "=null" : "=" + table.getDouble(i, 1)).append(';');
+            }
+            chunks.add(builder.toString());
+        });
+        assertEquals(2, fake.fetchSize);
+        assertEquals(Arrays.asList("1=1.5;2=null;", "3=3.5;"), chunks);
+        assertTrue(fake.closed);
+    }
+
+    /**
+     * 测试回调抛出异常时关闭结果集
+     */
+    @Test
+    public void testCallbackFailureClosesResultSet() {
+        IllegalStateException failure = new IllegalStateException("callback");
+        FakeResultSet rowFake = new FakeResultSet(COLUMNS, ROWS);
+        try {
+            new ResultSetRows(rowFake.resultSet()).forEachRow(row -> {
+                throw failure;
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+        assertTrue(rowFake.closed);
+
+        FakeResultSet chunkFake = new FakeResultSet(COLUMNS, ROWS);
+        try {
+            new ResultSetRows(chunkFake.resultSet()).forEachChunk(2, (chunk, rowCount) -> {
+                throw failure;
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+        assertTrue(chunkFake.closed);
+
+        FakeResultSet columnarFake = new FakeResultSet(new String[]{"id"}, new int[]{Types.INTEGER}, new Object[][]{{1}, {2}});
+        try {
+            new ResultSetRows(columnarFake.resultSet()).forEachColumnarChunk(1, table -> {
+                throw failure;
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+        assertTrue(columnarFake.closed);
+    }
+
+    /**
+     * 测试驱动不支持设置获取行数时仍然按块读取
+     */
+    @Test
+    public void testChunksWithoutFetchSizeSupport() {
+        Object[][] data = {{1, "a"}, {2, "b"}, {3, "c"}};
+        FakeResultSet fake = new FakeResultSet(COLUMNS, data);
+        fake.fetchSizeUnsupported = true;
+        List<Integer> sizes = new ArrayList<>();
+        new ResultSetRows(fake.resultSet()).forEachChunk(2, (chunk, rowCount) -> sizes.add(rowCount));
+        assertEquals(Arrays.asList(2, 1), sizes);
+        assertTrue(fake.closed);
+
+        FakeResultSet columnarFake = new FakeResultSet(new String[]{"id"}, new int[]{Types.INTEGER}, new Object[][]{{1}, {2}, {3}});
+        columnarFake.fetchSizeUnsupported = true;
+        List<Integer> rowCounts = new ArrayList<>();
+        new ResultSetRows(columnarFake.resultSet()).forEachColumnarChunk(2, table -> rowCounts.add(table.getRowCount()));
+        assertEquals(Arrays.asList(2, 1), rowCounts);
+    }
+}
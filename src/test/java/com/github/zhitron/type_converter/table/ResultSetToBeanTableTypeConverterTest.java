@@ -0,0 +1,177 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.TypeConverterManager;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.sql.Types;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试ResultSet的每一行直接映射为对象
+ *
+ * @author zhitron
+ */
+public class ResultSetToBeanTableTypeConverterTest {
+
+    /**
+     * 测试通过setter映射，列名忽略大小写和下划线，类型不同的列通过管理器转换
+     */
+    @Test
+    public void testSetterMapping() throws Exception {
+        ResultSetToBeanTableTypeConverter<User> converter = ResultSetToBeanTableTypeConverter.of(User.class);
+        TypeConverterManager manager = TypeConverterManager.of(TypeConverterManager.DEFAULT).register(converter);
+        String[] columns = {"ID", "user_name", "score", "active", "ignored"};
+        int[] types = {Types.INTEGER, Types.VARCHAR, Types.DECIMAL, Types.BOOLEAN, Types.VARCHAR};
+        Object[][] data = {{1, "alice", new BigDecimal("9.5"), true, "x"}, {2, null, null, null, "y"}};
+
+        User[] users = manager.converts(new FakeResultSet(columns, types, data).resultSet(), User[].class, null);
+        assertEquals(2, users.length);
+        assertEquals(1L, users[0].id);
+        assertEquals("alice", users[0].userName);
+        assertEquals(Double.valueOf(9.5), users[0].score);
+        assertTrue(users[0].active);
+        assertEquals(2L, users[1].id);
+        assertNull(users[1].userName);
+        assertNull(users[1].score);
+        // 基本类型遇到null时保持默认值
+        assertFalse(users[1].active);
+
+        // 同样的列结构复用已编译的映射计划，不同的列结构重新编译
+        manager.converts(new FakeResultSet(columns, types, data).resultSet(), User[].class, null);
+        assertEquals(1, converter.cachedMapperCount());
+        User[] idOnly = manager.converts(new FakeResultSet(new String[]{"id"}, new int[]{Types.BIGINT}, new Object[][]{{3L}}).resultSet(), User[].class, null);
+        assertEquals(3L, idOnly[0].id);
+        assertEquals(2, converter.cachedMapperCount());
+
+        // 同一目标类型的其他转换器实例共享映射计划
+        ResultSetToBeanTableTypeConverter<User> another = ResultSetToBeanTableTypeConverter.of(User.class);
+        assertEquals(2, another.cachedMapperCount());
+        FakeResultSet fake = new FakeResultSet(columns, types, data);
+        assertSame(converter.mapperOf(fake.resultSet().getMetaData()), another.mapperOf(fake.resultSet().getMetaData()));
+    }
+
+    /**
+     * 测试每个目标类型和管理器缓存的列结构有上限，缓存不会阻止管理器被回收
+     */
+    @Test
+    public void testMapperCacheBounds() throws Throwable {
+        ResultSetToBeanTableTypeConverter<User> converter = ResultSetToBeanTableTypeConverter.of(User.class, TypeConverterManager.of(TypeConverterManager.DEFAULT));
+        for (int i = 0; i < ResultSetToBeanTableTypeConverter.MAX_CACHED_MAPPERS + 10; i++) {
+            User[] users = converter.convertsUnchecked(new FakeResultSet(new String[]{"id", "alias" + i}, new Object[][]{{(long) i, "x"}}).resultSet());
+            assertEquals(i, users[0].id);
+        }
+        assertEquals(ResultSetToBeanTableTypeConverter.MAX_CACHED_MAPPERS, converter.cachedMapperCount());
+
+        WeakReference<TypeConverterManager> managerReference = convertWithTemporaryManager();
+        for (int i = 0; i < 100 && managerReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("The mapper cache should not keep the manager reachable", managerReference.get());
+    }
+
+    private static WeakReference<TypeConverterManager> convertWithTemporaryManager() throws Throwable {
+        TypeConverterManager manager = TypeConverterManager.of(TypeConverterManager.DEFAULT);
+        ResultSetToBeanTableTypeConverter<User> converter = ResultSetToBeanTableTypeConverter.of(User.class, manager);
+        // 列值需要经过管理器转换，映射计划缓存了转换句柄
+        User[] users = converter.convertsUnchecked(new FakeResultSet(new String[]{"id", "score"}, new Object[][]{{"7", "1.5"}}).resultSet());
+        assertEquals(7L, users[0].id);
+        assertEquals(Double.valueOf(1.5), users[0].score);
+        return new WeakReference<>(manager);
+    }
+
+    /**
+     * 测试没有无参构造函数时按位置匹配构造函数参数
+     */
+    @Test
+    public void testConstructorMapping() throws Throwable {
+        ResultSetToBeanTableTypeConverter<Point> converter = ResultSetToBeanTableTypeConverter.of(Point.class);
+        Object[][] data = {{"1", 2L}, {null, 4}};
+        Point[] points = converter.convertsUnchecked(new FakeResultSet(new String[]{"x", "y"}, data).resultSet());
+        assertEquals(2, points.length);
+        assertEquals(1, points[0].x);
+        assertEquals(2, points[0].y);
+        assertEquals(0, points[1].x);
+        assertEquals(4, points[1].y);
+
+        // 列数与构造函数参数个数不同时无法映射
+        try {
+            converter.convertsUnchecked(new FakeResultSet(new String[]{"x"}, new Object[][]{{1}}).resultSet());
+            fail("Expected TypeConverterException");
+        } catch (TypeConverterException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * 测试重载的setter优先选择参数类型与列的JDBC类型相同的，否则按参数类型的名称选择
+     */
+    @Test
+    public void testOverloadedSetters() throws Throwable {
+        ResultSetToBeanTableTypeConverter<Overloaded> converter = ResultSetToBeanTableTypeConverter.of(Overloaded.class);
+        Overloaded[] longs = converter.convertsUnchecked(new FakeResultSet(new String[]{"value"}, new Object[][]{{5L}}).resultSet());
+        assertEquals(Long.class, longs[0].setterType);
+        Overloaded[] strings = converter.convertsUnchecked(new FakeResultSet(new String[]{"value"}, new Object[][]{{"6"}}).resultSet());
+        assertEquals(String.class, strings[0].setterType);
+        Overloaded[] decimals = converter.convertsUnchecked(new FakeResultSet(new String[]{"value"}, new Object[][]{{new BigDecimal("7")}}).resultSet());
+        assertEquals(int.class, decimals[0].setterType);
+        assertEquals(7L, decimals[0].value);
+    }
+
+    public static class Overloaded {
+        private long value;
+        private Class<?> setterType;
+
+        public void setValue(String value) {
+            this.value = Long.parseLong(value);
+            this.setterType = String.class;
+        }
+
+        public void setValue(Long value) {
+            this.value = value;
+            this.setterType = Long.class;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+            this.setterType = int.class;
+        }
+    }
+
+    public static class User {
+        private long id;
+        private String userName;
+        private Double score;
+        private boolean active;
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public void setUserName(String userName) {
+            this.userName = userName;
+        }
+
+        public void setScore(Double score) {
+            this.score = score;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    public static class Point {
+        private final int x;
+        private final int y;
+
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
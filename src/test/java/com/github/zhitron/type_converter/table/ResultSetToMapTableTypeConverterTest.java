@@ -0,0 +1,76 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverterManager;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试ResultSet到Map数组的转换，行视图与逐行构建的HashMap等价
+ *
+ * @author zhitron
+ */
+public class ResultSetToMapTableTypeConverterTest {
+
+    /**
+     * 测试按列索引、列名和列标签读取，名称不区分大小写
+     */
+    @Test
+    public void testLookups() {
+        Object[][] data = {{1, "Alice", null}, {2, "Bob", 3.5}};
+        FakeResultSet fake = new FakeResultSet(new String[]{"ID", "Name", "score"}, data);
+        Map[] rows = TypeConverterManager.DEFAULT.converts(fake.resultSet(), Map[].class, null);
+        assertEquals(2, rows.length);
+        for (int i = 0; i < data.length; i++) {
+            Map<?, ?> row = rows[i];
+            assertEquals(data[i][0], row.get(1));
+            assertEquals(data[i][0], row.get("id"));
+            assertEquals(data[i][0], row.get("ID"));
+            assertEquals(data[i][1], row.get("name"));
+            assertEquals(data[i][1], row.get("NaMe"));
+            assertEquals(data[i][2], row.get(3));
+            assertNull(row.get(0));
+            assertNull(row.get(4));
+            assertNull(row.get("missing"));
+            assertTrue(row.containsKey("score"));
+            assertFalse(row.containsKey(1L));
+            assertEquals(6, row.size());
+            assertEquals(expectedRow(new String[]{"id", "name", "score"}, data[i]), row);
+            assertEquals(expectedRow(new String[]{"id", "name", "score"}, data[i]).hashCode(), row.hashCode());
+        }
+    }
+
+    /**
+     * 测试修改、添加和移除键，修改后只影响该键
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPut() {
+        FakeResultSet fake = new FakeResultSet(new String[]{"id"}, new Object[][]{{1}});
+        Map<Object, Object> row = TypeConverterManager.DEFAULT.converts(fake.resultSet(), Map[].class, null)[0];
+        assertEquals(1, row.put("ID", 7));
+        assertEquals(7, row.get("id"));
+        assertEquals(1, row.get(1));
+        assertNull(row.put("other", 2));
+        assertEquals(2, row.get("other"));
+        assertEquals(1, row.remove(1));
+        assertFalse(row.containsKey(1));
+        assertEquals(7, row.get("Id"));
+        Map<Object, Object> expected = new HashMap<>();
+        expected.put("id", 7);
+        expected.put("other", 2);
+        assertEquals(expected, row);
+    }
+
+    private static Map<Object, Object> expectedRow(String[] names, Object[] values) {
+        Map<Object, Object> row = new HashMap<>();
+        for (int j = 0; j < names.length; j++) {
+            row.put(j + 1, values[j]);
+            row.put(names[j], values[j]);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.zhitron.type_converter.table;
+
+import com.github.zhitron.type_converter.TypeConverterException;
+import com.github.zhitron.type_converter.TypeConverterManager;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 测试按列转换类型的ResultSet转换
+ *
+ * @author zhitron
+ */
+public class ResultSetToTypedTableTypeConverterTest {
+    private static final String[] COLUMNS = {"ID", "amount", "code", "note"};
+    private static final int[] TYPES = {Types.DECIMAL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+    private static final Object[][] DATA = {
+            {new BigDecimal("1"), "12.50", "7", "a"},
+            {new BigDecimal("2"), null, "x", "b"},
+    };
+
+    /**
+     * 测试通过选择器转换为二维数组，列可以按名称或索引指定，未指定的列保持原值
+     */
+    @Test
+    public void testConvertsWithSelector() {
+        Map<Object, Class<?>> columnTypes = new HashMap<>();
+        columnTypes.put("id", long.class);
+        columnTypes.put("AMOUNT", BigDecimal.class);
+        columnTypes.put(3, Integer.class);
+        TypeConverterManager manager = TypeConverterManager.of(TypeConverterManager.DEFAULT)
+                .register(ResultSetToTypedTableTypeConverter.of("orders", columnTypes));
+
+        Object[][] rows = manager.converts(new FakeResultSet(COLUMNS, TYPES, DATA).resultSet(), Object[][].class, null, "orders");
+        assertEquals(2, rows.length);
+        assertArrayEquals(new Object[]{1L, new BigDecimal("12.50"), 7, "a"}, rows[0]);
+        // null保持为null，转换失败的单元格为null
+        assertArrayEquals(new Object[]{2L, null, null, "b"}, rows[1]);
+
+        // 不指定选择器时仍使用不转换类型的转换器
+        Object[][] raw = manager.converts(new FakeResultSet(COLUMNS, TYPES, DATA).resultSet(), Object[][].class, null);
+        assertEquals(new BigDecimal("1"), raw[0][0]);
+        assertEquals("7", raw[0][2]);
+    }
+
+    /**
+     * 测试逐行读取转换后的结果，列值的实际类型与元数据不一致时按实际类型重新解析
+     */
+    @Test
+    public void testRows() {
+        Map<Object, Class<?>> columnTypes = new HashMap<>();
+        columnTypes.put("value", Integer.class);
+        ResultSetToTypedTableTypeConverter converter = ResultSetToTypedTableTypeConverter.of("values", columnTypes);
+        Object[][] data = {{"1"}, {2L}, {new BigDecimal("3")}, {null}};
+        FakeResultSet fake = new FakeResultSet(new String[]{"value"}, data);
+        List<Object> values = new ArrayList<>();
+        try (ResultSetRows rows = converter.rows(fake.resultSet())) {
+            rows.forEachRow(row -> values.add(row[0]));
+        }
+        assertEquals(4, values.size());
+        assertEquals(1, values.get(0));
+        assertEquals(2, values.get(1));
+        assertEquals(3, values.get(2));
+        assertNull(values.get(3));
+        assertTrue(fake.closed);
+    }
+
+    /**
+     * 测试映射中的列不存在时抛出异常
+     */
+    @Test
+    public void testMissingColumn() throws Throwable {
+        Map<Object, Class<?>> columnTypes = new HashMap<>();
+        columnTypes.put("missing", Long.class);
+        ResultSetToTypedTableTypeConverter converter = ResultSetToTypedTableTypeConverter.of("missing", columnTypes);
+        try {
+            converter.convertsUnchecked(new FakeResultSet(COLUMNS, TYPES, DATA).resultSet());
+            fail("Expected TypeConverterException");
+        } catch (TypeConverterException expected) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.zhitron.type_converter.when;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * 与{@link Instant#parse(CharSequence)}和{@link LocalDateTime#parse(CharSequence)}比较{@link IsoDateTimeParser}的解析结果
+ *
+ * @author zhitron
+ */
+public class IsoDateTimeParserTest {
+
+    /**
+     * 测试边界值和需要交由JDK处理的形式
+     */
+    @Test
+    public void testEdgeCases() {
+        String[] inputs = {
+                "1970-01-01T00:00:00Z", "1969-12-31T23:59:59.999999999Z", "0000-01-01T00:00:00Z", "9999-12-31T23:59:59Z",
+                "2000-02-29T12:00:00Z", "1900-02-28T12:00:00Z", "2024-05-01t12:30:45.1z", "2024-05-01T12:30:45.Z",
+                "2024-05-01T12:30:45+08:00", "+12024-05-01T12:30:45Z", "-0001-05-01T12:30:45Z", "2016-12-31T23:59:60Z",
+                "2024-05-01T12:30Z", "2024-05-01T12:30", "2024-05-01T12:30:45", "2024-05-01T12:30:45.123456789",
+                "2024-05-01T12:30:45.1234567891", "2024-05-01 12:30:45", "2024-5-01T12:30:45", "2024-05-01T24:00:00",
+                "2023-02-29T12:00:00Z", "2024-13-01T12:00:00", "2024-04-31T12:00:00", "2024-05-01T12:60:00", "2024-05-01T12:30:4Z",
+                "2024-05-01T12:30:45.Z", "２024-05-01T12:30:45Z", "2024-05-01T12:30:45ZZ", "2024-05-01T-1:30:45"
+        };
+        for (String input : inputs) {
+            assertSameInstant(input);
+            assertSameLocalDateTime(input);
+        }
+    }
+
+    /**
+     * 随机生成日期时间进行比较
+     */
+    @Test
+    public void testRandomInputs() {
+        Random random = new Random(20240920L);
+        for (int i = 0; i < 50_000; i++) {
+            String date = String.format("%04d-%02d-%02dT%02d:%02d", random.nextInt(10_000), 1 + random.nextInt(13), 1 + random.nextInt(31),
+                    random.nextInt(25), random.nextInt(61));
+            String seconds = String.format(":%02d", random.nextInt(61));
+            int fractionDigits = random.nextInt(11);
+            StringBuilder fraction = new StringBuilder(fractionDigits > 0 ? "." : "");
+            for (int j = 0; j < fractionDigits - 1; j++) {
+                fraction.append((char) ('0' + random.nextInt(10)));
+            }
+            assertSameLocalDateTime(date);
+            assertSameLocalDateTime(date + seconds + fraction);
+            assertSameInstant(date + seconds + fraction + "Z");
+        }
+    }
+
+    /**
+     * 测试字符序列的指定范围
+     */
+    @Test
+    public void testRanges() {
+        StringBuilder builder = new StringBuilder("[2024-05-01T12:30:45.5Z]");
+        assertEquals(Instant.parse("2024-05-01T12:30:45.5Z"), IsoDateTimeParser.parseInstant(builder, 1, builder.length() - 1));
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30, 45, 500_000_000), IsoDateTimeParser.parseLocalDateTime(builder, 1, builder.length() - 2));
+    }
+
+    private static void assertSameInstant(String input) {
+        Object expected;
+        try {
+            expected = Instant.parse(input);
+        } catch (DateTimeException e) {
+            expected = DateTimeException.class;
+        }
+        Object actual;
+        try {
+            actual = IsoDateTimeParser.parseInstant(input, 0, input.length());
+        } catch (DateTimeException e) {
+            actual = DateTimeException.class;
+        }
+        assertEquals(input, expected, actual);
+    }
+
+    private static void assertSameLocalDateTime(String input) {
+        Object expected;
+        try {
+            expected = LocalDateTime.parse(input);
+        } catch (DateTimeException e) {
+            expected = DateTimeException.class;
+        }
+        Object actual;
+        try {
+            actual = IsoDateTimeParser.parseLocalDateTime(input, 0, input.length());
+        } catch (DateTimeException e) {
+            actual = DateTimeException.class;
+        }
+        assertEquals(input, expected, actual);
+    }
+}